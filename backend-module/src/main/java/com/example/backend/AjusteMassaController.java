@@ -0,0 +1,58 @@
+package com.example.backend;
+
+import com.example.backend.dto.AjusteMassaRequestDTO;
+import com.example.backend.dto.AjusteMassaResponseDTO;
+import com.example.backend.service.AjusteMassaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * Controller REST para ajustes em massa de benefícios (crédito percentual e desativação por filtro)
+ */
+@RestController
+@RequestMapping("/api/v1/ajustes")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@Tag(name = "Ajustes em massa", description = "API para ajustes em lote executados em segundo plano")
+public class AjusteMassaController {
+
+    private final AjusteMassaService ajusteService;
+
+    public AjusteMassaController(AjusteMassaService ajusteService) {
+        this.ajusteService = ajusteService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Criar ajuste em massa",
+            description = "CREDITO_PERCENTUAL (percentual) ou DESATIVACAO dos benefícios ativos com valor entre " +
+                    "valorMin e valorMax; responde 202 e executa em lotes, acompanhando por /api/v1/ajustes/{id}")
+    public ResponseEntity<AjusteMassaResponseDTO> criar(@Valid @RequestBody AjusteMassaRequestDTO dto) {
+        AjusteMassaResponseDTO ajuste = ajusteService.criar(dto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/ajustes/" + ajuste.getId()))
+                .body(ajuste);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Progresso de ajuste em massa",
+            description = "Status, cursor (ultimoId até idFinal), progresso, benefícios afetados e lotes confirmados")
+    public ResponseEntity<AjusteMassaResponseDTO> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(ajusteService.buscar(id));
+    }
+
+    @PostMapping("/{id}/cancelar")
+    @Operation(summary = "Cancelar ajuste em massa", description = "Lotes já confirmados permanecem aplicados")
+    public ResponseEntity<AjusteMassaResponseDTO> cancelar(@PathVariable Long id) {
+        return ResponseEntity.ok(ajusteService.cancelar(id));
+    }
+
+    @PostMapping("/{id}/retomar")
+    @Operation(summary = "Retomar ajuste em massa que falhou", description = "Continua do último lote confirmado")
+    public ResponseEntity<AjusteMassaResponseDTO> retomar(@PathVariable Long id) {
+        return ResponseEntity.ok(ajusteService.retomar(id));
+    }
+}
@@ -1,17 +1,49 @@
 package com.example.backend;
 
+import com.example.backend.busca.BuscaBeneficioService;
+import com.example.backend.dto.BeneficioConsultaDTO;
+import com.example.backend.dto.BeneficioIdsRequestDTO;
+import com.example.backend.dto.BeneficioLoteResponseDTO;
+import com.example.backend.dto.BeneficioPatchDTO;
 import com.example.backend.dto.BeneficioRequestDTO;
 import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.CampoBeneficio;
+import com.example.backend.dto.EstatisticasResponseDTO;
+import com.example.backend.dto.ExtratoResponseDTO;
+import com.example.backend.dto.ImportacaoResponseDTO;
+import com.example.backend.dto.MudancasResponseDTO;
+import com.example.backend.dto.PaginaResponseDTO;
+import com.example.backend.dto.TransferenciaLoteRequestDTO;
+import com.example.backend.dto.TransferenciaLoteResponseDTO;
 import com.example.backend.dto.TransferenciaRequestDTO;
+import com.example.backend.dto.TransferenciaStatusDTO;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.notificacao.EventosBeneficioService;
+import com.example.backend.service.BeneficioExportacaoService;
+import com.example.backend.service.BeneficioImportacaoService;
 import com.example.backend.service.BeneficioService;
+import com.example.backend.service.EstatisticasService;
+import com.example.backend.service.FormatoExportacao;
+import com.example.backend.service.SincronizacaoService;
+import com.example.backend.service.TransferenciaAssincronaService;
+import com.example.backend.service.TransferenciaService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controller REST para operações CRUD de Beneficio
@@ -23,42 +55,216 @@ import java.util.List;
 public class BeneficioController {
 
     private final BeneficioService service;
+    private final TransferenciaService transferenciaService;
+    private final TransferenciaAssincronaService assincronaService;
+    private final BeneficioExportacaoService exportacaoService;
+    private final BeneficioImportacaoService importacaoService;
+    private final BuscaBeneficioService buscaService;
+    private final EstatisticasService estatisticasService;
+    private final SincronizacaoService sincronizacaoService;
+    private final EventosBeneficioService eventosService;
 
-    public BeneficioController(BeneficioService service) {
+    public BeneficioController(BeneficioService service,
+                               TransferenciaService transferenciaService,
+                               TransferenciaAssincronaService assincronaService,
+                               BeneficioExportacaoService exportacaoService,
+                               BeneficioImportacaoService importacaoService,
+                               BuscaBeneficioService buscaService,
+                               EstatisticasService estatisticasService,
+                               SincronizacaoService sincronizacaoService,
+                               EventosBeneficioService eventosService) {
         this.service = service;
+        this.transferenciaService = transferenciaService;
+        this.assincronaService = assincronaService;
+        this.exportacaoService = exportacaoService;
+        this.importacaoService = importacaoService;
+        this.buscaService = buscaService;
+        this.estatisticasService = estatisticasService;
+        this.sincronizacaoService = sincronizacaoService;
+        this.eventosService = eventosService;
     }
 
     @GetMapping
-    @Operation(summary = "Listar todos os benefícios", description = "Retorna lista de todos os benefícios cadastrados")
-    public ResponseEntity<List<BeneficioResponseDTO>> findAll() {
-        return ResponseEntity.ok(service.findAll());
+    @Operation(summary = "Listar todos os benefícios",
+            description = "Retorna lista de todos os benefícios cadastrados; fields=id,nome,valor limita as colunas lidas e enviadas")
+    public ResponseEntity<?> findAll(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<CampoBeneficio> campos = CampoBeneficio.de(fields);
+        String etag = representacao(service.versaoColecao(false).etag(), accept, campos);
+        if (Etags.corresponde(ifNoneMatch, etag)) {
+            return naoModificado(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(listar(false, campos, accept));
+    }
+
+    @GetMapping("/pagina")
+    @Operation(summary = "Listar benefícios paginados",
+            description = "Paginação por cursor (limit, after), ordenação por id, nome ou valor (sort=campo,direcao) " +
+                    "e filtros por ativo, valorMin e valorMax")
+    public ResponseEntity<PaginaResponseDTO<?>> listar(
+            @Valid BeneficioConsultaDTO consulta,
+            @RequestParam(required = false) String fields) {
+        Set<CampoBeneficio> campos = CampoBeneficio.de(fields);
+        // Sem ETag: a versão da coleção exigiria varrer a tabela, e a página só lê pelo índice do cursor
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT)
+                .body(campos == null ? service.listar(consulta) : service.listar(consulta, campos));
+    }
+
+    @PostMapping("/consulta")
+    @Operation(summary = "Buscar vários benefícios por ID",
+            description = "Até 1000 IDs numa chamada; resultado na ordem pedida e IDs inexistentes em naoEncontrados")
+    public ResponseEntity<BeneficioLoteResponseDTO> consultar(@Valid @RequestBody BeneficioIdsRequestDTO dto) {
+        return ResponseEntity.ok(service.findAllById(dto.getIds()));
+    }
+
+    @GetMapping("/busca")
+    @Operation(summary = "Buscar benefícios por nome ou descrição",
+            description = "Trecho do texto sem diferenciar maiúsculas nem acentos, mais relevantes primeiro")
+    public ResponseEntity<List<BeneficioResponseDTO>> buscar(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limite) {
+        return ResponseEntity.ok(buscaService.buscar(q, limite));
+    }
+
+    @GetMapping("/estatisticas")
+    @Operation(summary = "Estatísticas dos benefícios",
+            description = "Quantidades, total, mínimo, máximo, média e histograma de valores, mantidos em memória")
+    public ResponseEntity<EstatisticasResponseDTO> estatisticas() {
+        return ResponseEntity.ok(estatisticasService.obter());
+    }
+
+    @GetMapping("/mudancas")
+    @Operation(summary = "Benefícios alterados desde um cursor",
+            description = "Sincronização incremental, incluindo desativados; sem desde devolve tudo. " +
+                    "Repassar o cursor da resposta em ?desde= na próxima consulta")
+    public ResponseEntity<MudancasResponseDTO> mudancas(
+            @RequestParam(required = false) String desde,
+            @RequestParam(defaultValue = "500") int limite) {
+        return ResponseEntity.ok(sincronizacaoService.mudancas(desde, limite));
+    }
+
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream de alterações (SSE)",
+            description = "Eventos criado, atualizado, desativado e transferencia após o commit; " +
+                    "Last-Event-ID retoma do histórico recente ou recebe reinicio (ressincronizar por /mudancas)")
+    public SseEmitter eventos(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long ultimoEventoId) {
+        return eventosService.assinar(ultimoEventoId);
+    }
+
+    @GetMapping("/exportar")
+    @Operation(summary = "Exportar benefícios em streaming",
+            description = "NDJSON (padrão) ou CSV, escrito linha a linha a partir de um cursor do banco")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(defaultValue = "ndjson") String formato,
+            @RequestParam(required = false) Boolean ativo) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        StreamingResponseBody corpo = saida -> exportacaoService.exportar(formatoExportacao, ativo, saida);
+        return ResponseEntity.ok()
+                .contentType(formatoExportacao.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"beneficios." + formatoExportacao.getExtensao() + "\"")
+                .body(corpo);
+    }
+
+    @PostMapping("/importacao")
+    @Operation(summary = "Importar benefícios em lote",
+            description = "Corpo NDJSON (padrão) ou CSV com cabeçalho (nome, valor, descricao, ativo), lido em streaming; " +
+                    "linhas válidas gravadas em lotes com commit próprio e erros informados por linha")
+    public ResponseEntity<ImportacaoResponseDTO> importar(
+            @RequestParam(defaultValue = "ndjson") String formato,
+            InputStream corpo) throws IOException {
+        return ResponseEntity.ok(importacaoService.importar(FormatoExportacao.de(formato), corpo));
     }
 
     @GetMapping("/ativos")
     @Operation(summary = "Listar benefícios ativos", description = "Retorna apenas benefícios com status ativo")
-    public ResponseEntity<List<BeneficioResponseDTO>> findAllAtivos() {
-        return ResponseEntity.ok(service.findAllAtivos());
+    public ResponseEntity<?> findAllAtivos(
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<CampoBeneficio> campos = CampoBeneficio.de(fields);
+        String etag = representacao(service.versaoColecao(true).etag(), accept, campos);
+        if (Etags.corresponde(ifNoneMatch, etag)) {
+            return naoModificado(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(listar(true, campos, accept));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar benefício por ID", description = "Retorna um benefício específico pelo ID")
-    public ResponseEntity<BeneficioResponseDTO> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.findById(id));
+    @Operation(summary = "Buscar benefício por ID",
+            description = "Retorna um benefício específico pelo ID, com ETag da versão; If-None-Match responde 304")
+    public ResponseEntity<?> findById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<CampoBeneficio> campos = CampoBeneficio.de(fields);
+        // Decisão do 304 só com a versão: sem carregar nem serializar o benefício
+        String etag = representacao(Etags.deVersao(service.versao(id)), accept, campos);
+        if (Etags.corresponde(ifNoneMatch, etag)) {
+            return naoModificado(etag);
+        }
+        BeneficioResponseDTO beneficio = service.findById(id);
+        return ResponseEntity.ok().eTag(representacao(Etags.deVersao(beneficio.getVersion()), accept, campos))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(campos == null ? beneficio : CampoBeneficio.projetar(beneficio, campos));
+    }
+
+    @GetMapping("/{id}/extrato")
+    @Operation(summary = "Extrato de transferências",
+            description = "Movimentos do benefício, mais recentes primeiro, paginados por cursor (proximoCursor)")
+    public ResponseEntity<ExtratoResponseDTO> extrato(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limite) {
+        return ResponseEntity.ok(service.extrato(id, cursor, limite));
     }
 
     @PostMapping
     @Operation(summary = "Criar novo benefício", description = "Cria um novo benefício no sistema")
-    public ResponseEntity<BeneficioResponseDTO> create(@Valid @RequestBody BeneficioRequestDTO dto) {
+    public ResponseEntity<BeneficioResponseDTO> create(
+            @Valid @RequestBody BeneficioRequestDTO dto,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         BeneficioResponseDTO created = service.create(dto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(representacao(Etags.deVersao(created.getVersion()), accept, null))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(created);
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar benefício", description = "Atualiza dados de um benefício existente")
+    @Operation(summary = "Atualizar benefício",
+            description = "Atualiza dados de um benefício existente; a versão esperada pode vir em If-Match " +
+                    "ou no campo version (412 se divergir da atual)")
     public ResponseEntity<BeneficioResponseDTO> update(
             @PathVariable Long id,
-            @Valid @RequestBody BeneficioRequestDTO dto) {
-        return ResponseEntity.ok(service.update(id, dto));
+            @Valid @RequestBody BeneficioRequestDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        dto.setVersion(versaoEsperada(dto.getVersion(), ifMatch));
+        BeneficioResponseDTO updated = service.update(id, dto);
+        return ResponseEntity.ok().eTag(representacao(Etags.deVersao(updated.getVersion()), accept, null))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(updated);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Atualizar parte de um benefício",
+            description = "JSON Merge Patch com só as propriedades alteradas (nome, descricao, valor, ativo); " +
+                    "versão esperada obrigatória em If-Match ou version (412 se divergir)")
+    public ResponseEntity<BeneficioResponseDTO> patch(
+            @PathVariable Long id,
+            @RequestBody JsonNode corpo,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        BeneficioPatchDTO patch = BeneficioPatchDTO.de(corpo);
+        BeneficioResponseDTO updated = service.patch(id, patch.comVersion(versaoEsperada(patch.getVersion(), ifMatch)));
+        return ResponseEntity.ok().eTag(representacao(Etags.deVersao(updated.getVersion()), accept, null))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -70,9 +276,73 @@ public class BeneficioController {
 
     @PostMapping("/transferir")
     @Operation(summary = "Transferir valor entre benefícios",
-            description = "Realiza transferência de valor entre dois benefícios com validações")
-    public ResponseEntity<Void> transferir(@Valid @RequestBody TransferenciaRequestDTO dto) {
-        service.transferir(dto);
-        return ResponseEntity.ok().build();
+            description = "Realiza transferência de valor entre dois benefícios com validações. " +
+                    "Com o header Idempotency-Key, repetições da mesma chave devolvem a resposta original")
+    public ResponseEntity<Void> transferir(
+            @Valid @RequestBody TransferenciaRequestDTO dto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        boolean repetida = transferenciaService.transferir(dto, idempotencyKey);
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok().build();
+        }
+        return ResponseEntity.ok().header("Idempotent-Replayed", String.valueOf(repetida)).build();
+    }
+
+    @PostMapping("/transferir/async")
+    @Operation(summary = "Transferir valor de forma assíncrona",
+            description = "Aceita a transferência e responde 202 com o ID; o status fica em /api/v1/transferencias/{id}")
+    public ResponseEntity<TransferenciaStatusDTO> transferirAsync(
+            @Valid @RequestBody TransferenciaRequestDTO dto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        TransferenciaStatusDTO status = assincronaService.submeter(dto, idempotencyKey);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/transferencias/" + status.getId()))
+                .body(status);
+    }
+
+    @PostMapping("/transferir/lote")
+    @Operation(summary = "Transferir valores em lote",
+            description = "Processa várias transferências numa única transação, com resultado por item")
+    public ResponseEntity<TransferenciaLoteResponseDTO> transferirLote(
+            @Valid @RequestBody TransferenciaLoteRequestDTO dto) {
+        return ResponseEntity.ok(transferenciaService.transferirLote(dto));
+    }
+
+    /**
+     * Corpo das listagens: só os campos pedidos, JSON pré-serializado ou DTOs para CBOR/Smile
+     */
+    private Object listar(boolean somenteAtivos, Set<CampoBeneficio> campos, String accept) {
+        if (campos != null) {
+            return service.findAll(campos, somenteAtivos);
+        }
+        if (Negociacao.prefereJson(accept)) {
+            return service.findAllJson(somenteAtivos);
+        }
+        return somenteAtivos ? service.findAllAtivos() : service.findAll();
+    }
+
+    private static <T> ResponseEntity<T> naoModificado(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    /**
+     * ETag do corpo que será enviado: estado, formato negociado pelo Accept e campos pedidos
+     */
+    private static String representacao(String etag, String accept, Set<CampoBeneficio> campos) {
+        return Etags.daRepresentacao(etag, Negociacao.formato(accept), campos);
+    }
+
+    /**
+     * Versão esperada de uma escrita: If-Match ou version do corpo, que devem concordar se ambos vierem
+     */
+    private static Long versaoEsperada(Long versaoDoCorpo, String ifMatch) {
+        Long versaoIfMatch = Etags.versaoDoIfMatch(ifMatch);
+        if (versaoIfMatch == null) {
+            return versaoDoCorpo;
+        }
+        if (versaoDoCorpo != null && !versaoDoCorpo.equals(versaoIfMatch)) {
+            throw new BusinessException("If-Match e version do corpo indicam versões diferentes");
+        }
+        return versaoIfMatch;
     }
 }
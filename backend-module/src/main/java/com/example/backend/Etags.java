@@ -0,0 +1,88 @@
+package com.example.backend;
+
+import com.example.backend.dto.CampoBeneficio;
+import com.example.backend.exception.BusinessException;
+import org.springframework.http.MediaType;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ETags fortes derivados de @Version e leitura dos headers If-None-Match e If-Match
+ *
+ * Um ETag forte identifica os bytes do corpo, então formato negociado e seleção de campos entram
+ * nele: "3" é o JSON completo da versão 3, "3;cbor" o CBOR e "3;id,nome" só esses campos. As
+ * respostas levam Vary: Accept para que caches intermediários separem os formatos.
+ */
+final class Etags {
+
+    private static final String IF_MATCH_INVALIDO = "If-Match deve conter um único ETag forte do benefício, ex.: \"3\"";
+
+    private Etags() {
+    }
+
+    static String deVersao(Long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    /**
+     * ETag de uma representação do estado identificado por etag (JSON completo mantém o ETag original)
+     */
+    static String daRepresentacao(String etag, MediaType formato, Set<CampoBeneficio> campos) {
+        StringBuilder sufixo = new StringBuilder();
+        if (!MediaType.APPLICATION_JSON.equals(formato)) {
+            sufixo.append(';').append(formato.getSubtype().replace("x-jackson-", ""));
+        }
+        if (campos != null) {
+            // EnumSet: campos sempre na ordem de declaração, qualquer que seja a ordem em fields=
+            sufixo.append(';').append(campos.stream().map(CampoBeneficio::getPropriedade).collect(Collectors.joining(",")));
+        }
+        if (sufixo.isEmpty()) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + sufixo + "\"";
+    }
+
+    /**
+     * Se o If-None-Match contém o ETag atual (comparação fraca, como manda a RFC 9110 para GET)
+     */
+    static boolean corresponde(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.equals("*")) {
+                return true;
+            }
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Versão exigida por um If-Match de benefício, ou null se ausente ou "*"
+     * Aceita o ETag de qualquer representação: a versão é o trecho antes do primeiro ';'.
+     */
+    static Long versaoDoIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.length() < 3 || !valor.startsWith("\"") || !valor.endsWith("\"")) {
+            throw new BusinessException(IF_MATCH_INVALIDO);
+        }
+        String versao = valor.substring(1, valor.length() - 1);
+        int fim = versao.indexOf(';');
+        try {
+            return Long.parseLong(fim >= 0 ? versao.substring(0, fim) : versao);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(IF_MATCH_INVALIDO);
+        }
+    }
+}
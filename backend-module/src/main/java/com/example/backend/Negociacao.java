@@ -0,0 +1,74 @@
+package com.example.backend;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Escolha entre JSON e os formatos binários a partir do header Accept
+ * Usada pelas listagens que têm um caminho próprio para JSON pré-serializado e pelos ETags,
+ * que diferem por formato.
+ */
+final class Negociacao {
+
+    private static final List<MediaType> PRODUZIVEIS = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaType.parseMediaType("application/cbor"),
+            MediaType.parseMediaType("application/x-jackson-smile"));
+
+    private Negociacao() {
+    }
+
+    /**
+     * Se a resposta sairá em JSON
+     */
+    static boolean prefereJson(String accept) {
+        return MediaType.APPLICATION_JSON.equals(formato(accept));
+    }
+
+    /**
+     * Formato em que a resposta sairá: maior qualidade vence, depois a faixa mais específica; empate fica com JSON
+     */
+    static MediaType formato(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> aceitos;
+        try {
+            aceitos = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType escolhido = null;
+        double melhor = 0;
+        for (MediaType produzivel : PRODUZIVEIS) {
+            double pontuacao = pontuacao(produzivel, aceitos);
+            if (pontuacao > melhor) {
+                melhor = pontuacao;
+                escolhido = produzivel;
+            }
+        }
+        return escolhido != null ? escolhido : MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Qualidade da faixa mais específica do Accept que inclui o tipo, com a especificidade como desempate
+     */
+    private static double pontuacao(MediaType tipo, List<MediaType> aceitos) {
+        double pontuacao = 0;
+        int especificidadeMaxima = -1;
+        for (MediaType aceito : aceitos) {
+            if (!aceito.includes(tipo)) {
+                continue;
+            }
+            int especificidade = aceito.isWildcardType() ? 0 : aceito.isWildcardSubtype() ? 1 : 2;
+            if (especificidade > especificidadeMaxima) {
+                especificidadeMaxima = especificidade;
+                double qualidade = aceito.getQualityValue();
+                pontuacao = qualidade == 0 ? 0 : qualidade + especificidade / 10.0;
+            }
+        }
+        return pontuacao;
+    }
+}
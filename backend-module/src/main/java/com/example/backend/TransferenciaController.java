@@ -0,0 +1,31 @@
+package com.example.backend;
+
+import com.example.backend.dto.TransferenciaStatusDTO;
+import com.example.backend.service.TransferenciaAssincronaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller REST para consulta de transferências assíncronas
+ */
+@RestController
+@RequestMapping("/api/v1/transferencias")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@Tag(name = "Transferências", description = "API para acompanhamento de transferências assíncronas")
+public class TransferenciaController {
+
+    private final TransferenciaAssincronaService assincronaService;
+
+    public TransferenciaController(TransferenciaAssincronaService assincronaService) {
+        this.assincronaService = assincronaService;
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Status de transferência assíncrona",
+            description = "Retorna PENDENTE, EM_EXECUCAO, CONCLUIDA ou FALHOU (com a mensagem do erro)")
+    public ResponseEntity<TransferenciaStatusDTO> findById(@PathVariable String id) {
+        return ResponseEntity.ok(assincronaService.buscar(id));
+    }
+}
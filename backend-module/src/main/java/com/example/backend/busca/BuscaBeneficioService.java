@@ -0,0 +1,93 @@
+package com.example.backend.busca;
+
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.service.BeneficioCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Busca de benefícios por trecho do nome ou da descrição (GET /api/v1/beneficios/busca)
+ *
+ * O índice de trigramas é montado na inicialização a partir do banco e atualizado a cada
+ * criação ou alteração confirmada (BeneficioAlteradoEvent, AFTER_COMMIT). A busca no índice
+ * devolve os IDs ordenados por relevância; os DTOs vêm do cache de benefícios, e os ausentes
+ * são carregados numa única consulta IN.
+ */
+@Service
+public class BuscaBeneficioService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuscaBeneficioService.class);
+
+    static final int LIMITE_MAXIMO = 100;
+
+    private final BeneficioRepository repository;
+    private final BeneficioCache cache;
+    private final IndiceTrigramas indice = new IndiceTrigramas();
+
+    public BuscaBeneficioService(BeneficioRepository repository, BeneficioCache cache) {
+        this.repository = repository;
+        this.cache = cache;
+    }
+
+    /**
+     * Monta o índice com todos os benefícios do banco
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexarTodos() {
+        long inicio = System.nanoTime();
+        indice.recriar(() -> repository.findAllResponse().forEach(this::indexar));
+        logger.info("Índice de busca montado: Beneficios={} Tempo={}ms",
+                indice.tamanho(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBeneficioAlterado(BeneficioAlteradoEvent evento) {
+        BeneficioResponseDTO beneficio = evento.getBeneficio();
+        if (beneficio != null && beneficio.getId() != null) {
+            indexar(beneficio);
+        }
+    }
+
+    /**
+     * Benefícios cujo nome ou descrição contém o termo, sem diferenciar maiúsculas nem acentos
+     */
+    public List<BeneficioResponseDTO> buscar(String termo, int limite) {
+        if (termo == null || termo.isBlank()) {
+            throw new BusinessException("Informe o termo da busca");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BusinessException(
+                    String.format("Limite da busca deve estar entre 1 e %d", LIMITE_MAXIMO));
+        }
+
+        List<Long> ids = indice.buscar(termo, limite);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BeneficioResponseDTO> beneficios = cache.buscarTodos(ids, ausentes ->
+                repository.findAllResponseByIdIn(ausentes).stream()
+                        .collect(Collectors.toMap(BeneficioResponseDTO::getId, Function.identity())));
+        return ids.stream()
+                .map(beneficios::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private void indexar(BeneficioResponseDTO beneficio) {
+        indice.indexar(beneficio.getId(), beneficio.getNome(), beneficio.getDescricao());
+    }
+}
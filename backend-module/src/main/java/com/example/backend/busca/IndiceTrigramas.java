@@ -0,0 +1,196 @@
+package com.example.backend.busca;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido de trigramas em memória para busca por substring em nome e descrição
+ *
+ * Os textos são normalizados (sem acentos, minúsculos, espaços colapsados) e cada campo é
+ * indexado com um espaço de cada lado, de modo que termos de 1 ou 2 caracteres também gerem
+ * trigramas. Uma consulta com 3 ou mais caracteres intersecta as listas dos seus trigramas,
+ * começando pela menor; consultas curtas unem as listas dos trigramas que as contêm. Os
+ * candidatos são confirmados com contains sobre o texto normalizado, então não há falsos positivos.
+ *
+ * Leituras concorrentes; escritas (indexar, remover, recriar) exclusivas.
+ */
+public class IndiceTrigramas {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    /**
+     * Ordem do resultado: relevância, nome mais curto e ID
+     */
+    private static final Comparator<Resultado> ORDEM = Comparator
+            .comparingInt(Resultado::relevancia)
+            .thenComparingInt(Resultado::tamanhoNome)
+            .thenComparingLong(Resultado::id);
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Documento> documentos = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexa ou reindexa um documento
+     */
+    public void indexar(long id, String nome, String descricao) {
+        Documento novo = new Documento(normalizar(nome), normalizar(descricao));
+        lock.writeLock().lock();
+        try {
+            Documento anterior = documentos.put(id, novo);
+            if (anterior != null) {
+                for (String trigrama : anterior.trigramas()) {
+                    Set<Long> ids = postings.get(trigrama);
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(trigrama);
+                    }
+                }
+            }
+            for (String trigrama : novo.trigramas()) {
+                postings.computeIfAbsent(trigrama, t -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Executa a carga dentro do bloqueio de escrita: escritas concorrentes esperam e são aplicadas depois
+     */
+    public void recriar(Runnable carga) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentos.clear();
+            carga.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * IDs cujo nome ou descrição contém a consulta, dos mais relevantes para os menos
+     * Relevância: nome igual, nome começa com, palavra do nome começa com, nome contém, descrição contém.
+     */
+    public List<Long> buscar(String consulta, int limite) {
+        String termo = normalizar(consulta);
+        if (termo.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Resultado> resultados = new ArrayList<>();
+            for (Long id : candidatos(termo)) {
+                Documento documento = documentos.get(id);
+                int relevancia = documento.relevancia(termo);
+                if (relevancia >= 0) {
+                    resultados.add(new Resultado(id, relevancia, documento.nome().length()));
+                }
+            }
+            resultados.sort(ORDEM);
+            return resultados.stream().limit(limite).map(Resultado::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Long> candidatos(String termo) {
+        if (termo.length() < 3) {
+            Set<Long> uniao = new HashSet<>();
+            postings.forEach((trigrama, ids) -> {
+                if (trigrama.contains(termo)) {
+                    uniao.addAll(ids);
+                }
+            });
+            return uniao;
+        }
+
+        List<Set<Long>> listas = new ArrayList<>();
+        for (String trigrama : trigramas(termo, false)) {
+            Set<Long> ids = postings.get(trigrama);
+            if (ids == null) {
+                return List.of();
+            }
+            listas.add(ids);
+        }
+        listas.sort(Comparator.comparingInt(Set::size));
+        List<Long> intersecao = new ArrayList<>();
+        for (Long id : listas.get(0)) {
+            boolean emTodas = true;
+            for (int i = 1; i < listas.size() && emTodas; i++) {
+                emTodas = listas.get(i).contains(id);
+            }
+            if (emTodas) {
+                intersecao.add(id);
+            }
+        }
+        return intersecao;
+    }
+
+    /**
+     * Texto sem acentos, em minúsculas e com espaços colapsados
+     */
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACOS.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static Set<String> trigramas(String texto, boolean bordas) {
+        Set<String> trigramas = new HashSet<>();
+        if (texto.isEmpty()) {
+            return trigramas;
+        }
+        String base = bordas ? " " + texto + " " : texto;
+        for (int i = 0; i + 3 <= base.length(); i++) {
+            trigramas.add(base.substring(i, i + 3));
+        }
+        return trigramas;
+    }
+
+    private record Documento(String nome, String descricao) {
+
+        Set<String> trigramas() {
+            Set<String> trigramas = IndiceTrigramas.trigramas(nome, true);
+            trigramas.addAll(IndiceTrigramas.trigramas(descricao, true));
+            return trigramas;
+        }
+
+        int relevancia(String termo) {
+            int posicao = nome.indexOf(termo);
+            if (posicao >= 0) {
+                if (posicao == 0) {
+                    return nome.length() == termo.length() ? 0 : 1;
+                }
+                return nome.contains(" " + termo) ? 2 : 3;
+            }
+            return descricao.contains(termo) ? 4 : -1;
+        }
+    }
+
+    private record Resultado(long id, int relevancia, int tamanhoNome) {
+    }
+}
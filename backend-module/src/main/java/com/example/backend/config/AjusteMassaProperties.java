@@ -0,0 +1,52 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configurações dos ajustes em massa (prefixo beneficios.ajustes)
+ */
+@ConfigurationProperties(prefix = "beneficios.ajustes")
+public class AjusteMassaProperties {
+
+    /**
+     * Benefícios alterados por transação (um UPDATE por lote)
+     */
+    private int tamanhoLote = 500;
+
+    /**
+     * Fração do tempo que o job pode passar dentro de transações; a pausa após cada lote é
+     * proporcional à duração do lote, abrindo espaço para as transferências online
+     */
+    private double cargaMaxima = 0.25;
+
+    /**
+     * Pausa mínima entre lotes, mesmo com lotes muito rápidos
+     */
+    private Duration pausaMinima = Duration.ofMillis(20);
+
+    public int getTamanhoLote() {
+        return tamanhoLote;
+    }
+
+    public void setTamanhoLote(int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public double getCargaMaxima() {
+        return cargaMaxima;
+    }
+
+    public void setCargaMaxima(double cargaMaxima) {
+        this.cargaMaxima = cargaMaxima;
+    }
+
+    public Duration getPausaMinima() {
+        return pausaMinima;
+    }
+
+    public void setPausaMinima(Duration pausaMinima) {
+        this.pausaMinima = pausaMinima;
+    }
+}
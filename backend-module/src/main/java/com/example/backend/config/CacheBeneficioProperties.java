@@ -0,0 +1,78 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configurações do cache de leitura de benefícios por ID (prefixo beneficios.cache)
+ */
+@ConfigurationProperties(prefix = "beneficios.cache")
+public class CacheBeneficioProperties {
+
+    /**
+     * Liga o cache na frente de BeneficioService.findById
+     */
+    private boolean habilitado = true;
+
+    /**
+     * Máximo de benefícios mantidos em memória
+     */
+    private long tamanhoMaximo = 10_000;
+
+    /**
+     * Tempo máximo de uma entrada desde a carga; limita a defasagem de escritas feitas fora da aplicação
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Liga o cache do JSON já serializado de cada benefício, usado pelas listagens
+     */
+    private boolean jsonHabilitado = true;
+
+    /**
+     * Soma máxima dos bytes de JSON mantidos em memória
+     */
+    private DataSize jsonTamanhoMaximo = DataSize.ofMegabytes(64);
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public void setHabilitado(boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+
+    public long getTamanhoMaximo() {
+        return tamanhoMaximo;
+    }
+
+    public void setTamanhoMaximo(long tamanhoMaximo) {
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public boolean isJsonHabilitado() {
+        return jsonHabilitado;
+    }
+
+    public void setJsonHabilitado(boolean jsonHabilitado) {
+        this.jsonHabilitado = jsonHabilitado;
+    }
+
+    public DataSize getJsonTamanhoMaximo() {
+        return jsonTamanhoMaximo;
+    }
+
+    public void setJsonTamanhoMaximo(DataSize jsonTamanhoMaximo) {
+        this.jsonTamanhoMaximo = jsonTamanhoMaximo;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configurações das estatísticas agregadas de benefícios (prefixo beneficios.estatisticas)
+ */
+@ConfigurationProperties(prefix = "beneficios.estatisticas")
+public class EstatisticasProperties {
+
+    /**
+     * Intervalo entre recálculos completos a partir do banco (corrige desvios dos deltas)
+     */
+    private Duration intervaloRecalculo = Duration.ofMinutes(5);
+
+    /**
+     * Limites inferiores das faixas do histograma de valores, em ordem crescente;
+     * a última faixa não tem limite superior
+     */
+    private List<BigDecimal> faixas = new ArrayList<>(List.of(
+            new BigDecimal("0"), new BigDecimal("100"), new BigDecimal("500"),
+            new BigDecimal("1000"), new BigDecimal("5000"), new BigDecimal("10000")));
+
+    public Duration getIntervaloRecalculo() {
+        return intervaloRecalculo;
+    }
+
+    public void setIntervaloRecalculo(Duration intervaloRecalculo) {
+        this.intervaloRecalculo = intervaloRecalculo;
+    }
+
+    public List<BigDecimal> getFaixas() {
+        return faixas;
+    }
+
+    public void setFaixas(List<BigDecimal> faixas) {
+        this.faixas = faixas;
+    }
+}
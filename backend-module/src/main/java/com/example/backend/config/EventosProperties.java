@@ -0,0 +1,91 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configurações do stream SSE de alterações de benefícios (prefixo beneficios.eventos)
+ */
+@ConfigurationProperties(prefix = "beneficios.eventos")
+public class EventosProperties {
+
+    /**
+     * Eventos pendentes por assinante; quem acumula mais que isso é desconectado
+     * (reconecta com Last-Event-ID e retoma pelo histórico)
+     */
+    private int capacidadeAssinante = 256;
+
+    /**
+     * Últimos eventos mantidos para retomada por Last-Event-ID
+     */
+    private int tamanhoHistorico = 1024;
+
+    /**
+     * Conexões SSE simultâneas; acima disso responde 503
+     */
+    private int maximoAssinantes = 10_000;
+
+    /**
+     * Threads que escrevem nas conexões; cada assinante é atendido por no máximo uma por vez
+     */
+    private int threadsEnvio = 4;
+
+    /**
+     * Intervalo do comentário de keep-alive, que também detecta conexões fechadas
+     */
+    private Duration heartbeat = Duration.ofSeconds(15);
+
+    /**
+     * Duração máxima de uma conexão; o EventSource do navegador reconecta sozinho
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public int getCapacidadeAssinante() {
+        return capacidadeAssinante;
+    }
+
+    public void setCapacidadeAssinante(int capacidadeAssinante) {
+        this.capacidadeAssinante = capacidadeAssinante;
+    }
+
+    public int getTamanhoHistorico() {
+        return tamanhoHistorico;
+    }
+
+    public void setTamanhoHistorico(int tamanhoHistorico) {
+        this.tamanhoHistorico = tamanhoHistorico;
+    }
+
+    public int getMaximoAssinantes() {
+        return maximoAssinantes;
+    }
+
+    public void setMaximoAssinantes(int maximoAssinantes) {
+        this.maximoAssinantes = maximoAssinantes;
+    }
+
+    public int getThreadsEnvio() {
+        return threadsEnvio;
+    }
+
+    public void setThreadsEnvio(int threadsEnvio) {
+        this.threadsEnvio = threadsEnvio;
+    }
+
+    public Duration getHeartbeat() {
+        return heartbeat;
+    }
+
+    public void setHeartbeat(Duration heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações da exportação em streaming (prefixo beneficios.exportacao)
+ */
+@ConfigurationProperties(prefix = "beneficios.exportacao")
+public class ExportacaoProperties {
+
+    /**
+     * Fetch size do cursor JDBC e intervalo, em linhas, entre limpezas do contexto de persistência
+     * e flushes da resposta
+     */
+    private int tamanhoLote = 500;
+
+    public int getTamanhoLote() {
+        return tamanhoLote;
+    }
+
+    public void setTamanhoLote(int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+}
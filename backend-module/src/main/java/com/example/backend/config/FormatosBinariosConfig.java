@@ -0,0 +1,61 @@
+package com.example.backend.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Conversores CBOR (application/cbor) e Smile (application/x-jackson-smile), escolhidos por
+ * Accept nas respostas e por Content-Type nos corpos de requisição
+ *
+ * Ficam depois do JSON: clientes com Accept genérico continuam recebendo JSON. Os mapeadores
+ * partem da configuração Jackson da aplicação, mas gravam datas como números, não como texto ISO.
+ */
+@Configuration
+public class FormatosBinariosConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+    public FormatosBinariosConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.builders = builders;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        MappingJackson2CborHttpMessageConverter cbor =
+                new MappingJackson2CborHttpMessageConverter(mapeador(new CBORFactory()));
+        MappingJackson2SmileHttpMessageConverter smile =
+                new MappingJackson2SmileHttpMessageConverter(mapeador(new SmileFactory()));
+        substituirOuAdicionar(converters, MappingJackson2CborHttpMessageConverter.class, cbor);
+        substituirOuAdicionar(converters, MappingJackson2SmileHttpMessageConverter.class, smile);
+    }
+
+    private ObjectMapper mapeador(JsonFactory factory) {
+        return builders.getObject()
+                .factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private static void substituirOuAdicionar(List<HttpMessageConverter<?>> converters,
+                                              Class<?> tipo, HttpMessageConverter<?> conversor) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (tipo.isInstance(converters.get(i))) {
+                converters.set(i, conversor);
+                return;
+            }
+        }
+        converters.add(conversor);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configurações do cache de chaves de idempotência (prefixo beneficios.idempotencia)
+ */
+@ConfigurationProperties(prefix = "beneficios.idempotencia")
+public class IdempotenciaProperties {
+
+    /**
+     * Máximo de chaves mantidas em memória
+     */
+    private long tamanhoMaximo = 100_000;
+
+    /**
+     * Tempo que uma chave concluída permanece em memória
+     */
+    private Duration ttl = Duration.ofHours(1);
+
+    public long getTamanhoMaximo() {
+        return tamanhoMaximo;
+    }
+
+    public void setTamanhoMaximo(long tamanhoMaximo) {
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+}
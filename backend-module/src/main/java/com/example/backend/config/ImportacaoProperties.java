@@ -0,0 +1,37 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configurações da importação em lote (prefixo beneficios.importacao)
+ */
+@ConfigurationProperties(prefix = "beneficios.importacao")
+public class ImportacaoProperties {
+
+    /**
+     * Linhas válidas gravadas por transação; cada lote é enviado em batches JDBC
+     * (spring.jpa.properties.hibernate.jdbc.batch_size)
+     */
+    private int tamanhoLote = 1000;
+
+    /**
+     * Máximo de erros detalhados no relatório; os demais são apenas contados
+     */
+    private int maximoErros = 1000;
+
+    public int getTamanhoLote() {
+        return tamanhoLote;
+    }
+
+    public void setTamanhoLote(int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public int getMaximoErros() {
+        return maximoErros;
+    }
+
+    public void setMaximoErros(int maximoErros) {
+        this.maximoErros = maximoErros;
+    }
+}
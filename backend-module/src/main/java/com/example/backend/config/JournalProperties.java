@@ -0,0 +1,104 @@
+package com.example.backend.config;
+
+import com.example.backend.journal.PoliticaFsync;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configurações do journal de movimentações (prefixo beneficios.journal)
+ */
+@ConfigurationProperties(prefix = "beneficios.journal")
+public class JournalProperties {
+
+    /**
+     * Liga a gravação do journal
+     */
+    private boolean habilitado = false;
+
+    /**
+     * Diretório dos segmentos e snapshots
+     */
+    private String diretorio = "data/journal";
+
+    /**
+     * Tamanho de cada segmento mapeado em memória, em bytes
+     */
+    private int tamanhoSegmento = 64 * 1024 * 1024;
+
+    /**
+     * Política de fsync dos registros
+     */
+    private PoliticaFsync fsync = PoliticaFsync.INTERVALO;
+
+    /**
+     * Intervalo de fsync na política INTERVALO
+     */
+    private Duration intervaloFsync = Duration.ofMillis(100);
+
+    /**
+     * Intervalo entre snapshots de saldos
+     */
+    private Duration intervaloSnapshot = Duration.ofMinutes(5);
+
+    /**
+     * Reconstrói os saldos da tabela BENEFICIO a partir do snapshot + journal na inicialização
+     */
+    private boolean replayNaInicializacao = false;
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    public void setHabilitado(boolean habilitado) {
+        this.habilitado = habilitado;
+    }
+
+    public String getDiretorio() {
+        return diretorio;
+    }
+
+    public void setDiretorio(String diretorio) {
+        this.diretorio = diretorio;
+    }
+
+    public int getTamanhoSegmento() {
+        return tamanhoSegmento;
+    }
+
+    public void setTamanhoSegmento(int tamanhoSegmento) {
+        this.tamanhoSegmento = tamanhoSegmento;
+    }
+
+    public PoliticaFsync getFsync() {
+        return fsync;
+    }
+
+    public void setFsync(PoliticaFsync fsync) {
+        this.fsync = fsync;
+    }
+
+    public Duration getIntervaloFsync() {
+        return intervaloFsync;
+    }
+
+    public void setIntervaloFsync(Duration intervaloFsync) {
+        this.intervaloFsync = intervaloFsync;
+    }
+
+    public Duration getIntervaloSnapshot() {
+        return intervaloSnapshot;
+    }
+
+    public void setIntervaloSnapshot(Duration intervaloSnapshot) {
+        this.intervaloSnapshot = intervaloSnapshot;
+    }
+
+    public boolean isReplayNaInicializacao() {
+        return replayNaInicializacao;
+    }
+
+    public void setReplayNaInicializacao(boolean replayNaInicializacao) {
+        this.replayNaInicializacao = replayNaInicializacao;
+    }
+}
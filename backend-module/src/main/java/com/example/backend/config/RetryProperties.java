@@ -0,0 +1,77 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configurações de retry para conflitos de concorrência (prefixo beneficios.retry)
+ */
+@ConfigurationProperties(prefix = "beneficios.retry")
+public class RetryProperties {
+
+    /**
+     * Número máximo de execuções, incluindo a primeira (1 desativa o retry)
+     */
+    private int maxTentativas = 4;
+
+    /**
+     * Espera antes da primeira reexecução
+     */
+    private Duration atrasoInicial = Duration.ofMillis(10);
+
+    /**
+     * Fator de crescimento exponencial da espera
+     */
+    private double multiplicador = 2.0;
+
+    /**
+     * Teto da espera entre tentativas
+     */
+    private Duration atrasoMaximo = Duration.ofMillis(500);
+
+    /**
+     * Fração aleatória da espera (0 = sem jitter, 1 = espera entre zero e o atraso calculado)
+     */
+    private double jitter = 0.5;
+
+    public int getMaxTentativas() {
+        return maxTentativas;
+    }
+
+    public void setMaxTentativas(int maxTentativas) {
+        this.maxTentativas = maxTentativas;
+    }
+
+    public Duration getAtrasoInicial() {
+        return atrasoInicial;
+    }
+
+    public void setAtrasoInicial(Duration atrasoInicial) {
+        this.atrasoInicial = atrasoInicial;
+    }
+
+    public double getMultiplicador() {
+        return multiplicador;
+    }
+
+    public void setMultiplicador(double multiplicador) {
+        this.multiplicador = multiplicador;
+    }
+
+    public Duration getAtrasoMaximo() {
+        return atrasoMaximo;
+    }
+
+    public void setAtrasoMaximo(Duration atrasoMaximo) {
+        this.atrasoMaximo = atrasoMaximo;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    public void setJitter(double jitter) {
+        this.jitter = jitter;
+    }
+}
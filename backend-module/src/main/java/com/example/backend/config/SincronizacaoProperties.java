@@ -0,0 +1,26 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configurações da sincronização incremental de benefícios (prefixo beneficios.sincronizacao)
+ */
+@ConfigurationProperties(prefix = "beneficios.sincronizacao")
+public class SincronizacaoProperties {
+
+    /**
+     * Quanto uma transação pode levar entre carimbar updated_at e confirmar; alterações mais recentes
+     * que isso voltam na próxima consulta, para que um commit tardio não fique atrás do cursor
+     */
+    private Duration margemCommit = Duration.ofSeconds(5);
+
+    public Duration getMargemCommit() {
+        return margemCommit;
+    }
+
+    public void setMargemCommit(Duration margemCommit) {
+        this.margemCommit = margemCommit;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.backend.config;
+
+import com.example.backend.service.EstrategiaTransferencia;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configurações do fluxo de transferência (prefixo beneficios.transferencia)
+ */
+@ConfigurationProperties(prefix = "beneficios.transferencia")
+public class TransferenciaProperties {
+
+    /**
+     * Estratégia usada por POST /transferir
+     */
+    private EstrategiaTransferencia estrategia = EstrategiaTransferencia.OTIMISTA;
+
+    /**
+     * Motor em memória usado pela estratégia PARTICIONADA
+     */
+    private final Particionada particionada = new Particionada();
+
+    /**
+     * Agrupamento de transferências concorrentes numa única transação
+     */
+    private final GroupCommit groupCommit = new GroupCommit();
+
+    /**
+     * Execução de POST /transferir/async fora das threads do Tomcat
+     */
+    private final Assincrona assincrona = new Assincrona();
+
+    public EstrategiaTransferencia getEstrategia() {
+        return estrategia;
+    }
+
+    public void setEstrategia(EstrategiaTransferencia estrategia) {
+        this.estrategia = estrategia;
+    }
+
+    public Particionada getParticionada() {
+        return particionada;
+    }
+
+    public GroupCommit getGroupCommit() {
+        return groupCommit;
+    }
+
+    public Assincrona getAssincrona() {
+        return assincrona;
+    }
+
+    /**
+     * Configurações do motor particionado (prefixo beneficios.transferencia.particionada)
+     */
+    public static class Particionada {
+
+        /**
+         * Número de partições (threads single-writer); benefício vai para a partição id mod N
+         */
+        private int particoes = 4;
+
+        /**
+         * Mensagens aguardando por partição antes de recusar novas transferências
+         */
+        private int capacidadeFila = 10_000;
+
+        /**
+         * Intervalo entre gravações write-behind no banco
+         */
+        private Duration intervaloGravacao = Duration.ofMillis(200);
+
+        /**
+         * Benefícios por transação de gravação write-behind
+         */
+        private int tamanhoLoteGravacao = 500;
+
+        public int getParticoes() {
+            return particoes;
+        }
+
+        public void setParticoes(int particoes) {
+            this.particoes = particoes;
+        }
+
+        public int getCapacidadeFila() {
+            return capacidadeFila;
+        }
+
+        public void setCapacidadeFila(int capacidadeFila) {
+            this.capacidadeFila = capacidadeFila;
+        }
+
+        public Duration getIntervaloGravacao() {
+            return intervaloGravacao;
+        }
+
+        public void setIntervaloGravacao(Duration intervaloGravacao) {
+            this.intervaloGravacao = intervaloGravacao;
+        }
+
+        public int getTamanhoLoteGravacao() {
+            return tamanhoLoteGravacao;
+        }
+
+        public void setTamanhoLoteGravacao(int tamanhoLoteGravacao) {
+            this.tamanhoLoteGravacao = tamanhoLoteGravacao;
+        }
+    }
+
+    /**
+     * Configurações do group commit (prefixo beneficios.transferencia.group-commit)
+     */
+    public static class GroupCommit {
+
+        /**
+         * Liga o estágio de group commit na frente das estratégias transacionais
+         */
+        private boolean habilitado = false;
+
+        /**
+         * Tempo máximo que a primeira transferência de um lote aguarda por companheiras
+         */
+        private Duration janela = Duration.ofMillis(5);
+
+        /**
+         * Máximo de transferências por transação
+         */
+        private int tamanhoMaximoLote = 100;
+
+        /**
+         * Tempo máximo que o chamador aguarda o commit do seu lote antes de receber 503
+         */
+        private Duration tempoMaximoEspera = Duration.ofSeconds(10);
+
+        public boolean isHabilitado() {
+            return habilitado;
+        }
+
+        public void setHabilitado(boolean habilitado) {
+            this.habilitado = habilitado;
+        }
+
+        public Duration getJanela() {
+            return janela;
+        }
+
+        public void setJanela(Duration janela) {
+            this.janela = janela;
+        }
+
+        public int getTamanhoMaximoLote() {
+            return tamanhoMaximoLote;
+        }
+
+        public void setTamanhoMaximoLote(int tamanhoMaximoLote) {
+            this.tamanhoMaximoLote = tamanhoMaximoLote;
+        }
+
+        public Duration getTempoMaximoEspera() {
+            return tempoMaximoEspera;
+        }
+
+        public void setTempoMaximoEspera(Duration tempoMaximoEspera) {
+            this.tempoMaximoEspera = tempoMaximoEspera;
+        }
+    }
+
+    /**
+     * Configurações das transferências assíncronas (prefixo beneficios.transferencia.assincrona)
+     */
+    public static class Assincrona {
+
+        /**
+         * Threads executoras
+         */
+        private int threads = 16;
+
+        /**
+         * Transferências aceitas aguardando execução; acima disso a submissão recebe 503
+         */
+        private int capacidadeFila = 1000;
+
+        /**
+         * Máximo de status mantidos para consulta
+         */
+        private long tamanhoMaximoStatus = 100_000;
+
+        /**
+         * Tempo de retenção do status depois da última mudança
+         */
+        private Duration ttlStatus = Duration.ofHours(1);
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getCapacidadeFila() {
+            return capacidadeFila;
+        }
+
+        public void setCapacidadeFila(int capacidadeFila) {
+            this.capacidadeFila = capacidadeFila;
+        }
+
+        public long getTamanhoMaximoStatus() {
+            return tamanhoMaximoStatus;
+        }
+
+        public void setTamanhoMaximoStatus(long tamanhoMaximoStatus) {
+            this.tamanhoMaximoStatus = tamanhoMaximoStatus;
+        }
+
+        public Duration getTtlStatus() {
+            return ttlStatus;
+        }
+
+        public void setTtlStatus(Duration ttlStatus) {
+            this.ttlStatus = ttlStatus;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.AjusteMassa;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO para criação de um ajuste em massa
+ * O filtro de valor (inclusivo) é opcional; só benefícios ativos são alterados.
+ */
+public class AjusteMassaRequestDTO {
+
+    @NotNull(message = "Tipo do ajuste é obrigatório")
+    private AjusteMassa.Tipo tipo;
+
+    /**
+     * Percentual creditado sobre o valor atual (obrigatório em CREDITO_PERCENTUAL)
+     */
+    @DecimalMin(value = "0.0", inclusive = false, message = "Percentual deve ser maior que zero")
+    @DecimalMax(value = "100.0", message = "Percentual deve ser no máximo 100")
+    private BigDecimal percentual;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "Valor mínimo não pode ser negativo")
+    private BigDecimal valorMin;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "Valor máximo não pode ser negativo")
+    private BigDecimal valorMax;
+
+    // Construtores
+    public AjusteMassaRequestDTO() {
+    }
+
+    public AjusteMassaRequestDTO(AjusteMassa.Tipo tipo, BigDecimal percentual, BigDecimal valorMin, BigDecimal valorMax) {
+        this.tipo = tipo;
+        this.percentual = percentual;
+        this.valorMin = valorMin;
+        this.valorMax = valorMax;
+    }
+
+    // Getters e Setters
+    public AjusteMassa.Tipo getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(AjusteMassa.Tipo tipo) {
+        this.tipo = tipo;
+    }
+
+    public BigDecimal getPercentual() {
+        return percentual;
+    }
+
+    public void setPercentual(BigDecimal percentual) {
+        this.percentual = percentual;
+    }
+
+    public BigDecimal getValorMin() {
+        return valorMin;
+    }
+
+    public void setValorMin(BigDecimal valorMin) {
+        this.valorMin = valorMin;
+    }
+
+    public BigDecimal getValorMax() {
+        return valorMax;
+    }
+
+    public void setValorMax(BigDecimal valorMax) {
+        this.valorMax = valorMax;
+    }
+}
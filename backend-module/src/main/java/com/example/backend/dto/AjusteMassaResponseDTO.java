@@ -0,0 +1,108 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.AjusteMassa;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO com o estado e o progresso de um ajuste em massa
+ * progresso vai de 0 a 100, pela posição do cursor entre o primeiro ID e idFinal.
+ */
+public class AjusteMassaResponseDTO {
+
+    private Long id;
+    private AjusteMassa.Tipo tipo;
+    private AjusteMassa.Status status;
+    private BigDecimal percentual;
+    private BigDecimal valorMin;
+    private BigDecimal valorMax;
+    private Long ultimoId;
+    private Long idFinal;
+    private int progresso;
+    private Long afetados;
+    private Integer lotes;
+    private String mensagem;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Construtores
+    public AjusteMassaResponseDTO() {
+    }
+
+    public AjusteMassaResponseDTO(AjusteMassa ajuste) {
+        this.id = ajuste.getId();
+        this.tipo = ajuste.getTipo();
+        this.status = ajuste.getStatus();
+        this.percentual = ajuste.getPercentual();
+        this.valorMin = ajuste.getValorMin();
+        this.valorMax = ajuste.getValorMax();
+        this.ultimoId = ajuste.getUltimoId();
+        this.idFinal = ajuste.getIdFinal();
+        this.progresso = ajuste.getStatus() == AjusteMassa.Status.CONCLUIDO || ajuste.getIdFinal() == 0
+                ? 100
+                : (int) Math.min(100, ajuste.getUltimoId() * 100 / ajuste.getIdFinal());
+        this.afetados = ajuste.getAfetados();
+        this.lotes = ajuste.getLotes();
+        this.mensagem = ajuste.getMensagem();
+        this.createdAt = ajuste.getCreatedAt();
+        this.updatedAt = ajuste.getUpdatedAt();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public AjusteMassa.Tipo getTipo() {
+        return tipo;
+    }
+
+    public AjusteMassa.Status getStatus() {
+        return status;
+    }
+
+    public BigDecimal getPercentual() {
+        return percentual;
+    }
+
+    public BigDecimal getValorMin() {
+        return valorMin;
+    }
+
+    public BigDecimal getValorMax() {
+        return valorMax;
+    }
+
+    public Long getUltimoId() {
+        return ultimoId;
+    }
+
+    public Long getIdFinal() {
+        return idFinal;
+    }
+
+    public int getProgresso() {
+        return progresso;
+    }
+
+    public Long getAfetados() {
+        return afetados;
+    }
+
+    public Integer getLotes() {
+        return lotes;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO com os parâmetros de consulta paginada de benefícios (query string)
+ *
+ * sort segue o formato campo,direcao (ex.: nome,asc ou valor,desc); after é o proximoCursor
+ * devolvido pela página anterior e só vale para a mesma ordenação.
+ */
+public class BeneficioConsultaDTO {
+
+    @Min(value = 1, message = "limit deve ser no mínimo 1")
+    @Max(value = 200, message = "limit deve ser no máximo 200")
+    private int limit = 20;
+
+    private String after;
+
+    @Pattern(regexp = "(?i)(id|nome|valor)(,(asc|desc))?",
+            message = "sort deve ser id, nome ou valor, opcionalmente seguido de ,asc ou ,desc")
+    private String sort = "id,asc";
+
+    private Boolean ativo;
+
+    private BigDecimal valorMin;
+
+    private BigDecimal valorMax;
+
+    // Getters e Setters
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public Boolean getAtivo() {
+        return ativo;
+    }
+
+    public void setAtivo(Boolean ativo) {
+        this.ativo = ativo;
+    }
+
+    public BigDecimal getValorMin() {
+        return valorMin;
+    }
+
+    public void setValorMin(BigDecimal valorMin) {
+        this.valorMin = valorMin;
+    }
+
+    public BigDecimal getValorMax() {
+        return valorMax;
+    }
+
+    public void setValorMax(BigDecimal valorMax) {
+        this.valorMax = valorMax;
+    }
+}
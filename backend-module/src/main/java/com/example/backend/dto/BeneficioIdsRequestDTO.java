@@ -0,0 +1,35 @@
+package com.example.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO para consulta de vários benefícios por ID
+ */
+public class BeneficioIdsRequestDTO {
+
+    @NotEmpty(message = "Informe ao menos um ID")
+    @Size(max = 1000, message = "Consulta deve ter no máximo 1000 IDs")
+    private List<@NotNull(message = "ID não pode ser nulo") Long> ids = new ArrayList<>();
+
+    // Construtores
+    public BeneficioIdsRequestDTO() {
+    }
+
+    public BeneficioIdsRequestDTO(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    // Getters e Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
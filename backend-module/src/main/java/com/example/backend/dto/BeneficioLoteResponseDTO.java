@@ -0,0 +1,28 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta da consulta de vários benefícios por ID
+ * beneficios segue a ordem dos IDs pedidos (repetições aparecem uma vez); IDs inexistentes vão
+ * para naoEncontrados, também na ordem do pedido.
+ */
+public class BeneficioLoteResponseDTO {
+
+    private final List<BeneficioResponseDTO> beneficios;
+    private final List<Long> naoEncontrados;
+
+    public BeneficioLoteResponseDTO(List<BeneficioResponseDTO> beneficios, List<Long> naoEncontrados) {
+        this.beneficios = beneficios;
+        this.naoEncontrados = naoEncontrados;
+    }
+
+    // Getters
+    public List<BeneficioResponseDTO> getBeneficios() {
+        return beneficios;
+    }
+
+    public List<Long> getNaoEncontrados() {
+        return naoEncontrados;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.backend.dto;
+
+import com.example.backend.exception.BusinessException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Atualização parcial de um benefício no formato JSON Merge Patch (RFC 7396)
+ * Só as propriedades presentes são alteradas; null remove o valor (aceito apenas em descricao,
+ * as demais são recusadas na validação). version informa a versão esperada, como no PUT.
+ */
+public final class BeneficioPatchDTO {
+
+    private final Map<CampoBeneficio, Object> alteracoes;
+    private final Long version;
+
+    private BeneficioPatchDTO(Map<CampoBeneficio, Object> alteracoes, Long version) {
+        this.alteracoes = Collections.unmodifiableMap(alteracoes);
+        this.version = version;
+    }
+
+    /**
+     * Interpreta o corpo do PATCH; tipos incompatíveis e propriedades não editáveis resultam em 400
+     */
+    public static BeneficioPatchDTO de(JsonNode corpo) {
+        if (corpo == null || !corpo.isObject()) {
+            throw new BusinessException("O corpo do PATCH deve ser um objeto JSON (merge patch)");
+        }
+        Map<CampoBeneficio, Object> alteracoes = new EnumMap<>(CampoBeneficio.class);
+        Long version = null;
+        Iterator<Map.Entry<String, JsonNode>> propriedades = corpo.fields();
+        while (propriedades.hasNext()) {
+            Map.Entry<String, JsonNode> propriedade = propriedades.next();
+            JsonNode valor = propriedade.getValue();
+            switch (propriedade.getKey()) {
+                case "nome" -> alteracoes.put(CampoBeneficio.NOME, texto("nome", valor));
+                case "descricao" -> alteracoes.put(CampoBeneficio.DESCRICAO, texto("descricao", valor));
+                case "valor" -> {
+                    if (!valor.isNull() && !valor.isNumber()) {
+                        throw new BusinessException("valor deve ser numérico");
+                    }
+                    alteracoes.put(CampoBeneficio.VALOR, valor.isNull() ? null : valor.decimalValue());
+                }
+                case "ativo" -> {
+                    if (!valor.isBoolean()) {
+                        throw new BusinessException("ativo deve ser true ou false");
+                    }
+                    alteracoes.put(CampoBeneficio.ATIVO, valor.booleanValue());
+                }
+                case "version" -> {
+                    if (!valor.isIntegralNumber()) {
+                        throw new BusinessException("version deve ser um número inteiro");
+                    }
+                    version = valor.longValue();
+                }
+                default -> throw new BusinessException("Propriedade não pode ser alterada por PATCH: "
+                        + propriedade.getKey() + " (use nome, descricao, valor, ativo e version)");
+            }
+        }
+        if (alteracoes.isEmpty()) {
+            throw new BusinessException("Informe ao menos uma propriedade para alterar");
+        }
+        return new BeneficioPatchDTO(alteracoes, version);
+    }
+
+    private static String texto(String propriedade, JsonNode valor) {
+        if (!valor.isNull() && !valor.isTextual()) {
+            throw new BusinessException(propriedade + " deve ser texto");
+        }
+        return valor.isNull() ? null : valor.textValue();
+    }
+
+    /**
+     * Cópia com a versão esperada definida (If-Match)
+     */
+    public BeneficioPatchDTO comVersion(Long version) {
+        return new BeneficioPatchDTO(alteracoes, version);
+    }
+
+    // Getters
+    public Map<CampoBeneficio, Object> getAlteracoes() {
+        return alteracoes;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
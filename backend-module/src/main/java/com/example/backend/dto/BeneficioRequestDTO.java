@@ -25,6 +25,11 @@ public class BeneficioRequestDTO {
 
     private Boolean ativo = true;
 
+    /**
+     * Versão esperada na atualização (opcional); alternativa ao header If-Match
+     */
+    private Long version;
+
     // Construtores
     public BeneficioRequestDTO() {
     }
@@ -68,4 +73,12 @@ public class BeneficioRequestDTO {
     public void setAtivo(Boolean ativo) {
         this.ativo = ativo;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
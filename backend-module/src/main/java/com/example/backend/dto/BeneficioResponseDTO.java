@@ -34,6 +34,21 @@ public class BeneficioResponseDTO {
         this.updatedAt = beneficio.getUpdatedAt();
     }
 
+    /**
+     * Usado pelas projeções JPQL (SELECT new ...) do BeneficioRepository
+     */
+    public BeneficioResponseDTO(Long id, String nome, String descricao, BigDecimal valor, Boolean ativo,
+                                Long version, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.nome = nome;
+        this.descricao = descricao;
+        this.valor = valor;
+        this.ativo = ativo;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     // Getters e Setters
     public Long getId() {
         return id;
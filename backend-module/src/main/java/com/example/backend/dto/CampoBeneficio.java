@@ -0,0 +1,79 @@
+package com.example.backend.dto;
+
+import com.example.backend.exception.BusinessException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de BeneficioResponseDTO selecionáveis com ?fields= (sparse fieldsets)
+ * O nome da propriedade JSON é também o atributo da entidade Beneficio.
+ */
+public enum CampoBeneficio {
+    ID("id", BeneficioResponseDTO::getId),
+    NOME("nome", BeneficioResponseDTO::getNome),
+    DESCRICAO("descricao", BeneficioResponseDTO::getDescricao),
+    VALOR("valor", BeneficioResponseDTO::getValor),
+    ATIVO("ativo", BeneficioResponseDTO::getAtivo),
+    VERSION("version", BeneficioResponseDTO::getVersion),
+    CREATED_AT("createdAt", BeneficioResponseDTO::getCreatedAt),
+    UPDATED_AT("updatedAt", BeneficioResponseDTO::getUpdatedAt);
+
+    private static final Map<String, CampoBeneficio> POR_PROPRIEDADE = Arrays.stream(values())
+            .collect(Collectors.toMap(c -> c.propriedade.toLowerCase(Locale.ROOT), c -> c));
+
+    private final String propriedade;
+    private final Function<BeneficioResponseDTO, Object> leitor;
+
+    CampoBeneficio(String propriedade, Function<BeneficioResponseDTO, Object> leitor) {
+        this.propriedade = propriedade;
+        this.leitor = leitor;
+    }
+
+    public String getPropriedade() {
+        return propriedade;
+    }
+
+    /**
+     * Interpreta "nome,valor"; o id é sempre incluído
+     *
+     * @return campos pedidos, ou null quando fields não foi informado (resposta completa)
+     */
+    public static Set<CampoBeneficio> de(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        EnumSet<CampoBeneficio> campos = EnumSet.of(ID);
+        for (String parte : fields.split(",")) {
+            String nome = parte.trim().toLowerCase(Locale.ROOT);
+            if (nome.isEmpty()) {
+                continue;
+            }
+            CampoBeneficio campo = POR_PROPRIEDADE.get(nome);
+            if (campo == null) {
+                throw new BusinessException(String.format("Campo desconhecido em fields: %s. Use: %s",
+                        parte.trim(), Arrays.stream(values()).map(c -> c.propriedade).collect(Collectors.joining(","))));
+            }
+            campos.add(campo);
+        }
+        return Collections.unmodifiableSet(campos);
+    }
+
+    /**
+     * Só as propriedades pedidas do benefício, na ordem de declaração dos campos
+     */
+    public static Map<String, Object> projetar(BeneficioResponseDTO beneficio, Set<CampoBeneficio> campos) {
+        Map<String, Object> projecao = new LinkedHashMap<>(campos.size() * 2);
+        for (CampoBeneficio campo : campos) {
+            projecao.put(campo.propriedade, campo.leitor.apply(beneficio));
+        }
+        return projecao;
+    }
+}
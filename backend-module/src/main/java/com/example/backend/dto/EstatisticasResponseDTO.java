@@ -0,0 +1,98 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO com as estatísticas agregadas dos benefícios (todos, ativos e inativos)
+ * valorMinimo, valorMaximo e valorMedio são nulos quando não há benefícios.
+ */
+public class EstatisticasResponseDTO {
+
+    private final long quantidade;
+    private final long quantidadeAtivos;
+    private final BigDecimal valorTotal;
+    private final BigDecimal valorMinimo;
+    private final BigDecimal valorMaximo;
+    private final BigDecimal valorMedio;
+    private final List<Faixa> faixas;
+    private final LocalDateTime recalculadoEm;
+
+    public EstatisticasResponseDTO(long quantidade, long quantidadeAtivos, BigDecimal valorTotal,
+                                   BigDecimal valorMinimo, BigDecimal valorMaximo, BigDecimal valorMedio,
+                                   List<Faixa> faixas, LocalDateTime recalculadoEm) {
+        this.quantidade = quantidade;
+        this.quantidadeAtivos = quantidadeAtivos;
+        this.valorTotal = valorTotal;
+        this.valorMinimo = valorMinimo;
+        this.valorMaximo = valorMaximo;
+        this.valorMedio = valorMedio;
+        this.faixas = faixas;
+        this.recalculadoEm = recalculadoEm;
+    }
+
+    // Getters
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public long getQuantidadeAtivos() {
+        return quantidadeAtivos;
+    }
+
+    public BigDecimal getValorTotal() {
+        return valorTotal;
+    }
+
+    public BigDecimal getValorMinimo() {
+        return valorMinimo;
+    }
+
+    public BigDecimal getValorMaximo() {
+        return valorMaximo;
+    }
+
+    public BigDecimal getValorMedio() {
+        return valorMedio;
+    }
+
+    public List<Faixa> getFaixas() {
+        return faixas;
+    }
+
+    /**
+     * Momento do último recálculo completo; entre recálculos os números vêm dos deltas
+     */
+    public LocalDateTime getRecalculadoEm() {
+        return recalculadoEm;
+    }
+
+    /**
+     * Faixa do histograma: valores em [de, ate), ou a partir de "de" quando ate é nulo
+     */
+    public static class Faixa {
+        private final BigDecimal de;
+        private final BigDecimal ate;
+        private final long quantidade;
+
+        public Faixa(BigDecimal de, BigDecimal ate, long quantidade) {
+            this.de = de;
+            this.ate = ate;
+            this.quantidade = quantidade;
+        }
+
+        // Getters
+        public BigDecimal getDe() {
+            return de;
+        }
+
+        public BigDecimal getAte() {
+            return ate;
+        }
+
+        public long getQuantidade() {
+            return quantidade;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.Transferencia;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO para uma página do extrato de um benefício
+ * proximoCursor é nulo na última página; caso contrário deve ser repassado em ?cursor= para a próxima.
+ */
+public class ExtratoResponseDTO {
+
+    private Long beneficioId;
+    private List<Movimento> movimentos = new ArrayList<>();
+    private String proximoCursor;
+
+    // Construtores
+    public ExtratoResponseDTO() {
+    }
+
+    public ExtratoResponseDTO(Long beneficioId, List<Movimento> movimentos, String proximoCursor) {
+        this.beneficioId = beneficioId;
+        this.movimentos = movimentos;
+        this.proximoCursor = proximoCursor;
+    }
+
+    // Getters
+    public Long getBeneficioId() {
+        return beneficioId;
+    }
+
+    public List<Movimento> getMovimentos() {
+        return movimentos;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    /**
+     * Tipo do movimento do ponto de vista do benefício consultado
+     */
+    public enum Tipo {
+        DEBITO,
+        CREDITO
+    }
+
+    /**
+     * Transferência vista a partir do benefício do extrato
+     */
+    public static class Movimento {
+        private Long id;
+        private LocalDateTime dataHora;
+        private Tipo tipo;
+        private Long deId;
+        private Long paraId;
+        private BigDecimal valor;
+
+        public Movimento(Transferencia transferencia, Long beneficioId) {
+            this.id = transferencia.getId();
+            this.dataHora = transferencia.getDataHora();
+            this.tipo = transferencia.getDeId().equals(beneficioId) ? Tipo.DEBITO : Tipo.CREDITO;
+            this.deId = transferencia.getDeId();
+            this.paraId = transferencia.getParaId();
+            this.valor = transferencia.getValor();
+        }
+
+        // Getters
+        public Long getId() {
+            return id;
+        }
+
+        public LocalDateTime getDataHora() {
+            return dataHora;
+        }
+
+        public Tipo getTipo() {
+            return tipo;
+        }
+
+        public Long getDeId() {
+            return deId;
+        }
+
+        public Long getParaId() {
+            return paraId;
+        }
+
+        public BigDecimal getValor() {
+            return valor;
+        }
+    }
+}
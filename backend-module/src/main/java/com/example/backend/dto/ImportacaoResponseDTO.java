@@ -0,0 +1,90 @@
+package com.example.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO para o resultado da importação em lote, com erro por linha
+ * Linhas rejeitadas além do máximo configurado entram só em errosOmitidos.
+ */
+public class ImportacaoResponseDTO {
+
+    private long linhas;
+    private long importados;
+    private long rejeitados;
+    private int lotes;
+    private List<Erro> erros = new ArrayList<>();
+    private long errosOmitidos;
+
+    // Construtores
+    public ImportacaoResponseDTO() {
+    }
+
+    public void adicionarLinha() {
+        linhas++;
+    }
+
+    public void adicionarLote() {
+        lotes++;
+    }
+
+    public void adicionarImportados(int quantidade) {
+        importados += quantidade;
+    }
+
+    public void adicionarErro(long linha, String mensagem, int maximoErros) {
+        rejeitados++;
+        if (erros.size() < maximoErros) {
+            erros.add(new Erro(linha, mensagem));
+        } else {
+            errosOmitidos++;
+        }
+    }
+
+    // Getters
+    public long getLinhas() {
+        return linhas;
+    }
+
+    public long getImportados() {
+        return importados;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public int getLotes() {
+        return lotes;
+    }
+
+    public List<Erro> getErros() {
+        return erros;
+    }
+
+    public long getErrosOmitidos() {
+        return errosOmitidos;
+    }
+
+    /**
+     * Linha rejeitada (numeração do arquivo, contando o cabeçalho do CSV) e o motivo
+     */
+    public static class Erro {
+        private long linha;
+        private String mensagem;
+
+        public Erro(long linha, String mensagem) {
+            this.linha = linha;
+            this.mensagem = mensagem;
+        }
+
+        // Getters
+        public long getLinha() {
+            return linha;
+        }
+
+        public String getMensagem() {
+            return mensagem;
+        }
+    }
+}
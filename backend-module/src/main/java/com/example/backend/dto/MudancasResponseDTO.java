@@ -0,0 +1,38 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+/**
+ * DTO para as alterações de benefícios desde um cursor (GET /api/v1/beneficios/mudancas)
+ * Inclui benefícios desativados; cursor deve ser repassado em ?desde= na próxima consulta.
+ * Com temMais, a consulta seguinte pode ser feita imediatamente.
+ */
+public class MudancasResponseDTO {
+
+    private List<BeneficioResponseDTO> beneficios;
+    private String cursor;
+    private boolean temMais;
+
+    // Construtores
+    public MudancasResponseDTO() {
+    }
+
+    public MudancasResponseDTO(List<BeneficioResponseDTO> beneficios, String cursor, boolean temMais) {
+        this.beneficios = beneficios;
+        this.cursor = cursor;
+        this.temMais = temMais;
+    }
+
+    // Getters
+    public List<BeneficioResponseDTO> getBeneficios() {
+        return beneficios;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isTemMais() {
+        return temMais;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+/**
+ * DTO para uma página de resultados paginados por cursor
+ * proximoCursor é nulo na última página; caso contrário deve ser repassado em ?after= para a próxima.
+ */
+public class PaginaResponseDTO<T> {
+
+    private List<T> itens;
+    private String proximoCursor;
+
+    // Construtores
+    public PaginaResponseDTO() {
+    }
+
+    public PaginaResponseDTO(List<T> itens, String proximoCursor) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+    }
+
+    // Getters
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+}
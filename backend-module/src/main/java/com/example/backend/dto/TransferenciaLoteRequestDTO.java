@@ -0,0 +1,49 @@
+package com.example.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO para requisição de transferências em lote
+ */
+public class TransferenciaLoteRequestDTO {
+
+    @NotEmpty(message = "Lote deve conter ao menos uma transferência")
+    @Size(max = 1000, message = "Lote deve ter no máximo 1000 transferências")
+    private List<@Valid TransferenciaRequestDTO> transferencias = new ArrayList<>();
+
+    /**
+     * Quando verdadeiro, qualquer item rejeitado desfaz o lote inteiro
+     */
+    private boolean tudoOuNada = false;
+
+    // Construtores
+    public TransferenciaLoteRequestDTO() {
+    }
+
+    public TransferenciaLoteRequestDTO(List<TransferenciaRequestDTO> transferencias, boolean tudoOuNada) {
+        this.transferencias = transferencias;
+        this.tudoOuNada = tudoOuNada;
+    }
+
+    // Getters e Setters
+    public List<TransferenciaRequestDTO> getTransferencias() {
+        return transferencias;
+    }
+
+    public void setTransferencias(List<TransferenciaRequestDTO> transferencias) {
+        this.transferencias = transferencias;
+    }
+
+    public boolean isTudoOuNada() {
+        return tudoOuNada;
+    }
+
+    public void setTudoOuNada(boolean tudoOuNada) {
+        this.tudoOuNada = tudoOuNada;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO para resposta de transferências em lote, com resultado por item
+ */
+public class TransferenciaLoteResponseDTO {
+
+    private int processadas;
+    private int falhas;
+    private List<Item> resultados = new ArrayList<>();
+
+    // Construtores
+    public TransferenciaLoteResponseDTO() {
+    }
+
+    public void adicionarSucesso(int indice, TransferenciaRequestDTO dto) {
+        resultados.add(new Item(indice, dto, true, null));
+        processadas++;
+    }
+
+    public void adicionarFalha(int indice, TransferenciaRequestDTO dto, String mensagem) {
+        resultados.add(new Item(indice, dto, false, mensagem));
+        falhas++;
+    }
+
+    // Getters
+    public int getProcessadas() {
+        return processadas;
+    }
+
+    public int getFalhas() {
+        return falhas;
+    }
+
+    public List<Item> getResultados() {
+        return resultados;
+    }
+
+    /**
+     * Resultado de um item do lote, na mesma posição da requisição
+     */
+    public static class Item {
+        private int indice;
+        private Long deId;
+        private Long paraId;
+        private BigDecimal valor;
+        private boolean sucesso;
+        private String mensagem;
+
+        public Item(int indice, TransferenciaRequestDTO dto, boolean sucesso, String mensagem) {
+            this.indice = indice;
+            this.deId = dto.getDeId();
+            this.paraId = dto.getParaId();
+            this.valor = dto.getValor();
+            this.sucesso = sucesso;
+            this.mensagem = mensagem;
+        }
+
+        // Getters
+        public int getIndice() {
+            return indice;
+        }
+
+        public Long getDeId() {
+            return deId;
+        }
+
+        public Long getParaId() {
+            return paraId;
+        }
+
+        public BigDecimal getValor() {
+            return valor;
+        }
+
+        public boolean isSucesso() {
+            return sucesso;
+        }
+
+        public String getMensagem() {
+            return mensagem;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO com o status de uma transferência assíncrona
+ * Instâncias são imutáveis: cada mudança de status gera um novo objeto.
+ */
+public class TransferenciaStatusDTO {
+
+    /**
+     * Ciclo de vida de uma transferência assíncrona
+     */
+    public enum Status {
+        PENDENTE,
+        EM_EXECUCAO,
+        CONCLUIDA,
+        FALHOU
+    }
+
+    private final String id;
+    private final Status status;
+    private final Long deId;
+    private final Long paraId;
+    private final BigDecimal valor;
+    private final String mensagem;
+    private final LocalDateTime criadaEm;
+    private final LocalDateTime concluidaEm;
+
+    private TransferenciaStatusDTO(String id, Status status, Long deId, Long paraId, BigDecimal valor,
+                                   String mensagem, LocalDateTime criadaEm, LocalDateTime concluidaEm) {
+        this.id = id;
+        this.status = status;
+        this.deId = deId;
+        this.paraId = paraId;
+        this.valor = valor;
+        this.mensagem = mensagem;
+        this.criadaEm = criadaEm;
+        this.concluidaEm = concluidaEm;
+    }
+
+    public static TransferenciaStatusDTO pendente(String id, TransferenciaRequestDTO dto) {
+        return new TransferenciaStatusDTO(id, Status.PENDENTE, dto.getDeId(), dto.getParaId(), dto.getValor(),
+                null, LocalDateTime.now(), null);
+    }
+
+    public TransferenciaStatusDTO emExecucao() {
+        return new TransferenciaStatusDTO(id, Status.EM_EXECUCAO, deId, paraId, valor, null, criadaEm, null);
+    }
+
+    public TransferenciaStatusDTO concluida() {
+        return new TransferenciaStatusDTO(id, Status.CONCLUIDA, deId, paraId, valor, null, criadaEm,
+                LocalDateTime.now());
+    }
+
+    public TransferenciaStatusDTO falhou(String mensagem) {
+        return new TransferenciaStatusDTO(id, Status.FALHOU, deId, paraId, valor, mensagem, criadaEm,
+                LocalDateTime.now());
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getDeId() {
+        return deId;
+    }
+
+    public Long getParaId() {
+        return paraId;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public LocalDateTime getCriadaEm() {
+        return criadaEm;
+    }
+
+    public LocalDateTime getConcluidaEm() {
+        return concluidaEm;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.backend.engine;
+
+import com.example.backend.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Partição single-writer do motor de transferências
+ * Saldos e marcações de escrita pendente só são lidos e alterados pela thread da partição;
+ * os demais componentes interagem enviando mensagens (ver {@link #enviar(Supplier)}).
+ */
+class Particao {
+
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, Saldo> saldos = new HashMap<>();
+    private final Set<Long> sujos = new LinkedHashSet<>();
+
+    Particao(int indice, int capacidadeFila) {
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                r -> {
+                    Thread thread = new Thread(r, "transferencia-particao-" + indice);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Enfileira uma mensagem para execução na thread da partição
+     */
+    <T> CompletableFuture<T> enviar(Supplier<T> mensagem) {
+        try {
+            return CompletableFuture.supplyAsync(mensagem, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new BusinessException("Motor de transferências sobrecarregado. Tente novamente."));
+        }
+    }
+
+    // Operações abaixo só podem ser chamadas na thread da partição (ou após encerrar())
+
+    Saldo saldo(Long id) {
+        return saldos.get(id);
+    }
+
+    void carregar(Long id, BigDecimal valor, boolean ativo, Long versao) {
+        saldos.put(id, new Saldo(valor, ativo, versao));
+    }
+
+    void marcarSujo(Long id) {
+        sujos.add(id);
+    }
+
+    /**
+     * Retira as marcações de escrita pendente, devolvendo por benefício a variação ainda não gravada
+     * A variação passa a contar como em gravação até confirmar() ou devolver().
+     */
+    Map<Long, BigDecimal> drenarSujos() {
+        Map<Long, BigDecimal> pendentes = new LinkedHashMap<>();
+        for (Long id : sujos) {
+            Saldo saldo = saldos.get(id);
+            if (saldo != null && saldo.pendente.signum() != 0) {
+                pendentes.put(id, saldo.enviar());
+            }
+        }
+        sujos.clear();
+        return pendentes;
+    }
+
+    /**
+     * Para de aceitar mensagens e aguarda as já enfileiradas
+     */
+    void encerrar() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Estado em memória de um benefício
+     *
+     * valor = base + pendente + emGravacao: base é o saldo do banco na versão conhecida, pendente são as
+     * transferências ainda não enviadas e emGravacao as já enviadas ao write-behind sem confirmação.
+     * O banco recebe só variações, então escritas de CRUD confirmadas no meio do caminho não se perdem.
+     *
+     * Enquanto houver variação em gravação, um estado mais novo do banco não vira base: ele pode já
+     * conter a variação (gravada, mas ainda não confirmada aqui), que seria contada duas vezes. O
+     * estado fica adiado e é adotado quando a gravação for confirmada ou devolvida.
+     */
+    static final class Saldo {
+        BigDecimal valor;
+        boolean ativo;
+        private BigDecimal base;
+        private Long versao;
+        private BigDecimal pendente = BigDecimal.ZERO;
+        private BigDecimal emGravacao = BigDecimal.ZERO;
+        private boolean adiado;
+        private BigDecimal valorAdiado;
+        private Long versaoAdiada;
+
+        Saldo(BigDecimal valor, boolean ativo, Long versao) {
+            this.valor = valor;
+            this.base = valor;
+            this.ativo = ativo;
+            this.versao = versao;
+        }
+
+        /**
+         * Aplica uma transferência (positiva no crédito, negativa no débito)
+         */
+        void movimentar(BigDecimal variacao) {
+            pendente = pendente.add(variacao);
+            valor = valor.add(variacao);
+        }
+
+        /**
+         * Adota o estado do banco se a versão for mais nova que a conhecida (null: sempre adota)
+         * O ativo vale na hora; o saldo espera a confirmação de uma gravação em curso.
+         */
+        void sincronizar(BigDecimal valorBanco, Long versaoBanco, boolean ativoBanco) {
+            if (!maisNova(versaoBanco)) {
+                return;
+            }
+            ativo = ativoBanco;
+            adiar(valorBanco, versaoBanco);
+            liberarAdiado();
+        }
+
+        private BigDecimal enviar() {
+            BigDecimal variacao = pendente;
+            emGravacao = emGravacao.add(variacao);
+            pendente = BigDecimal.ZERO;
+            return variacao;
+        }
+
+        /**
+         * Variação gravada: o banco passou a valorBanco na versaoBanco
+         */
+        void confirmar(BigDecimal variacao, BigDecimal valorBanco, Long versaoBanco) {
+            emGravacao = emGravacao.subtract(variacao);
+            if (maisNova(versaoBanco)) {
+                adiar(valorBanco, versaoBanco);
+            }
+            liberarAdiado();
+        }
+
+        /**
+         * Gravação desfeita: a variação volta a ser pendente
+         */
+        void devolver(BigDecimal variacao) {
+            emGravacao = emGravacao.subtract(variacao);
+            pendente = pendente.add(variacao);
+            liberarAdiado();
+        }
+
+        /**
+         * Se a versão é mais nova que a base e que o estado adiado (null: sempre)
+         */
+        private boolean maisNova(Long versaoBanco) {
+            if (versaoBanco == null || versao == null) {
+                return true;
+            }
+            return versaoBanco > versao && (!adiado || versaoAdiada == null || versaoBanco > versaoAdiada);
+        }
+
+        private void adiar(BigDecimal valorBanco, Long versaoBanco) {
+            adiado = true;
+            valorAdiado = valorBanco;
+            versaoAdiada = versaoBanco;
+        }
+
+        private void liberarAdiado() {
+            if (adiado && emGravacao.signum() == 0) {
+                base = valorAdiado;
+                versao = versaoAdiada;
+                adiado = false;
+                valorAdiado = null;
+                versaoAdiada = null;
+            }
+            valor = base.add(pendente).add(emGravacao);
+        }
+    }
+}
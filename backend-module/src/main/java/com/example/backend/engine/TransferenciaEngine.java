@@ -0,0 +1,420 @@
+package com.example.backend.engine;
+
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.TransferenciaRequestDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.entity.Transferencia;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.SaldosGravadosEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.repository.TransferenciaRepository;
+import com.example.backend.service.EstrategiaTransferencia;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motor de transferências em memória (estratégia PARTICIONADA)
+ *
+ * Os saldos ficam em N partições single-writer, escolhidas por id mod N, e cada transferência
+ * vira uma mensagem para a partição dona. Entre partições a transferência é um handoff ordenado:
+ * a partição de destino confirma o destino, a de origem debita e a de destino credita; se o
+ * crédito for recusado, a origem é estornada. As partições nunca esperam umas pelas outras.
+ *
+ * As variações de saldo são gravadas no banco em lotes (write-behind) a cada intervalo, de modo que
+ * leituras via BeneficioRepository podem ficar até um intervalo atrás. O write-behind soma a variação
+ * ao valor atual do banco, sem sobrescrever escritas de CRUD ainda não vistas pela partição. Na
+ * inicialização os saldos são recarregados do banco, que é a fonte de recuperação.
+ */
+@Component
+public class TransferenciaEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferenciaEngine.class);
+
+    private final BeneficioRepository repository;
+    private final TransferenciaRepository transferenciaRepository;
+    private final TransferenciaProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentLinkedQueue<Transferencia> historicoPendente = new ConcurrentLinkedQueue<>();
+
+    private volatile Particao[] particoes;
+    private ScheduledExecutorService gravador;
+
+    public TransferenciaEngine(BeneficioRepository repository,
+                               TransferenciaRepository transferenciaRepository,
+                               TransferenciaProperties properties,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher) {
+        this.repository = repository;
+        this.transferenciaRepository = transferenciaRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Sobe as partições e recarrega os saldos do banco, se a estratégia PARTICIONADA estiver ativa
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void iniciar() {
+        if (properties.getEstrategia() != EstrategiaTransferencia.PARTICIONADA || particoes != null) {
+            return;
+        }
+        TransferenciaProperties.Particionada config = properties.getParticionada();
+        Particao[] novas = new Particao[Math.max(1, config.getParticoes())];
+        for (int i = 0; i < novas.length; i++) {
+            novas[i] = new Particao(i, config.getCapacidadeFila());
+        }
+
+        int carregados = recuperar(novas);
+        particoes = novas;
+
+        long intervalo = config.getIntervaloGravacao().toMillis();
+        gravador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "transferencia-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        gravador.scheduleWithFixedDelay(this::gravarPendentes, intervalo, intervalo, TimeUnit.MILLISECONDS);
+
+        logger.info("Motor de transferências iniciado: Particoes={} Beneficios={}", novas.length, carregados);
+    }
+
+    public boolean isAtivo() {
+        return particoes != null;
+    }
+
+    /**
+     * Transfere valor com as mesmas validações de BeneficioService.transferir
+     * Bloqueia o chamador até a partição (ou o handoff) concluir.
+     */
+    public void transferir(TransferenciaRequestDTO dto) {
+        Particao[] atuais = particoes;
+        if (atuais == null) {
+            throw new BusinessException("Motor de transferências indisponível");
+        }
+
+        Long deId = dto.getDeId();
+        Long paraId = dto.getParaId();
+        BigDecimal valor = dto.getValor();
+
+        if (deId.equals(paraId)) {
+            throw new BusinessException("Não é possível transferir para o mesmo benefício");
+        }
+
+        if (valor.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new BusinessException("Valor da transferência deve ser positivo");
+        }
+
+        Particao origem = particao(atuais, deId);
+        Particao destino = particao(atuais, paraId);
+
+        if (origem == destino) {
+            aguardar(origem.enviar(() -> {
+                Particao.Saldo de = existente(origem, deId, "Beneficio de origem");
+                Particao.Saldo para = existente(origem, paraId, "Beneficio de destino");
+                validarAtivo(de, "origem");
+                validarAtivo(para, "destino");
+                debitar(origem, deId, de, valor);
+                creditar(origem, paraId, para, valor);
+                return null;
+            }));
+        } else {
+            aguardar(destino.enviar(() -> {
+                validarAtivo(existente(destino, paraId, "Beneficio de destino"), "destino");
+                return null;
+            }));
+            aguardar(origem.enviar(() -> {
+                Particao.Saldo de = existente(origem, deId, "Beneficio de origem");
+                validarAtivo(de, "origem");
+                debitar(origem, deId, de, valor);
+                return null;
+            }));
+            try {
+                aguardar(destino.enviar(() -> {
+                    Particao.Saldo para = existente(destino, paraId, "Beneficio de destino");
+                    validarAtivo(para, "destino");
+                    creditar(destino, paraId, para, valor);
+                    return null;
+                }));
+            } catch (RuntimeException e) {
+                // Destino mudou entre a confirmação e o crédito: devolve o valor à origem
+                aguardar(origem.enviar(() -> {
+                    creditar(origem, deId, origem.saldo(deId), valor);
+                    return null;
+                }));
+                throw e;
+            }
+        }
+
+        historicoPendente.add(new Transferencia(deId, paraId, valor, LocalDateTime.now()));
+        eventPublisher.publishEvent(new TransferenciaRealizadaEvent(deId, paraId, valor));
+        logger.info("Transferência realizada (particionada): De={} Para={} Valor={}", deId, paraId, valor);
+    }
+
+    /**
+     * Mantém o estado em memória alinhado com escritas confirmadas pelo BeneficioService
+     * O saldo do banco só é adotado se a versão do evento for mais nova que a conhecida, e só depois
+     * de confirmada uma gravação write-behind em curso; as transferências ainda não gravadas
+     * continuam somadas sobre ele.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBeneficioAlterado(BeneficioAlteradoEvent evento) {
+        Particao[] atuais = particoes;
+        BeneficioResponseDTO beneficio = evento.getBeneficio();
+        if (atuais == null || beneficio == null || beneficio.getId() == null) {
+            return;
+        }
+        Particao particao = particao(atuais, beneficio.getId());
+        particao.enviar(() -> {
+            Particao.Saldo saldo = particao.saldo(beneficio.getId());
+            if (saldo == null) {
+                particao.carregar(beneficio.getId(), beneficio.getValor(),
+                        Boolean.TRUE.equals(beneficio.getAtivo()), beneficio.getVersion());
+            } else {
+                saldo.sincronizar(beneficio.getValor(), beneficio.getVersion(), Boolean.TRUE.equals(beneficio.getAtivo()));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Write-behind: coleta a variação de saldo de cada partição e grava em lotes
+     */
+    void gravarPendentes() {
+        Particao[] atuais = particoes;
+        if (atuais == null) {
+            return;
+        }
+        List<CompletableFuture<Map<Long, BigDecimal>>> coletas = new ArrayList<>();
+        for (Particao particao : atuais) {
+            coletas.add(particao.enviar(particao::drenarSujos));
+        }
+        Map<Long, BigDecimal> pendentes = new HashMap<>();
+        for (CompletableFuture<Map<Long, BigDecimal>> coleta : coletas) {
+            try {
+                pendentes.putAll(coleta.join());
+            } catch (CompletionException e) {
+                logger.warn("Falha ao coletar saldos pendentes: {}", e.getCause().getMessage());
+            }
+        }
+        gravar(atuais, pendentes);
+        gravarHistorico();
+    }
+
+    /**
+     * Soma as variações ao saldo lido do banco e grava com a checagem de @Version do Hibernate
+     * Uma escrita de CRUD confirmada entre a leitura e o UPDATE faz o lote falhar e voltar a ser
+     * pendente; confirmada antes da leitura, é preservada e a variação é aplicada sobre ela. Linha
+     * que ficaria negativa (saldo reduzido por CRUD enquanto débitos passavam em memória) não é
+     * gravada: a variação continua pendente até um crédito cobri-la.
+     */
+    private void gravar(Particao[] atuais, Map<Long, BigDecimal> variacoes) {
+        if (variacoes.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(variacoes.keySet());
+        int tamanhoLote = Math.max(1, properties.getParticionada().getTamanhoLoteGravacao());
+        for (int inicio = 0; inicio < ids.size(); inicio += tamanhoLote) {
+            List<Long> lote = ids.subList(inicio, Math.min(ids.size(), inicio + tamanhoLote));
+            List<Beneficio> gravados;
+            List<Long> recusados = new ArrayList<>();
+            try {
+                gravados = transactionTemplate.execute(status -> {
+                    List<Beneficio> beneficios = new ArrayList<>(lote.size());
+                    for (Beneficio beneficio : repository.findAllByIdInOrderById(lote)) {
+                        BigDecimal novo = beneficio.getValor().add(variacoes.get(beneficio.getId()));
+                        if (novo.signum() < 0) {
+                            recusados.add(beneficio.getId());
+                            continue;
+                        }
+                        beneficio.setValor(novo);
+                        beneficios.add(beneficio);
+                    }
+                    repository.saveAll(beneficios);
+                    return beneficios;
+                });
+            } catch (RuntimeException e) {
+                logger.error("Falha na gravação write-behind de {} benefícios, reagendando", lote.size(), e);
+                devolver(atuais, lote, variacoes);
+                continue;
+            }
+            if (!recusados.isEmpty()) {
+                logger.error("Write-behind recusou saldos que ficariam negativos: IDs={}", recusados);
+                devolver(atuais, recusados, variacoes);
+            }
+            // Versões já incrementadas pelo flush do commit
+            List<Long> gravadosIds = new ArrayList<>(gravados.size());
+            for (Beneficio beneficio : gravados) {
+                gravadosIds.add(beneficio.getId());
+                Particao particao = particao(atuais, beneficio.getId());
+                particao.enviar(() -> {
+                    Particao.Saldo saldo = particao.saldo(beneficio.getId());
+                    if (saldo != null) {
+                        saldo.confirmar(variacoes.get(beneficio.getId()), beneficio.getValor(), beneficio.getVersion());
+                    }
+                    return null;
+                });
+            }
+            if (!gravadosIds.isEmpty()) {
+                eventPublisher.publishEvent(new SaldosGravadosEvent(gravadosIds));
+            }
+        }
+        logger.debug("Write-behind gravou {} benefícios", ids.size());
+    }
+
+    /**
+     * Devolve às partições variações não gravadas, para nova tentativa no próximo ciclo
+     */
+    private void devolver(Particao[] atuais, List<Long> ids, Map<Long, BigDecimal> variacoes) {
+        for (Long id : ids) {
+            Particao particao = particao(atuais, id);
+            particao.enviar(() -> {
+                Particao.Saldo saldo = particao.saldo(id);
+                if (saldo != null) {
+                    saldo.devolver(variacoes.get(id));
+                    particao.marcarSujo(id);
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Grava em lotes o histórico das transferências aplicadas desde a última gravação
+     */
+    private void gravarHistorico() {
+        int tamanhoLote = Math.max(1, properties.getParticionada().getTamanhoLoteGravacao());
+        List<Transferencia> lote = new ArrayList<>(tamanhoLote);
+        Transferencia transferencia;
+        while ((transferencia = historicoPendente.poll()) != null) {
+            lote.add(transferencia);
+            if (lote.size() == tamanhoLote || historicoPendente.isEmpty()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> transferenciaRepository.saveAll(lote));
+                } catch (RuntimeException e) {
+                    logger.error("Falha ao gravar histórico de {} transferências, reagendando", lote.size(), e);
+                    // Cópias sem o ID atribuído na transação desfeita
+                    for (Transferencia falha : lote) {
+                        historicoPendente.add(new Transferencia(falha.getDeId(), falha.getParaId(),
+                                falha.getValor(), falha.getDataHora()));
+                    }
+                    return;
+                }
+                lote.clear();
+            }
+        }
+    }
+
+    /**
+     * Encerra as partições depois de processar as mensagens enfileiradas e grava o que restou
+     */
+    @PreDestroy
+    public synchronized void encerrar() throws InterruptedException {
+        Particao[] atuais = particoes;
+        if (atuais == null) {
+            return;
+        }
+        particoes = null;
+        gravador.shutdown();
+        gravador.awaitTermination(30, TimeUnit.SECONDS);
+
+        Map<Long, BigDecimal> pendentes = new HashMap<>();
+        for (Particao particao : atuais) {
+            particao.encerrar();
+            // Threads encerradas: seguro ler o estado diretamente
+            pendentes.putAll(particao.drenarSujos());
+        }
+        gravar(atuais, pendentes);
+        gravarHistorico();
+        logger.info("Motor de transferências encerrado; {} benefícios gravados na saída", pendentes.size());
+    }
+
+    private int recuperar(Particao[] destino) {
+        Map<Particao, List<Beneficio>> porParticao = new HashMap<>();
+        List<Beneficio> beneficios = repository.findAll();
+        for (Beneficio beneficio : beneficios) {
+            porParticao.computeIfAbsent(particao(destino, beneficio.getId()), p -> new ArrayList<>()).add(beneficio);
+        }
+        List<CompletableFuture<Object>> cargas = new ArrayList<>();
+        porParticao.forEach((particao, lista) -> cargas.add(particao.enviar(() -> {
+            for (Beneficio beneficio : lista) {
+                particao.carregar(beneficio.getId(), beneficio.getValor(),
+                        Boolean.TRUE.equals(beneficio.getAtivo()), beneficio.getVersion());
+            }
+            return null;
+        })));
+        cargas.forEach(CompletableFuture::join);
+        return beneficios.size();
+    }
+
+    private static Particao particao(Particao[] atuais, Long id) {
+        return atuais[(int) Math.floorMod(id, (long) atuais.length)];
+    }
+
+    private static Particao.Saldo existente(Particao particao, Long id, String recurso) {
+        Particao.Saldo saldo = particao.saldo(id);
+        if (saldo == null) {
+            throw new ResourceNotFoundException(recurso, id);
+        }
+        return saldo;
+    }
+
+    private static void validarAtivo(Particao.Saldo saldo, String papel) {
+        if (!saldo.ativo) {
+            throw new BusinessException("Benefício de " + papel + " está inativo");
+        }
+    }
+
+    private static void debitar(Particao particao, Long id, Particao.Saldo saldo, BigDecimal valor) {
+        if (saldo.valor.compareTo(valor) < 0) {
+            throw new BusinessException(
+                    String.format("Saldo insuficiente. Saldo atual: %.2f, Valor solicitado: %.2f",
+                            saldo.valor, valor)
+            );
+        }
+        saldo.movimentar(valor.negate());
+        particao.marcarSujo(id);
+    }
+
+    private static void creditar(Particao particao, Long id, Particao.Saldo saldo, BigDecimal valor) {
+        saldo.movimentar(valor);
+        particao.marcarSujo(id);
+    }
+
+    private static void aguardar(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Job de ajuste em massa de benefícios (crédito percentual ou desativação por filtro)
+ *
+ * Percorre os benefícios em ordem de ID até idFinal, o maior ID no momento da criação. ultimoId é
+ * gravado na mesma transação de cada lote: depois de uma queda, a execução retoma do lote seguinte
+ * sem aplicar nenhum lote duas vezes. O @Version faz um cancelamento concorrente desfazer o lote em curso.
+ */
+@Entity
+@Table(name = "AJUSTE_MASSA")
+public class AjusteMassa implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Operação aplicada a cada benefício ativo dentro do filtro
+     */
+    public enum Tipo {
+        CREDITO_PERCENTUAL,
+        DESATIVACAO
+    }
+
+    /**
+     * Ciclo de vida do job; PENDENTE e EM_EXECUCAO são retomados na inicialização
+     */
+    public enum Status {
+        PENDENTE,
+        EM_EXECUCAO,
+        CONCLUIDO,
+        CANCELADO,
+        FALHOU
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Tipo tipo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDENTE;
+
+    @Column(precision = 7, scale = 4)
+    private BigDecimal percentual;
+
+    @Column(name = "valor_min", precision = 15, scale = 2)
+    private BigDecimal valorMin;
+
+    @Column(name = "valor_max", precision = 15, scale = 2)
+    private BigDecimal valorMax;
+
+    @Column(name = "ultimo_id", nullable = false)
+    private Long ultimoId = 0L;
+
+    @Column(name = "id_final", nullable = false)
+    private Long idFinal;
+
+    @Column(nullable = false)
+    private Long afetados = 0L;
+
+    @Column(nullable = false)
+    private Integer lotes = 0;
+
+    @Column(length = 500)
+    private String mensagem;
+
+    @Version
+    private Long version;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Construtores
+    public AjusteMassa() {
+    }
+
+    public AjusteMassa(Tipo tipo, BigDecimal percentual, BigDecimal valorMin, BigDecimal valorMax, Long idFinal) {
+        this.tipo = tipo;
+        this.percentual = percentual;
+        this.valorMin = valorMin;
+        this.valorMax = valorMax;
+        this.idFinal = idFinal;
+    }
+
+    /**
+     * Registra um lote confirmado: avança o cursor e soma os benefícios alterados
+     */
+    public void registrarLote(Long ate, int alterados) {
+        this.ultimoId = ate;
+        this.afetados += alterados;
+        this.lotes++;
+        if (ate >= idFinal) {
+            this.status = Status.CONCLUIDO;
+        }
+    }
+
+    public boolean isAtivo() {
+        return status == Status.PENDENTE || status == Status.EM_EXECUCAO;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public BigDecimal getPercentual() {
+        return percentual;
+    }
+
+    public BigDecimal getValorMin() {
+        return valorMin;
+    }
+
+    public BigDecimal getValorMax() {
+        return valorMax;
+    }
+
+    public Long getUltimoId() {
+        return ultimoId;
+    }
+
+    public Long getIdFinal() {
+        return idFinal;
+    }
+
+    public Long getAfetados() {
+        return afetados;
+    }
+
+    public Integer getLotes() {
+        return lotes;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -14,13 +14,19 @@ import java.time.LocalDateTime;
  * Entidade Beneficio para o backend Spring Boot
  */
 @Entity
-@Table(name = "BENEFICIO")
+@Table(name = "BENEFICIO", indexes = {
+        @Index(name = "IDX_BENEFICIO_ATIVO_ID", columnList = "ativo, id"),
+        @Index(name = "IDX_BENEFICIO_NOME_ID", columnList = "nome, id"),
+        @Index(name = "IDX_BENEFICIO_VALOR_ID", columnList = "valor, id"),
+        @Index(name = "IDX_BENEFICIO_UPDATED_AT_ID", columnList = "updated_at, id")
+})
 public class Beneficio implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "beneficio_seq")
+    @SequenceGenerator(name = "beneficio_seq", sequenceName = "BENEFICIO_SEQ", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Nome não pode ser vazio")
@@ -43,10 +49,10 @@ public class Beneficio implements Serializable {
     @Version
     private Long version;
 
-    @Column(name = "created_at", updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     @PrePersist
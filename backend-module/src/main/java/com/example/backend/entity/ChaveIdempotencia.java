@@ -0,0 +1,95 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Chave de idempotência de uma transferência confirmada
+ * Gravada na mesma transação da movimentação; a chave primária impede uma segunda execução.
+ */
+@Entity
+@Table(name = "IDEMPOTENCIA_TRANSFERENCIA")
+public class ChaveIdempotencia implements Persistable<String>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(length = 100)
+    private String chave;
+
+    @Column(name = "de_id", nullable = false)
+    private Long deId;
+
+    @Column(name = "para_id", nullable = false)
+    private Long paraId;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal valor;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Chaves são sempre inseridas, nunca mescladas: evita o SELECT do merge e
+     * deixa a violação de chave primária acusar a duplicidade
+     */
+    @Transient
+    private boolean novo = true;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void marcarPersistido() {
+        novo = false;
+    }
+
+    // Construtores
+    public ChaveIdempotencia() {
+    }
+
+    public ChaveIdempotencia(String chave, Long deId, Long paraId, BigDecimal valor) {
+        this.chave = chave;
+        this.deId = deId;
+        this.paraId = paraId;
+        this.valor = valor;
+    }
+
+    @Override
+    public String getId() {
+        return chave;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    // Getters
+    public String getChave() {
+        return chave;
+    }
+
+    public Long getDeId() {
+        return deId;
+    }
+
+    public Long getParaId() {
+        return paraId;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
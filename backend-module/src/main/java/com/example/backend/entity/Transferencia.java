@@ -0,0 +1,73 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Movimentação confirmada entre dois benefícios (histórico imutável)
+ * O ID vem de uma sequence com alocação em blocos, o que permite ao Hibernate agrupar os INSERTs
+ * em lotes JDBC (com IDENTITY cada INSERT precisa ir sozinho ao banco para obter a chave).
+ */
+@Entity
+@Table(name = "TRANSFERENCIA", indexes = {
+        @Index(name = "IDX_TRANSFERENCIA_DE_DATA", columnList = "de_id, data_hora, id"),
+        @Index(name = "IDX_TRANSFERENCIA_PARA_DATA", columnList = "para_id, data_hora, id")
+})
+public class Transferencia implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transferencia_seq")
+    @SequenceGenerator(name = "transferencia_seq", sequenceName = "TRANSFERENCIA_SEQ", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "de_id", nullable = false, updatable = false)
+    private Long deId;
+
+    @Column(name = "para_id", nullable = false, updatable = false)
+    private Long paraId;
+
+    @Column(nullable = false, updatable = false, precision = 15, scale = 2)
+    private BigDecimal valor;
+
+    @Column(name = "data_hora", nullable = false, updatable = false)
+    private LocalDateTime dataHora;
+
+    // Construtores
+    public Transferencia() {
+    }
+
+    public Transferencia(Long deId, Long paraId, BigDecimal valor, LocalDateTime dataHora) {
+        this.deId = deId;
+        this.paraId = paraId;
+        this.valor = valor;
+        // Precisão da coluna TIMESTAMP: o cursor do extrato precisa do mesmo valor gravado no banco
+        this.dataHora = dataHora.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getDeId() {
+        return deId;
+    }
+
+    public Long getParaId() {
+        return paraId;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.event;
+
+import com.example.backend.dto.BeneficioResponseDTO;
+
+/**
+ * Evento publicado pelo BeneficioService a cada escrita em um benefício
+ * Ouvintes que precisam do estado confirmado devem usar @TransactionalEventListener (AFTER_COMMIT)
+ */
+public class BeneficioAlteradoEvent {
+
+    /**
+     * Tipo da escrita que originou o evento
+     */
+    public enum Tipo {
+        CRIADO,
+        ATUALIZADO,
+        DESATIVADO
+    }
+
+    private final Tipo tipo;
+    private final BeneficioResponseDTO beneficio;
+
+    public BeneficioAlteradoEvent(Tipo tipo, BeneficioResponseDTO beneficio) {
+        this.tipo = tipo;
+        this.beneficio = beneficio;
+    }
+
+    // Getters
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public BeneficioResponseDTO getBeneficio() {
+        return beneficio;
+    }
+}
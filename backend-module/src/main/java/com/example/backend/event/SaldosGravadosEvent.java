@@ -0,0 +1,23 @@
+package com.example.backend.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evento publicado pelo motor particionado depois que um lote do write-behind é confirmado no banco
+ * As transferências já foram anunciadas por TransferenciaRealizadaEvent; este evento marca o
+ * momento em que os novos saldos passam a ser visíveis para leituras do banco.
+ */
+public class SaldosGravadosEvent {
+
+    private final List<Long> ids;
+
+    public SaldosGravadosEvent(Collection<Long> ids) {
+        this.ids = List.copyOf(ids);
+    }
+
+    // Getters
+    public List<Long> getIds() {
+        return ids;
+    }
+}
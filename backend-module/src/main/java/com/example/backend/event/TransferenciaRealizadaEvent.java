@@ -0,0 +1,74 @@
+package com.example.backend.event;
+
+import java.math.BigDecimal;
+
+/**
+ * Evento publicado a cada transferência aplicada, qualquer que seja a estratégia
+ * Nas estratégias transacionais e no group commit é publicado dentro da transação; no motor
+ * particionado, depois da aplicação em memória (ouvintes usam fallbackExecution para recebê-lo).
+ *
+ * Quando a estratégia conhece o estado gravado (OTIMISTA e lote), o evento leva o saldo e a versão
+ * resultantes dos dois lados; UPDATEs condicionais não os devolvem e os campos ficam nulos.
+ */
+public class TransferenciaRealizadaEvent {
+
+    private final Long deId;
+    private final Long paraId;
+    private final BigDecimal valor;
+    private final BigDecimal saldoDe;
+    private final Long versaoDe;
+    private final BigDecimal saldoPara;
+    private final Long versaoPara;
+
+    public TransferenciaRealizadaEvent(Long deId, Long paraId, BigDecimal valor) {
+        this(deId, paraId, valor, null, null, null, null);
+    }
+
+    public TransferenciaRealizadaEvent(Long deId, Long paraId, BigDecimal valor,
+                                       BigDecimal saldoDe, Long versaoDe,
+                                       BigDecimal saldoPara, Long versaoPara) {
+        this.deId = deId;
+        this.paraId = paraId;
+        this.valor = valor;
+        this.saldoDe = saldoDe;
+        this.versaoDe = versaoDe;
+        this.saldoPara = saldoPara;
+        this.versaoPara = versaoPara;
+    }
+
+    /**
+     * Se o evento traz o saldo e a versão resultantes dos dois lados
+     */
+    public boolean temSaldos() {
+        return saldoDe != null && versaoDe != null && saldoPara != null && versaoPara != null;
+    }
+
+    // Getters
+    public Long getDeId() {
+        return deId;
+    }
+
+    public Long getParaId() {
+        return paraId;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public BigDecimal getSaldoDe() {
+        return saldoDe;
+    }
+
+    public Long getVersaoDe() {
+        return versaoDe;
+    }
+
+    public BigDecimal getSaldoPara() {
+        return saldoPara;
+    }
+
+    public Long getVersaoPara() {
+        return versaoPara;
+    }
+}
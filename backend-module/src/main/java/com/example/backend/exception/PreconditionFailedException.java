@@ -0,0 +1,11 @@
+package com.example.backend.exception;
+
+/**
+ * Exceção para versão esperada (If-Match ou version no corpo) diferente da versão atual do recurso
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
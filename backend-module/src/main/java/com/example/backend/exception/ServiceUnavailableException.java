@@ -0,0 +1,11 @@
+package com.example.backend.exception;
+
+/**
+ * Exceção para capacidade esgotada; o cliente deve tentar novamente mais tarde
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
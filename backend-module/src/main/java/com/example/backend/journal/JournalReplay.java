@@ -0,0 +1,62 @@
+package com.example.backend.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Reconstrução de saldos a partir do último snapshot mais os segmentos do journal
+ */
+public final class JournalReplay {
+
+    private JournalReplay() {
+    }
+
+    /**
+     * Saldos resultantes de todos os registros válidos do diretório
+     */
+    public static SaldosJournal reconstruir(Path diretorio) throws IOException {
+        return reconstruir(diretorio, Long.MAX_VALUE);
+    }
+
+    /**
+     * Saldos resultantes dos registros até a sequência informada (inclusive)
+     */
+    public static SaldosJournal reconstruir(Path diretorio, long ate) throws IOException {
+        SaldosJournal base = SaldosJournal.carregarUltimo(diretorio);
+        SaldosJournal saldos = base != null ? base : new SaldosJournal(0);
+
+        List<Path> segmentos = JournalWriter.segmentos(diretorio);
+        for (int i = 0; i < segmentos.size(); i++) {
+            // Segmento inteiramente coberto pelo snapshot: nada a aplicar
+            if (i + 1 < segmentos.size()
+                    && JournalWriter.primeiraSequencia(segmentos.get(i + 1)) <= saldos.getSequencia() + 1) {
+                continue;
+            }
+            RegistroJournal.ler(segmentos.get(i), registro -> {
+                if (registro.getSequencia() <= ate) {
+                    saldos.aplicar(registro);
+                }
+            });
+        }
+        return saldos;
+    }
+
+    /**
+     * Remove snapshots antigos e segmentos já cobertos pelo snapshot mais recente
+     * (o segmento ativo, último da lista, nunca é removido)
+     */
+    static void compactar(Path diretorio, long sequenciaSnapshot) throws IOException {
+        List<Path> snapshots = SaldosJournal.snapshots(diretorio);
+        for (int i = 0; i < snapshots.size() - 1; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+        List<Path> segmentos = JournalWriter.segmentos(diretorio);
+        for (int i = 0; i + 1 < segmentos.size(); i++) {
+            if (JournalWriter.primeiraSequencia(segmentos.get(i + 1)) <= sequenciaSnapshot + 1) {
+                Files.deleteIfExists(segmentos.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.backend.journal;
+
+import com.example.backend.config.JournalProperties;
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.SaldosGravadosEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.service.EstrategiaTransferencia;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Journal de movimentações de benefícios
+ *
+ * Cada criação, atualização, desativação e transferência confirmada vira um registro binário de
+ * tamanho fixo num log segmentado mapeado em memória ({@link JournalWriter}). Os registros guardam
+ * o saldo absoluto e a versão da linha: alterações vêm do DTO do evento e transferências vêm do
+ * próprio evento ou são relidas do banco após o commit, numa consulta por transação (no motor
+ * particionado, após cada gravação write-behind), de modo que registros fora da ordem de commit
+ * são descartados no replay pela versão. Snapshots periódicos
+ * dos saldos permitem descartar segmentos antigos; snapshot mais journal reconstroem a tabela
+ * BENEFICIO com beneficios.journal.replay-na-inicializacao=true.
+ */
+@Component
+public class JournalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalService.class);
+
+    private final JournalProperties properties;
+    private final TransferenciaProperties transferenciaProperties;
+    private final BeneficioRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile JournalWriter writer;
+    private ScheduledExecutorService agendador;
+
+    public JournalService(JournalProperties properties,
+                          TransferenciaProperties transferenciaProperties,
+                          BeneficioRepository repository,
+                          TransactionTemplate transactionTemplate) {
+        this.properties = properties;
+        this.transferenciaProperties = transferenciaProperties;
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Abre o journal; opcionalmente reconstrói os saldos e cria o snapshot inicial a partir do banco
+     * Roda antes dos demais listeners de ApplicationReadyEvent (motor particionado, estatísticas,
+     * busca, ajustes em massa), que carregam o estado do banco e precisam ver os saldos restaurados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void iniciar() throws IOException {
+        if (!properties.isHabilitado() || writer != null) {
+            return;
+        }
+        Path diretorio = Paths.get(properties.getDiretorio());
+
+        boolean restaurado = false;
+        if (properties.isReplayNaInicializacao()) {
+            SaldosJournal saldos = JournalReplay.reconstruir(diretorio);
+            restaurarBanco(saldos);
+            restaurado = true;
+            logger.info("Saldos reconstruídos do journal: Beneficios={} Sequencia={}",
+                    saldos.getSaldos().size(), saldos.getSequencia());
+        }
+
+        JournalWriter novo = new JournalWriter(diretorio, properties.getTamanhoSegmento(),
+                properties.getFsync() == PoliticaFsync.CADA_REGISTRO);
+        if (restaurado || SaldosJournal.carregarUltimo(diretorio) == null) {
+            // Primeira execução ou banco restaurado: o banco já reflete tudo que foi registrado até
+            // aqui, e as versões das próximas alterações passam a ser comparadas com as dele
+            SaldosJournal inicial = new SaldosJournal(novo.getUltimaSequencia());
+            for (Beneficio beneficio : repository.findAll()) {
+                inicial.definir(beneficio.getId(), centavos(beneficio.getValor()),
+                        versao(beneficio.getVersion()), Boolean.TRUE.equals(beneficio.getAtivo()));
+            }
+            inicial.gravar(diretorio);
+        }
+        writer = novo;
+
+        agendador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "journal-manutencao");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (properties.getFsync() == PoliticaFsync.INTERVALO) {
+            long intervalo = properties.getIntervaloFsync().toMillis();
+            agendador.scheduleWithFixedDelay(novo::forcar, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        }
+        long intervaloSnapshot = properties.getIntervaloSnapshot().toMillis();
+        agendador.scheduleWithFixedDelay(this::snapshot, intervaloSnapshot, intervaloSnapshot, TimeUnit.MILLISECONDS);
+
+        logger.info("Journal iniciado: Diretorio={} Fsync={} Sequencia={}",
+                diretorio.toAbsolutePath(), properties.getFsync(), novo.getUltimaSequencia());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBeneficioAlterado(BeneficioAlteradoEvent evento) {
+        JournalWriter atual = writer;
+        BeneficioResponseDTO beneficio = evento.getBeneficio();
+        if (atual == null || beneficio == null || beneficio.getId() == null) {
+            return;
+        }
+        byte tipo = switch (evento.getTipo()) {
+            case CRIADO -> RegistroJournal.CRIADO;
+            case ATUALIZADO -> RegistroJournal.ATUALIZADO;
+            case DESATIVADO -> RegistroJournal.DESATIVADO;
+        };
+        atual.append(tipo, beneficio.getId(), versao(beneficio.getVersion()), centavos(beneficio.getValor()),
+                Boolean.TRUE.equals(beneficio.getAtivo()));
+    }
+
+    /**
+     * Registra os saldos resultantes dos dois lados da transferência
+     * Saldos e versões vêm do evento quando a estratégia os conhece; os demais IDs são relidos numa
+     * única consulta por transação, depois do commit. No motor particionado o banco ainda não tem a
+     * transferência; ela é registrada em onSaldosGravados.
+     */
+    @EventListener
+    public void onTransferenciaRealizada(TransferenciaRealizadaEvent evento) {
+        if (writer == null || transferenciaProperties.getEstrategia() == EstrategiaTransferencia.PARTICIONADA) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransferenciasDoCommit avulsa = new TransferenciasDoCommit();
+            avulsa.adicionar(evento);
+            avulsa.registrar();
+            return;
+        }
+        TransferenciasDoCommit doCommit = (TransferenciasDoCommit) TransactionSynchronizationManager.getResource(this);
+        if (doCommit == null) {
+            doCommit = new TransferenciasDoCommit();
+            TransactionSynchronizationManager.bindResource(this, doCommit);
+            TransactionSynchronizationManager.registerSynchronization(doCommit);
+        }
+        doCommit.adicionar(evento);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSaldosGravados(SaldosGravadosEvent evento) {
+        if (writer == null) {
+            return;
+        }
+        registrarSaldos(evento.getIds());
+    }
+
+    /**
+     * Transferências de uma transação, registradas no journal só se ela for confirmada
+     */
+    private final class TransferenciasDoCommit implements TransactionSynchronization {
+
+        private final List<TransferenciaRealizadaEvent> conhecidas = new ArrayList<>();
+        private final Set<Long> relidos = new LinkedHashSet<>();
+
+        void adicionar(TransferenciaRealizadaEvent evento) {
+            if (evento.temSaldos()) {
+                conhecidas.add(evento);
+            } else {
+                relidos.add(evento.getDeId());
+                relidos.add(evento.getParaId());
+            }
+        }
+
+        void registrar() {
+            JournalWriter atual = writer;
+            if (atual == null) {
+                return;
+            }
+            for (TransferenciaRealizadaEvent evento : conhecidas) {
+                // Transferências só movimentam benefícios ativos
+                atual.append(RegistroJournal.TRANSFERENCIA, evento.getDeId(), evento.getVersaoDe(),
+                        centavos(evento.getSaldoDe()), true);
+                atual.append(RegistroJournal.TRANSFERENCIA, evento.getParaId(), evento.getVersaoPara(),
+                        centavos(evento.getSaldoPara()), true);
+            }
+            if (!relidos.isEmpty()) {
+                registrarSaldos(relidos);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            registrar();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(JournalService.this);
+        }
+    }
+
+    private void registrarSaldos(Collection<Long> ids) {
+        JournalWriter atual = writer;
+        if (atual == null) {
+            return;
+        }
+        for (BeneficioResponseDTO beneficio : repository.findAllResponseByIdIn(ids)) {
+            atual.append(RegistroJournal.TRANSFERENCIA, beneficio.getId(), versao(beneficio.getVersion()),
+                    centavos(beneficio.getValor()), Boolean.TRUE.equals(beneficio.getAtivo()));
+        }
+    }
+
+    /**
+     * Gera um snapshot até a última sequência gravada e descarta o que ele cobre
+     */
+    void snapshot() {
+        JournalWriter atual = writer;
+        if (atual == null) {
+            return;
+        }
+        Path diretorio = Paths.get(properties.getDiretorio());
+        try {
+            long ate = atual.getUltimaSequencia();
+            SaldosJournal saldos = JournalReplay.reconstruir(diretorio, ate);
+            if (SaldosJournal.carregarUltimo(diretorio).getSequencia() == saldos.getSequencia()) {
+                return;
+            }
+            saldos.gravar(diretorio);
+            JournalReplay.compactar(diretorio, saldos.getSequencia());
+            logger.info("Snapshot do journal gravado: Sequencia={} Beneficios={}",
+                    saldos.getSequencia(), saldos.getSaldos().size());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Falha ao gerar snapshot do journal", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void encerrar() throws IOException, InterruptedException {
+        JournalWriter atual = writer;
+        if (atual == null) {
+            return;
+        }
+        writer = null;
+        agendador.shutdown();
+        agendador.awaitTermination(30, TimeUnit.SECONDS);
+        atual.close();
+    }
+
+    /**
+     * Grava no banco os saldos reconstruídos
+     * Não há exclusão física de benefícios, então um ID do journal sem linha no banco indica que o
+     * banco não é o que o journal descreve: as linhas existentes são restauradas e a inicialização falha.
+     */
+    private void restaurarBanco(SaldosJournal saldos) {
+        List<Long> ids = new ArrayList<>(saldos.getSaldos().keySet());
+        List<Long> ausentes = new ArrayList<>();
+        int tamanhoLote = 500;
+        for (int inicio = 0; inicio < ids.size(); inicio += tamanhoLote) {
+            List<Long> lote = ids.subList(inicio, Math.min(ids.size(), inicio + tamanhoLote));
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Beneficio> beneficios = repository.findAllByIdInOrderById(lote);
+                Map<Long, SaldosJournal.Saldo> valores = saldos.getSaldos();
+                if (beneficios.size() < lote.size()) {
+                    Set<Long> encontrados = new HashSet<>();
+                    beneficios.forEach(b -> encontrados.add(b.getId()));
+                    lote.stream().filter(id -> !encontrados.contains(id)).forEach(ausentes::add);
+                }
+                for (Beneficio beneficio : beneficios) {
+                    SaldosJournal.Saldo saldo = valores.get(beneficio.getId());
+                    beneficio.setValor(BigDecimal.valueOf(saldo.getCentavos(), 2));
+                    beneficio.setAtivo(saldo.isAtivo());
+                }
+                repository.saveAll(beneficios);
+            });
+        }
+        if (!ausentes.isEmpty()) {
+            logger.error("Benefícios do journal ausentes no banco: IDs={}", ausentes);
+            throw new IllegalStateException("Journal contém " + ausentes.size() + " benefícios ausentes no banco");
+        }
+    }
+
+    private static long versao(Long versao) {
+        return versao != null ? versao : 0L;
+    }
+
+    static long centavos(BigDecimal valor) {
+        return valor.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.backend.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Escritor append-only do journal sobre segmentos mapeados em memória
+ *
+ * Cada segmento tem tamanho fixo e se chama journal-&lt;primeira sequência&gt;.log; ao encher,
+ * é forçado para o disco e um novo é criado. O append escreve primitivos direto no buffer
+ * mapeado e reutiliza o mesmo CRC32, sem alocar objetos por registro.
+ */
+public class JournalWriter implements AutoCloseable {
+
+    static final String PREFIXO = "journal-";
+    static final String SUFIXO = ".log";
+
+    private final Path diretorio;
+    private final int tamanhoSegmento;
+    private final boolean fsyncPorRegistro;
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel canal;
+    private MappedByteBuffer buffer;
+    private long sequencia;
+    private volatile long ultimaSequencia;
+    private boolean pendenteFsync;
+
+    /**
+     * Abre o diretório, continuando o último segmento a partir do primeiro espaço livre
+     */
+    public JournalWriter(Path diretorio, int tamanhoSegmento, boolean fsyncPorRegistro) throws IOException {
+        this.diretorio = diretorio;
+        this.tamanhoSegmento = Math.max(RegistroJournal.TAMANHO,
+                tamanhoSegmento - tamanhoSegmento % RegistroJournal.TAMANHO);
+        this.fsyncPorRegistro = fsyncPorRegistro;
+        Files.createDirectories(diretorio);
+
+        List<Path> segmentos = segmentos(diretorio);
+        if (segmentos.isEmpty()) {
+            abrir(1);
+        } else {
+            Path ultimo = segmentos.get(segmentos.size() - 1);
+            long ultimaLida = RegistroJournal.ler(ultimo, r -> { });
+            sequencia = ultimaLida == 0 ? primeiraSequencia(ultimo) - 1 : ultimaLida;
+            abrirExistente(ultimo, (int) (sequencia - primeiraSequencia(ultimo) + 1) * RegistroJournal.TAMANHO);
+        }
+        ultimaSequencia = sequencia;
+    }
+
+    /**
+     * Acrescenta um registro; caminho quente, sem alocação
+     *
+     * @return sequência atribuída
+     */
+    public synchronized long append(byte tipo, long id, long versao, long centavos, boolean ativo) {
+        if (buffer.remaining() < RegistroJournal.TAMANHO) {
+            rolar();
+        }
+        long seq = ++sequencia;
+        int inicio = buffer.position();
+        buffer.putLong(seq)
+                .putLong(System.currentTimeMillis())
+                .putLong(id)
+                .putLong(versao)
+                .putLong(centavos)
+                .put(tipo)
+                .put(ativo ? (byte) 1 : (byte) 0)
+                .putShort((short) 0);
+
+        crc.reset();
+        buffer.position(inicio).limit(inicio + RegistroJournal.OFFSET_CRC);
+        crc.update(buffer);
+        buffer.limit(buffer.capacity());
+        buffer.putInt((int) crc.getValue());
+
+        if (fsyncPorRegistro) {
+            buffer.force(inicio, RegistroJournal.TAMANHO);
+        } else {
+            pendenteFsync = true;
+        }
+        ultimaSequencia = seq;
+        return seq;
+    }
+
+    /**
+     * Força para o disco os registros ainda não sincronizados
+     */
+    public synchronized void forcar() {
+        if (pendenteFsync) {
+            buffer.force();
+            pendenteFsync = false;
+        }
+    }
+
+    public long getUltimaSequencia() {
+        return ultimaSequencia;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        canal.close();
+    }
+
+    private void rolar() {
+        try {
+            buffer.force();
+            canal.close();
+            abrir(sequencia + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar novo segmento do journal", e);
+        }
+    }
+
+    private void abrir(long primeiraSequencia) throws IOException {
+        Path segmento = diretorio.resolve(String.format("%s%020d%s", PREFIXO, primeiraSequencia, SUFIXO));
+        abrirExistente(segmento, 0);
+    }
+
+    private void abrirExistente(Path segmento, int posicao) throws IOException {
+        canal = FileChannel.open(segmento,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanhoSegmento);
+        buffer.position(Math.min(posicao, tamanhoSegmento));
+    }
+
+    /**
+     * Segmentos do diretório em ordem de sequência
+     */
+    static List<Path> segmentos(Path diretorio) throws IOException {
+        if (!Files.isDirectory(diretorio)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .filter(p -> p.getFileName().toString().startsWith(PREFIXO)
+                            && p.getFileName().toString().endsWith(SUFIXO))
+                    .sorted()
+                    .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        }
+    }
+
+    static long primeiraSequencia(Path segmento) {
+        String nome = segmento.getFileName().toString();
+        return Long.parseLong(nome.substring(PREFIXO.length(), nome.length() - SUFIXO.length()));
+    }
+}
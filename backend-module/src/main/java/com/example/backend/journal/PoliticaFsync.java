@@ -0,0 +1,22 @@
+package com.example.backend.journal;
+
+/**
+ * Quando o journal força os registros para o disco
+ */
+public enum PoliticaFsync {
+
+    /**
+     * fsync a cada registro: nenhuma perda em queda, maior latência por escrita
+     */
+    CADA_REGISTRO,
+
+    /**
+     * fsync periódico (beneficios.journal.intervalo-fsync): perde no máximo um intervalo
+     */
+    INTERVALO,
+
+    /**
+     * Sem fsync explícito: o sistema operacional grava as páginas quando quiser
+     */
+    SISTEMA_OPERACIONAL
+}
@@ -0,0 +1,139 @@
+package com.example.backend.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Layout binário fixo de um registro do journal (48 bytes, big-endian)
+ *
+ * <pre>
+ *  0  long  sequência (começa em 1; 0 marca fim do segmento)
+ *  8  long  instante (epoch millis)
+ * 16  long  id do benefício
+ * 24  long  versão da linha (@Version) no estado registrado
+ * 32  long  saldo em centavos após a alteração
+ * 40  byte  tipo (ver constantes)
+ * 41  byte  ativo (1/0)
+ * 42  short reservado
+ * 44  int   CRC32 dos bytes 0..43
+ * </pre>
+ *
+ * Todo registro é o estado absoluto de um benefício confirmado no banco, nunca uma variação: os
+ * listeners pós-commit podem gravar fora da ordem de commit, e o replay descarta o registro cuja
+ * versão não for mais nova que a já aplicada.
+ *
+ * Também guarda a leitura dos segmentos, usada fora do caminho quente (snapshot e replay).
+ */
+public final class RegistroJournal {
+
+    public static final int TAMANHO = 48;
+    static final int OFFSET_CRC = 44;
+
+    public static final byte CRIADO = 1;
+    public static final byte ATUALIZADO = 2;
+    public static final byte DESATIVADO = 3;
+    /**
+     * Saldo de um dos lados de uma transferência, relido do banco após o commit
+     */
+    public static final byte TRANSFERENCIA = 4;
+
+    private final long sequencia;
+    private final long instante;
+    private final long id;
+    private final long versao;
+    private final long centavos;
+    private final byte tipo;
+    private final boolean ativo;
+
+    private RegistroJournal(long sequencia, long instante, long id, long versao,
+                            long centavos, byte tipo, boolean ativo) {
+        this.sequencia = sequencia;
+        this.instante = instante;
+        this.id = id;
+        this.versao = versao;
+        this.centavos = centavos;
+        this.tipo = tipo;
+        this.ativo = ativo;
+    }
+
+    /**
+     * Percorre os registros válidos de um segmento, parando no primeiro vazio ou corrompido
+     *
+     * @return sequência do último registro lido (0 se nenhum)
+     */
+    static long ler(Path segmento, Consumer<RegistroJournal> consumidor) throws IOException {
+        try (FileChannel canal = FileChannel.open(segmento, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            CRC32 crc = new CRC32();
+            long ultima = 0;
+            while (buffer.remaining() >= TAMANHO) {
+                RegistroJournal registro = ler(buffer, buffer.position(), crc);
+                if (registro == null) {
+                    break;
+                }
+                buffer.position(buffer.position() + TAMANHO);
+                ultima = registro.sequencia;
+                consumidor.accept(registro);
+            }
+            return ultima;
+        }
+    }
+
+    /**
+     * Lê o registro na posição dada, ou null se o espaço estiver vazio ou com CRC inválido
+     */
+    static RegistroJournal ler(ByteBuffer buffer, int inicio, CRC32 crc) {
+        long sequencia = buffer.getLong(inicio);
+        if (sequencia == 0) {
+            return null;
+        }
+        crc.reset();
+        crc.update(buffer.slice(inicio, OFFSET_CRC));
+        if ((int) crc.getValue() != buffer.getInt(inicio + OFFSET_CRC)) {
+            return null;
+        }
+        return new RegistroJournal(
+                sequencia,
+                buffer.getLong(inicio + 8),
+                buffer.getLong(inicio + 16),
+                buffer.getLong(inicio + 24),
+                buffer.getLong(inicio + 32),
+                buffer.get(inicio + 40),
+                buffer.get(inicio + 41) == 1);
+    }
+
+    // Getters
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    public long getInstante() {
+        return instante;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    public long getCentavos() {
+        return centavos;
+    }
+
+    public byte getTipo() {
+        return tipo;
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.backend.journal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Saldos reconstruídos do journal até uma sequência, e seu formato de snapshot
+ *
+ * Snapshot (snapshot-&lt;sequência&gt;.bin): int mágico, long sequência, int quantidade e, por
+ * benefício, long id, long centavos, long versão, byte ativo. É gravado num arquivo temporário e renomeado.
+ */
+public class SaldosJournal {
+
+    static final String PREFIXO = "snapshot-";
+    static final String SUFIXO = ".bin";
+    private static final int MAGICO = 0x424E4632;
+
+    private final Map<Long, Saldo> saldos = new HashMap<>();
+    private long sequencia;
+
+    public SaldosJournal(long sequencia) {
+        this.sequencia = sequencia;
+    }
+
+    /**
+     * Aplica um registro posterior à sequência atual
+     * Registros com versão igual ou anterior à já conhecida do benefício chegaram fora da ordem de
+     * commit e são descartados.
+     */
+    public void aplicar(RegistroJournal registro) {
+        if (registro.getSequencia() <= sequencia) {
+            return;
+        }
+        switch (registro.getTipo()) {
+            case RegistroJournal.CRIADO, RegistroJournal.ATUALIZADO,
+                    RegistroJournal.DESATIVADO, RegistroJournal.TRANSFERENCIA -> {
+                Saldo atual = saldos.get(registro.getId());
+                if (atual == null || registro.getVersao() > atual.versao) {
+                    definir(registro.getId(), registro.getCentavos(), registro.getVersao(), registro.isAtivo());
+                }
+            }
+            default -> {
+                // Tipo desconhecido: registro de versão futura, ignorado
+            }
+        }
+        sequencia = registro.getSequencia();
+    }
+
+    public void definir(long id, long centavos, long versao, boolean ativo) {
+        saldos.put(id, new Saldo(centavos, versao, ativo));
+    }
+
+    public Map<Long, Saldo> getSaldos() {
+        return saldos;
+    }
+
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    /**
+     * Grava o snapshot no diretório e devolve o caminho final
+     */
+    public Path gravar(Path diretorio) throws IOException {
+        Files.createDirectories(diretorio);
+        Path destino = diretorio.resolve(String.format("%s%020d%s", PREFIXO, sequencia, SUFIXO));
+        Path temporario = diretorio.resolve(destino.getFileName() + ".tmp");
+        try (OutputStream arquivo = Files.newOutputStream(temporario);
+             DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(arquivo))) {
+            saida.writeInt(MAGICO);
+            saida.writeLong(sequencia);
+            saida.writeInt(saldos.size());
+            for (Map.Entry<Long, Saldo> entrada : saldos.entrySet()) {
+                saida.writeLong(entrada.getKey());
+                saida.writeLong(entrada.getValue().centavos);
+                saida.writeLong(entrada.getValue().versao);
+                saida.writeBoolean(entrada.getValue().ativo);
+            }
+        }
+        return Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Carrega o snapshot mais recente do diretório, ou null se não houver
+     */
+    public static SaldosJournal carregarUltimo(Path diretorio) throws IOException {
+        List<Path> snapshots = snapshots(diretorio);
+        if (snapshots.isEmpty()) {
+            return null;
+        }
+        try (InputStream arquivo = Files.newInputStream(snapshots.get(snapshots.size() - 1));
+             DataInputStream entrada = new DataInputStream(new BufferedInputStream(arquivo))) {
+            if (entrada.readInt() != MAGICO) {
+                throw new IOException("Snapshot do journal com formato desconhecido");
+            }
+            SaldosJournal saldos = new SaldosJournal(entrada.readLong());
+            int quantidade = entrada.readInt();
+            for (int i = 0; i < quantidade; i++) {
+                saldos.definir(entrada.readLong(), entrada.readLong(), entrada.readLong(), entrada.readBoolean());
+            }
+            return saldos;
+        }
+    }
+
+    /**
+     * Snapshots do diretório em ordem de sequência
+     */
+    static List<Path> snapshots(Path diretorio) throws IOException {
+        if (!Files.isDirectory(diretorio)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .filter(p -> p.getFileName().toString().startsWith(PREFIXO)
+                            && p.getFileName().toString().endsWith(SUFIXO))
+                    .sorted()
+                    .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        }
+    }
+
+    /**
+     * Saldo de um benefício em centavos, na versão da linha em que foi registrado
+     */
+    public static final class Saldo {
+        final long centavos;
+        final long versao;
+        final boolean ativo;
+
+        Saldo(long centavos, long versao, boolean ativo) {
+            this.centavos = centavos;
+            this.versao = versao;
+            this.ativo = ativo;
+        }
+
+        public long getCentavos() {
+            return centavos;
+        }
+
+        public long getVersao() {
+            return versao;
+        }
+
+        public boolean isAtivo() {
+            return ativo;
+        }
+    }
+}
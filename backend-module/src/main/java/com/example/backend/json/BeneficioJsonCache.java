@@ -0,0 +1,153 @@
+package com.example.backend.json;
+
+import com.example.backend.config.CacheBeneficioProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.SaldosGravadosEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.example.backend.repository.VersaoBeneficio;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Cache do JSON já serializado de cada benefício, por (id, version), limitado pela soma dos bytes
+ *
+ * As listagens leem só ID e versão do banco e montam a resposta com os fragmentos cujo version
+ * confere; os demais são carregados, serializados uma vez com o ObjectMapper da aplicação e
+ * guardados. Um fragmento de versão anterior nunca é servido, então as invalidações após o commit
+ * (escritas, transferências e gravações do motor particionado) só liberam memória mais cedo.
+ * Leituras dentro de transação de escrita não gravam no cache, como em BeneficioCache.
+ */
+@Component
+public class BeneficioJsonCache {
+
+    static final String NOME = "beneficios-json";
+
+    private final boolean habilitado;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Fragmento> fragmentos;
+
+    public BeneficioJsonCache(CacheBeneficioProperties properties, ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.habilitado = properties.isJsonHabilitado();
+        this.objectMapper = objectMapper;
+        this.fragmentos = Caffeine.newBuilder()
+                .maximumWeight(properties.getJsonTamanhoMaximo().toBytes())
+                .weigher((Long id, Fragmento fragmento) -> fragmento.json().length)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragmentos, NOME);
+        Gauge.builder("beneficios.cache.json.bytes", fragmentos,
+                        cache -> cache.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L))
+                .description("Bytes de JSON pré-serializado em memória")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Monta o array JSON na ordem das versões informadas
+     * Ausentes ou desatualizados vêm todos de uma única chamada ao carregador; IDs que ele não
+     * devolver (removidos entre as consultas) ficam fora da lista.
+     */
+    public ListaJson montar(List<VersaoBeneficio> versoes,
+                            Function<Set<Long>, Map<Long, BeneficioResponseDTO>> carregador) {
+        boolean usarCache = habilitado && !emTransacaoDeEscrita();
+        byte[][] json = new byte[versoes.size()][];
+        Set<Long> faltantes = new LinkedHashSet<>();
+        for (int i = 0; i < versoes.size(); i++) {
+            VersaoBeneficio versao = versoes.get(i);
+            Fragmento fragmento = usarCache ? fragmentos.getIfPresent(versao.id()) : null;
+            if (fragmento != null && fragmento.version().equals(versao.version())) {
+                json[i] = fragmento.json();
+            } else {
+                faltantes.add(versao.id());
+            }
+        }
+
+        if (!faltantes.isEmpty()) {
+            Map<Long, BeneficioResponseDTO> carregados = carregador.apply(faltantes);
+            for (int i = 0; i < versoes.size(); i++) {
+                if (json[i] != null) {
+                    continue;
+                }
+                BeneficioResponseDTO beneficio = carregados.get(versoes.get(i).id());
+                if (beneficio != null) {
+                    json[i] = serializar(beneficio);
+                    if (usarCache && beneficio.getVersion() != null) {
+                        guardar(new Fragmento(beneficio.getId(), beneficio.getVersion(), json[i]));
+                    }
+                }
+            }
+        }
+
+        List<byte[]> resultado = new ArrayList<>(versoes.size());
+        for (byte[] fragmento : json) {
+            if (fragmento != null) {
+                resultado.add(fragmento);
+            }
+        }
+        return new ListaJson(resultado);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBeneficioAlterado(BeneficioAlteradoEvent evento) {
+        BeneficioResponseDTO beneficio = evento.getBeneficio();
+        if (beneficio != null && beneficio.getId() != null) {
+            fragmentos.asMap().computeIfPresent(beneficio.getId(), (id, atual) ->
+                    beneficio.getVersion() != null && atual.version() > beneficio.getVersion() ? atual : null);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransferenciaRealizada(TransferenciaRealizadaEvent evento) {
+        fragmentos.invalidate(evento.getDeId());
+        fragmentos.invalidate(evento.getParaId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSaldosGravados(SaldosGravadosEvent evento) {
+        fragmentos.invalidateAll(evento.getIds());
+    }
+
+    /**
+     * Mantém a maior versão quando duas listagens concorrentes carregam o mesmo benefício
+     */
+    private void guardar(Fragmento novo) {
+        fragmentos.asMap().merge(novo.id(), novo, (atual, candidato) ->
+                candidato.version() >= atual.version() ? candidato : atual);
+    }
+
+    private byte[] serializar(BeneficioResponseDTO beneficio) {
+        try {
+            return objectMapper.writeValueAsBytes(beneficio);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean emTransacaoDeEscrita() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private record Fragmento(Long id, Long version, byte[] json) {
+    }
+}
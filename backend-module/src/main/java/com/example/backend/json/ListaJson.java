@@ -0,0 +1,30 @@
+package com.example.backend.json;
+
+import java.util.List;
+
+/**
+ * Array JSON já serializado, em fragmentos (um por item) escritos em sequência na resposta
+ */
+public final class ListaJson {
+
+    private final List<byte[]> fragmentos;
+
+    public ListaJson(List<byte[]> fragmentos) {
+        this.fragmentos = fragmentos;
+    }
+
+    public List<byte[]> getFragmentos() {
+        return fragmentos;
+    }
+
+    /**
+     * Tamanho do array completo em bytes: colchetes, vírgulas e fragmentos
+     */
+    public long tamanho() {
+        long tamanho = 2 + Math.max(0, fragmentos.size() - 1);
+        for (byte[] fragmento : fragmentos) {
+            tamanho += fragmento.length;
+        }
+        return tamanho;
+    }
+}
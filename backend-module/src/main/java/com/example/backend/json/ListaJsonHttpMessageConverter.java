@@ -0,0 +1,62 @@
+package com.example.backend.json;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Escreve uma ListaJson concatenando os fragmentos direto no corpo da resposta, sem passar pelo Jackson
+ * Só escrita e só application/json; registrado pelo Spring Boot por ser um bean HttpMessageConverter.
+ */
+@Component
+public class ListaJsonHttpMessageConverter extends AbstractHttpMessageConverter<ListaJson> {
+
+    private static final byte[] ABRE = {'['};
+    private static final byte[] SEPARADOR = {','};
+    private static final byte[] FECHA = {']'};
+
+    public ListaJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ListaJson.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ListaJson readInternal(Class<? extends ListaJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ListaJson é somente escrita", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ListaJson lista, MediaType contentType) {
+        return lista.tamanho();
+    }
+
+    @Override
+    protected void writeInternal(ListaJson lista, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream saida = outputMessage.getBody();
+        List<byte[]> fragmentos = lista.getFragmentos();
+        saida.write(ABRE);
+        for (int i = 0; i < fragmentos.size(); i++) {
+            if (i > 0) {
+                saida.write(SEPARADOR);
+            }
+            saida.write(fragmentos.get(i));
+        }
+        saida.write(FECHA);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.backend.notificacao;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Uma conexão SSE com sua fila de eventos pendentes
+ *
+ * A fila é ligada (sem array pré-alocado): um assinante ocioso custa só o emitter e alguns campos.
+ * Apenas uma thread de envio por vez drena a fila (flag agendado), o que preserva a ordem.
+ */
+class Assinante {
+
+    /**
+     * Marcador do keep-alive, enviado como comentário SSE
+     */
+    static final EventoBeneficio HEARTBEAT = new EventoBeneficio(0, null, null);
+
+    private final SseEmitter emitter;
+    private final Queue<EventoBeneficio> pendentes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger quantidade = new AtomicInteger();
+    private final AtomicBoolean agendado = new AtomicBoolean();
+    private final AtomicBoolean completo = new AtomicBoolean();
+    private volatile List<EventoBeneficio> retomada;
+    private volatile boolean encerrado;
+
+    Assinante(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    /**
+     * Eventos perdidos desde o Last-Event-ID, enviados antes dos novos (não contam na capacidade)
+     */
+    void retomar(List<EventoBeneficio> eventos) {
+        this.retomada = eventos;
+    }
+
+    /**
+     * @return false se a fila já está na capacidade (consumidor lento)
+     */
+    boolean enfileirar(EventoBeneficio evento, int capacidade) {
+        if (quantidade.incrementAndGet() > capacidade) {
+            quantidade.decrementAndGet();
+            return false;
+        }
+        pendentes.add(evento);
+        return true;
+    }
+
+    boolean ocioso() {
+        return quantidade.get() == 0;
+    }
+
+    /**
+     * Reserva a drenagem da fila para a thread chamadora
+     */
+    boolean agendar() {
+        return agendado.compareAndSet(false, true);
+    }
+
+    void liberar() {
+        agendado.set(false);
+    }
+
+    /**
+     * Ainda há eventos a enviar, ou o encerramento pedido não foi concluído
+     */
+    boolean precisaEnvio() {
+        return !completo.get() && (encerrado || quantidade.get() > 0);
+    }
+
+    /**
+     * Escreve os pendentes na conexão; pode bloquear se o cliente não lê, por isso roda no pool de envio
+     */
+    void enviarPendentes() throws IOException {
+        List<EventoBeneficio> perdidos = retomada;
+        if (perdidos != null) {
+            retomada = null;
+            for (EventoBeneficio evento : perdidos) {
+                enviar(evento);
+            }
+        }
+        EventoBeneficio evento;
+        while (!encerrado && (evento = pendentes.poll()) != null) {
+            quantidade.decrementAndGet();
+            enviar(evento);
+        }
+    }
+
+    private void enviar(EventoBeneficio evento) throws IOException {
+        if (evento == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(evento.tipo());
+        if (evento.id() > 0) {
+            builder.id(String.valueOf(evento.id()));
+        }
+        emitter.send(builder.data(evento.dados(), MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Marca para encerramento e descarta os pendentes; a conexão é fechada pela thread de envio
+     */
+    void encerrar() {
+        encerrado = true;
+        pendentes.clear();
+        quantidade.set(0);
+    }
+
+    boolean isEncerrado() {
+        return encerrado;
+    }
+
+    /**
+     * Fecha a conexão uma única vez
+     */
+    void completar() {
+        if (completo.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+    }
+}
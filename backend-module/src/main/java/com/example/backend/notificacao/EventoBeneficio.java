@@ -0,0 +1,8 @@
+package com.example.backend.notificacao;
+
+/**
+ * Evento já serializado para o stream SSE: id sequencial (Last-Event-ID), nome e JSON dos dados
+ * Serializado uma vez e compartilhado por todos os assinantes.
+ */
+record EventoBeneficio(long id, String tipo, String dados) {
+}
@@ -0,0 +1,222 @@
+package com.example.backend.notificacao;
+
+import com.example.backend.config.EventosProperties;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.example.backend.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stream SSE de alterações de benefícios (GET /api/v1/beneficios/eventos)
+ *
+ * Criações, alterações, desativações e transferências confirmadas (AFTER_COMMIT) são só entregues a
+ * uma thread distribuidora: quem publicou não espera serialização nem conexões. A distribuidora
+ * serializa o evento uma vez, grava no histórico circular e o enfileira em cada assinante; threads
+ * de envio drenam as filas. Assinante cuja fila passa da capacidade é desconectado e pode retomar
+ * com Last-Event-ID enquanto os eventos perdidos estiverem no histórico; fora dele recebe
+ * "reinicio" e deve ressincronizar por /mudancas.
+ */
+@Service
+public class EventosBeneficioService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventosBeneficioService.class);
+
+    static final String TIPO_TRANSFERENCIA = "transferencia";
+    static final String TIPO_REINICIO = "reinicio";
+
+    private final EventosProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HistoricoEventos historico;
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService distribuidor;
+    private final ExecutorService envio;
+    private final Counter descartados;
+
+    public EventosBeneficioService(EventosProperties properties, ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.historico = new HistoricoEventos(properties.getTamanhoHistorico());
+        this.distribuidor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "eventos-distribuidor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger contador = new AtomicInteger();
+        this.envio = Executors.newFixedThreadPool(Math.max(1, properties.getThreadsEnvio()), r -> {
+            Thread thread = new Thread(r, "eventos-envio-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeat = properties.getHeartbeat().toMillis();
+        distribuidor.scheduleWithFixedDelay(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("beneficios.eventos.assinantes", assinantes, Set::size)
+                .description("Conexões SSE abertas em /eventos")
+                .register(meterRegistry);
+        this.descartados = Counter.builder("beneficios.eventos.descartados")
+                .description("Assinantes desconectados por não acompanhar os eventos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre uma conexão SSE; com ultimoEventoId, reenvia antes os eventos perdidos
+     */
+    public SseEmitter assinar(Long ultimoEventoId) {
+        if (assinantes.size() >= properties.getMaximoAssinantes()) {
+            throw new ServiceUnavailableException("Limite de conexões de eventos atingido. Tente novamente.");
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        registrar(emitter, ultimoEventoId);
+        return emitter;
+    }
+
+    void registrar(SseEmitter emitter, Long ultimoEventoId) {
+        Assinante assinante = new Assinante(emitter);
+        emitter.onCompletion(() -> remover(assinante));
+        emitter.onTimeout(() -> remover(assinante));
+        emitter.onError(erro -> remover(assinante));
+        executar(() -> {
+            // Na distribuidora: nenhum evento entra entre a leitura do histórico e o registro
+            if (ultimoEventoId != null) {
+                List<EventoBeneficio> perdidos = historico.apos(ultimoEventoId);
+                assinante.retomar(perdidos != null ? perdidos
+                        : List.of(new EventoBeneficio(0, TIPO_REINICIO, "{\"ultimoId\":" + historico.ultimoId() + "}")));
+            }
+            if (!assinante.isEncerrado()) {
+                assinantes.add(assinante);
+                agendarEnvio(assinante);
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBeneficioAlterado(BeneficioAlteradoEvent evento) {
+        publicar(evento.getTipo().name().toLowerCase(Locale.ROOT), evento.getBeneficio());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransferenciaRealizada(TransferenciaRealizadaEvent evento) {
+        publicar(TIPO_TRANSFERENCIA, evento);
+    }
+
+    int quantidadeAssinantes() {
+        return assinantes.size();
+    }
+
+    private void publicar(String tipo, Object dados) {
+        executar(() -> distribuir(tipo, dados));
+    }
+
+    private void distribuir(String tipo, Object dados) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(dados);
+        } catch (JsonProcessingException e) {
+            logger.warn("Evento {} não serializado: {}", tipo, e.getMessage());
+            return;
+        }
+        EventoBeneficio evento = historico.adicionar(tipo, json);
+        int capacidade = properties.getCapacidadeAssinante();
+        for (Assinante assinante : assinantes) {
+            if (assinante.enfileirar(evento, capacidade)) {
+                agendarEnvio(assinante);
+            } else {
+                descartados.increment();
+                logger.debug("Assinante de eventos lento desconectado no evento {}", evento.id());
+                desconectar(assinante);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Assinante assinante : assinantes) {
+            if (assinante.ocioso() && assinante.enfileirar(Assinante.HEARTBEAT, 1)) {
+                agendarEnvio(assinante);
+            }
+        }
+    }
+
+    private void agendarEnvio(Assinante assinante) {
+        if (!assinante.agendar()) {
+            return;
+        }
+        try {
+            envio.execute(() -> enviar(assinante));
+        } catch (RejectedExecutionException e) {
+            assinante.liberar();
+        }
+    }
+
+    private void enviar(Assinante assinante) {
+        try {
+            assinante.enviarPendentes();
+            if (assinante.isEncerrado()) {
+                assinante.completar();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Cliente fechou a conexão ou o emitter já terminou
+            remover(assinante);
+            return;
+        }
+        assinante.liberar();
+        if (assinante.precisaEnvio()) {
+            agendarEnvio(assinante);
+        }
+    }
+
+    /**
+     * Tira o assinante da distribuição; o fechamento fica com a thread de envio, para a
+     * distribuidora nunca esperar por uma conexão travada
+     */
+    private void desconectar(Assinante assinante) {
+        remover(assinante);
+        agendarEnvio(assinante);
+    }
+
+    private void remover(Assinante assinante) {
+        assinante.encerrar();
+        assinantes.remove(assinante);
+    }
+
+    private void executar(Runnable tarefa) {
+        try {
+            distribuidor.execute(tarefa);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Evento ignorado no encerramento");
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        distribuidor.shutdownNow();
+        for (Assinante assinante : assinantes) {
+            remover(assinante);
+            assinante.completar();
+        }
+        envio.shutdownNow();
+    }
+}
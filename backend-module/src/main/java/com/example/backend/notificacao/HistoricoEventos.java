@@ -0,0 +1,47 @@
+package com.example.backend.notificacao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffer circular com os últimos eventos publicados, para retomada por Last-Event-ID
+ * Não é thread-safe: só a thread distribuidora de EventosBeneficioService o acessa.
+ */
+class HistoricoEventos {
+
+    private final EventoBeneficio[] eventos;
+    private long ultimoId;
+
+    HistoricoEventos(int capacidade) {
+        this.eventos = new EventoBeneficio[Math.max(1, capacidade)];
+    }
+
+    /**
+     * Registra o evento com o próximo id, sobrescrevendo o mais antigo quando cheio
+     */
+    EventoBeneficio adicionar(String tipo, String dados) {
+        EventoBeneficio evento = new EventoBeneficio(++ultimoId, tipo, dados);
+        eventos[(int) ((evento.id() - 1) % eventos.length)] = evento;
+        return evento;
+    }
+
+    /**
+     * Eventos posteriores ao id, em ordem
+     *
+     * @return null se algum já saiu do buffer ou o id é desconhecido (ex.: anterior a um reinício)
+     */
+    List<EventoBeneficio> apos(long id) {
+        if (id > ultimoId || id < ultimoId - eventos.length) {
+            return null;
+        }
+        List<EventoBeneficio> resultado = new ArrayList<>((int) (ultimoId - id));
+        for (long atual = id + 1; atual <= ultimoId; atual++) {
+            resultado.add(eventos[(int) ((atual - 1) % eventos.length)]);
+        }
+        return resultado;
+    }
+
+    long ultimoId() {
+        return ultimoId;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.AjusteMassa;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository para jobs de ajuste em massa
+ */
+@Repository
+public interface AjusteMassaRepository extends JpaRepository<AjusteMassa, Long> {
+
+    /**
+     * Jobs nos status informados, do mais antigo ao mais novo
+     */
+    List<AjusteMassa> findByStatusInOrderById(Collection<AjusteMassa.Status> status);
+}
@@ -1,17 +1,34 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.BeneficioResponseDTO;
 import com.example.backend.entity.Beneficio;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository para acesso a dados de Beneficio
  */
 @Repository
-public interface BeneficioRepository extends JpaRepository<Beneficio, Long> {
+public interface BeneficioRepository extends JpaRepository<Beneficio, Long>, JpaSpecificationExecutor<Beneficio>,
+        BeneficioRepositoryCustom {
+
+    /**
+     * Projeção direto no DTO de resposta: sem entidades gerenciadas nem snapshots de dirty checking
+     */
+    String PROJECAO_RESPONSE = "SELECT new com.example.backend.dto.BeneficioResponseDTO(" +
+            "b.id, b.nome, b.descricao, b.valor, b.ativo, b.version, b.createdAt, b.updatedAt) FROM Beneficio b ";
 
     /**
      * Busca todos os benefícios ativos
@@ -19,8 +36,143 @@ public interface BeneficioRepository extends JpaRepository<Beneficio, Long> {
     List<Beneficio> findByAtivoTrue();
 
     /**
-     * Busca benefícios por nome (case insensitive)
+     * Todos os benefícios já como DTO de resposta, em ordem de ID
+     */
+    @Query(PROJECAO_RESPONSE + "ORDER BY b.id")
+    List<BeneficioResponseDTO> findAllResponse();
+
+    /**
+     * Benefícios ativos já como DTO de resposta, em ordem de ID
+     */
+    @Query(PROJECAO_RESPONSE + "WHERE b.ativo = true ORDER BY b.id")
+    List<BeneficioResponseDTO> findAtivosResponse();
+
+    /**
+     * Benefício por ID já como DTO de resposta
+     */
+    @Query(PROJECAO_RESPONSE + "WHERE b.id = :id")
+    Optional<BeneficioResponseDTO> findResponseById(Long id);
+
+    /**
+     * Só a versão do benefício, para decidir respostas condicionais sem carregar a linha inteira
+     */
+    @Query("SELECT b.version FROM Beneficio b WHERE b.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * ID e versão de todos os benefícios em ordem de ID (listagem montada do cache de JSON)
+     */
+    @Query("SELECT new com.example.backend.repository.VersaoBeneficio(b.id, b.version) FROM Beneficio b ORDER BY b.id")
+    List<VersaoBeneficio> findVersoes();
+
+    /**
+     * ID e versão dos benefícios ativos em ordem de ID
+     */
+    @Query("SELECT new com.example.backend.repository.VersaoBeneficio(b.id, b.version) FROM Beneficio b " +
+            "WHERE b.ativo = true ORDER BY b.id")
+    List<VersaoBeneficio> findVersoesAtivos();
+
+    /**
+     * Quantidade e soma das versões de todos os benefícios (ETag das listagens)
+     */
+    @Query("SELECT new com.example.backend.repository.VersaoColecao(COUNT(b), COALESCE(SUM(b.version), 0)) " +
+            "FROM Beneficio b")
+    VersaoColecao findVersaoColecao();
+
+    /**
+     * Quantidade e soma das versões dos benefícios ativos (ETag de /ativos)
+     */
+    @Query("SELECT new com.example.backend.repository.VersaoColecao(COUNT(b), COALESCE(SUM(b.version), 0)) " +
+            "FROM Beneficio b WHERE b.ativo = true")
+    VersaoColecao findVersaoColecaoAtivos();
+
+    /**
+     * Benefícios (ativos ou não) alterados após a posição (updatedAt, id), pelo índice
+     * IDX_BENEFICIO_UPDATED_AT_ID; base da sincronização incremental
+     */
+    @Query(PROJECAO_RESPONSE + "WHERE b.updatedAt > :updatedAt OR (b.updatedAt = :updatedAt AND b.id > :ultimoId) " +
+            "ORDER BY b.updatedAt, b.id")
+    List<BeneficioResponseDTO> findAlteradosApos(LocalDateTime updatedAt, Long ultimoId, Pageable pagina);
+
+    /**
+     * Vários benefícios por ID já como DTO de resposta, em uma única consulta IN
+     */
+    @Query(PROJECAO_RESPONSE + "WHERE b.id IN :ids ORDER BY b.id")
+    List<BeneficioResponseDTO> findAllResponseByIdIn(Collection<Long> ids);
+
+    /**
+     * Busca vários benefícios em uma única consulta IN, ordenados por ID
+     * (a ordem crescente garante que lotes concorrentes travem linhas na mesma sequência)
+     */
+    @Query("SELECT b FROM Beneficio b WHERE b.id IN :ids ORDER BY b.id")
+    List<Beneficio> findAllByIdInOrderById(Collection<Long> ids);
+
+    /**
+     * Trava (SELECT ... FOR UPDATE) os benefícios em ordem crescente de ID; transações que travam
+     * vários benefícios antes de alterá-los não entram em deadlock entre si
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Beneficio b WHERE b.id IN :ids ORDER BY b.id")
+    List<Beneficio> travarEmOrdemDeId(Collection<Long> ids);
+
+    /**
+     * Debita o valor se o benefício existir, estiver ativo e tiver saldo; incrementa a versão
+     * para que escritores com optimistic locking detectem a alteração
+     *
+     * @return 1 se debitou, 0 caso contrário
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Beneficio b SET b.valor = b.valor - :valor, b.version = b.version + 1, b.updatedAt = :agora " +
+            "WHERE b.id = :id AND b.ativo = true AND b.valor >= :valor")
+    int debitarSeSaldoSuficiente(Long id, BigDecimal valor, LocalDateTime agora);
+
+    /**
+     * Credita o valor se o benefício existir e estiver ativo; incrementa a versão
+     *
+     * @return 1 se creditou, 0 caso contrário
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Beneficio b SET b.valor = b.valor + :valor, b.version = b.version + 1, b.updatedAt = :agora " +
+            "WHERE b.id = :id AND b.ativo = true")
+    int creditarSeAtivo(Long id, BigDecimal valor, LocalDateTime agora);
+
+    /**
+     * Maior ID existente (limite de um ajuste em massa criado agora)
+     */
+    @Query("SELECT MAX(b.id) FROM Beneficio b")
+    Optional<Long> findMaiorId();
+
+    /**
+     * IDs dos benefícios ativos dentro do filtro de valor, após depoisDe e até ate, em ordem de ID
+     * A página limita o lote; a leitura percorre a chave primária a partir do cursor.
+     */
+    @Query("SELECT b.id FROM Beneficio b WHERE b.id > :depoisDe AND b.id <= :ate AND b.ativo = true " +
+            "AND (:valorMin IS NULL OR b.valor >= :valorMin) AND (:valorMax IS NULL OR b.valor <= :valorMax) " +
+            "ORDER BY b.id")
+    List<Long> findIdsAtivosParaAjuste(Long depoisDe, Long ate, BigDecimal valorMin, BigDecimal valorMax,
+                                       Pageable pagina);
+
+    /**
+     * Multiplica o valor pelo fator (arredondado em centavos) nos IDs que continuam ativos e dentro
+     * do filtro; incrementa a versão como as demais escritas condicionais
+     *
+     * @return quantidade de benefícios alterados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Beneficio b SET b.valor = ROUND(b.valor * :fator, 2), b.version = b.version + 1, " +
+            "b.updatedAt = :agora WHERE b.id IN :ids AND b.ativo = true " +
+            "AND (:valorMin IS NULL OR b.valor >= :valorMin) AND (:valorMax IS NULL OR b.valor <= :valorMax)")
+    int multiplicarValorEmLote(Collection<Long> ids, BigDecimal fator, BigDecimal valorMin, BigDecimal valorMax,
+                               LocalDateTime agora);
+
+    /**
+     * Desativa os IDs que continuam ativos e dentro do filtro; incrementa a versão
+     *
+     * @return quantidade de benefícios desativados
      */
-    @Query("SELECT b FROM Beneficio b WHERE LOWER(b.nome) LIKE LOWER(CONCAT('%', :nome, '%'))")
-    List<Beneficio> findByNomeContainingIgnoreCase(String nome);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Beneficio b SET b.ativo = false, b.version = b.version + 1, b.updatedAt = :agora " +
+            "WHERE b.id IN :ids AND b.ativo = true " +
+            "AND (:valorMin IS NULL OR b.valor >= :valorMin) AND (:valorMax IS NULL OR b.valor <= :valorMax)")
+    int desativarEmLote(Collection<Long> ids, BigDecimal valorMin, BigDecimal valorMax, LocalDateTime agora);
 }
@@ -0,0 +1,29 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.CampoBeneficio;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consultas de BeneficioRepository montadas com Criteria API
+ */
+public interface BeneficioRepositoryCustom {
+
+    /**
+     * Benefícios em ordem de ID lendo só as colunas dos campos pedidos
+     *
+     * @return uma linha por benefício, da propriedade JSON para o valor
+     */
+    List<Map<String, Object>> findCampos(Set<CampoBeneficio> campos, boolean somenteAtivos);
+
+    /**
+     * UPDATE só das colunas informadas, condicionado à versão esperada; incrementa a versão e
+     * atualiza updatedAt sem carregar a entidade
+     *
+     * @return linhas afetadas: 0 se o benefício não existir ou estiver em outra versão
+     */
+    int atualizarSeVersao(Long id, Long versao, Map<CampoBeneficio, Object> alteracoes, LocalDateTime agora);
+}
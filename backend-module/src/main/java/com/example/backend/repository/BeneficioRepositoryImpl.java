@@ -0,0 +1,80 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.CampoBeneficio;
+import com.example.backend.entity.Beneficio;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.AvailableHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementação de BeneficioRepositoryCustom (fragmento detectado pelo sufixo Impl)
+ */
+public class BeneficioRepositoryImpl implements BeneficioRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findCampos(Set<CampoBeneficio> campos, boolean somenteAtivos) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = cb.createTupleQuery();
+        Root<Beneficio> beneficio = consulta.from(Beneficio.class);
+
+        List<Selection<?>> colunas = new ArrayList<>(campos.size());
+        for (CampoBeneficio campo : campos) {
+            colunas.add(beneficio.get(campo.getPropriedade()).alias(campo.getPropriedade()));
+        }
+        consulta.multiselect(colunas).orderBy(cb.asc(beneficio.get("id")));
+        if (somenteAtivos) {
+            consulta.where(cb.isTrue(beneficio.get("ativo")));
+        }
+
+        List<Tuple> linhas = entityManager.createQuery(consulta)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultList();
+        List<Map<String, Object>> resultado = new ArrayList<>(linhas.size());
+        for (Tuple linha : linhas) {
+            Map<String, Object> projecao = new LinkedHashMap<>(campos.size() * 2);
+            for (CampoBeneficio campo : campos) {
+                projecao.put(campo.getPropriedade(), linha.get(campo.getPropriedade()));
+            }
+            resultado.add(projecao);
+        }
+        return resultado;
+    }
+
+    @Override
+    public int atualizarSeVersao(Long id, Long versao, Map<CampoBeneficio, Object> alteracoes, LocalDateTime agora) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Beneficio> atualizacao = cb.createCriteriaUpdate(Beneficio.class);
+        Root<Beneficio> beneficio = atualizacao.from(Beneficio.class);
+
+        for (Map.Entry<CampoBeneficio, Object> alteracao : alteracoes.entrySet()) {
+            atualizacao.set(beneficio.get(alteracao.getKey().getPropriedade()), alteracao.getValue());
+        }
+        Path<Long> version = beneficio.get("version");
+        atualizacao.set(version, cb.sum(version, 1L));
+        atualizacao.set(beneficio.<LocalDateTime>get("updatedAt"), agora);
+        atualizacao.where(cb.equal(beneficio.get("id"), id), cb.equal(version, versao));
+
+        // Como @Modifying(flushAutomatically, clearAutomatically): entidades gerenciadas não ficam defasadas
+        entityManager.flush();
+        int linhas = entityManager.createQuery(atualizacao).executeUpdate();
+        entityManager.clear();
+        return linhas;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Beneficio;
+import com.example.backend.exception.BusinessException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Filtros e predicados de keyset para consultas paginadas de Beneficio
+ *
+ * A ordenação é sempre (campo, id) na mesma direção, e a próxima página parte estritamente depois
+ * do último par entregue; com os índices (NOME, ID), (VALOR, ID) e (ATIVO, ID) o banco percorre só
+ * as linhas da página, sem OFFSET.
+ */
+public final class BeneficioSpecifications {
+
+    private BeneficioSpecifications() {
+    }
+
+    /**
+     * Campos aceitos na ordenação, com a conversão do valor guardado no cursor
+     */
+    public enum Campo {
+        ID("id", Long::valueOf, Beneficio::getId),
+        NOME("nome", s -> s, Beneficio::getNome),
+        VALOR("valor", BigDecimal::new, Beneficio::getValor);
+
+        private final String atributo;
+        private final Function<String, Comparable<?>> conversor;
+        private final Function<Beneficio, Object> leitor;
+
+        Campo(String atributo, Function<String, Comparable<?>> conversor, Function<Beneficio, Object> leitor) {
+            this.atributo = atributo;
+            this.conversor = conversor;
+            this.leitor = leitor;
+        }
+
+        public String getAtributo() {
+            return atributo;
+        }
+    }
+
+    /**
+     * Ordenação (campo, direção) de uma consulta paginada
+     */
+    public record Ordenacao(Campo campo, boolean descendente) {
+
+        /**
+         * Interpreta "campo" ou "campo,asc|desc"
+         */
+        public static Ordenacao de(String sort) {
+            String[] partes = sort.split(",");
+            try {
+                Campo campo = Campo.valueOf(partes[0].trim().toUpperCase(Locale.ROOT));
+                boolean descendente = partes.length > 1 && "desc".equalsIgnoreCase(partes[1].trim());
+                return new Ordenacao(campo, descendente);
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException("Ordenação inválida: " + sort);
+            }
+        }
+
+        public Sort sort() {
+            Sort.Direction direcao = descendente ? Sort.Direction.DESC : Sort.Direction.ASC;
+            return campo == Campo.ID
+                    ? Sort.by(direcao, "id")
+                    : Sort.by(direcao, campo.atributo).and(Sort.by(direcao, "id"));
+        }
+
+        /**
+         * Valor do campo de ordenação no benefício, como texto para o cursor
+         */
+        public String valorCursor(Beneficio beneficio) {
+            Object valor = campo.leitor.apply(beneficio);
+            return valor instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(valor);
+        }
+
+        /**
+         * Converte o texto do cursor para o tipo do campo de ordenação
+         */
+        public Comparable<?> converter(String valorCursor) {
+            return campo.conversor.apply(valorCursor);
+        }
+
+        @Override
+        public String toString() {
+            return campo.atributo + "," + (descendente ? "desc" : "asc");
+        }
+    }
+
+    /**
+     * Filtros opcionais por status e faixa de valor
+     */
+    public static Specification<Beneficio> filtro(Boolean ativo, BigDecimal valorMin, BigDecimal valorMax) {
+        return (root, query, cb) -> {
+            Predicate predicado = cb.conjunction();
+            if (ativo != null) {
+                predicado = cb.and(predicado, cb.equal(root.get("ativo"), ativo));
+            }
+            if (valorMin != null) {
+                predicado = cb.and(predicado, cb.greaterThanOrEqualTo(root.get("valor"), valorMin));
+            }
+            if (valorMax != null) {
+                predicado = cb.and(predicado, cb.lessThanOrEqualTo(root.get("valor"), valorMax));
+            }
+            return predicado;
+        };
+    }
+
+    /**
+     * Linhas estritamente depois de (valor, id) na ordenação dada
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Beneficio> apos(Ordenacao ordenacao, Comparable<?> valorCursor, long ultimoId) {
+        return (root, query, cb) -> {
+            Expression<Long> id = root.get("id");
+            Predicate idDepois = depois(cb, id, ultimoId, ordenacao.descendente());
+            if (ordenacao.campo() == Campo.ID) {
+                return idDepois;
+            }
+            Comparable valor = valorCursor;
+            Expression<Comparable> campo = root.get(ordenacao.campo().atributo);
+            return cb.or(
+                    depois(cb, campo, valor, ordenacao.descendente()),
+                    cb.and(cb.equal(campo, valor), idDepois));
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate depois(CriteriaBuilder cb, Expression<? extends Y> campo,
+                                                                     Y valor, boolean descendente) {
+        return descendente ? cb.lessThan(campo, valor) : cb.greaterThan(campo, valor);
+    }
+}
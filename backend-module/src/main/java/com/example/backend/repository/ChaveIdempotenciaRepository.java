@@ -0,0 +1,12 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.ChaveIdempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository para chaves de idempotência de transferências
+ */
+@Repository
+public interface ChaveIdempotenciaRepository extends JpaRepository<ChaveIdempotencia, String> {
+}
@@ -0,0 +1,36 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Transferencia;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository para o histórico de transferências
+ *
+ * As consultas de extrato usam keyset em (data_hora, id) decrescente: cada página parte da última
+ * linha da anterior e percorre os índices (de_id|para_id, data_hora, id) sem OFFSET.
+ */
+@Repository
+public interface TransferenciaRepository extends JpaRepository<Transferencia, Long> {
+
+    /**
+     * Débitos do benefício anteriores ao cursor, mais recentes primeiro
+     */
+    @Query("SELECT t FROM Transferencia t WHERE t.deId = :id " +
+            "AND (t.dataHora < :dataHora OR (t.dataHora = :dataHora AND t.id < :ultimoId)) " +
+            "ORDER BY t.dataHora DESC, t.id DESC")
+    List<Transferencia> findDebitosAntesDe(Long id, LocalDateTime dataHora, Long ultimoId, Pageable pagina);
+
+    /**
+     * Créditos do benefício anteriores ao cursor, mais recentes primeiro
+     */
+    @Query("SELECT t FROM Transferencia t WHERE t.paraId = :id " +
+            "AND (t.dataHora < :dataHora OR (t.dataHora = :dataHora AND t.id < :ultimoId)) " +
+            "ORDER BY t.dataHora DESC, t.id DESC")
+    List<Transferencia> findCreditosAntesDe(Long id, LocalDateTime dataHora, Long ultimoId, Pageable pagina);
+}
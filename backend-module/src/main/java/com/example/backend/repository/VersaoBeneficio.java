@@ -0,0 +1,7 @@
+package com.example.backend.repository;
+
+/**
+ * ID e @Version de um benefício, sem as demais colunas
+ */
+public record VersaoBeneficio(Long id, Long version) {
+}
@@ -0,0 +1,13 @@
+package com.example.backend.repository;
+
+/**
+ * Estado de uma coleção de benefícios para ETag: quantidade de linhas e soma das versões
+ * Toda escrita incrementa a versão de alguma linha e criações mudam a quantidade, então
+ * o par muda a cada alteração (o máximo das versões não veria escritas em outras linhas).
+ */
+public record VersaoColecao(long quantidade, long somaVersoes) {
+
+    public String etag() {
+        return "\"" + quantidade + "-" + somaVersoes + "\"";
+    }
+}
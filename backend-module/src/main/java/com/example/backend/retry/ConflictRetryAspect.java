@@ -0,0 +1,108 @@
+package com.example.backend.retry;
+
+import com.example.backend.config.RetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry no servidor para métodos anotados com {@link RetryOnConflict}
+ *
+ * Roda antes do interceptor de transação (maior precedência), de modo que cada tentativa abre
+ * e confirma sua própria transação. Espera com backoff exponencial e jitter entre tentativas,
+ * e publica por método os contadores beneficios.retry.attempts, .retries e .exhausted.
+ * Se já houver transação ativa no chamador, não reexecuta: a transação externa está condenada.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConflictRetryAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConflictRetryAspect.class);
+
+    private final RetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ConflictRetryAspect(RetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.example.backend.retry.RetryOnConflict) " +
+            "|| @within(com.example.backend.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        String metodo = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        boolean podeReexecutar = !TransactionSynchronizationManager.isActualTransactionActive();
+        int maxTentativas = Math.max(1, properties.getMaxTentativas());
+
+        for (int tentativa = 1; ; tentativa++) {
+            counter("beneficios.retry.attempts", metodo).increment();
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable e) {
+                if (!isConflito(e) || !podeReexecutar) {
+                    throw e;
+                }
+                if (tentativa >= maxTentativas) {
+                    counter("beneficios.retry.exhausted", metodo).increment();
+                    logger.warn("Conflito de concorrência persistente em {} após {} tentativas", metodo, tentativa);
+                    throw e;
+                }
+                counter("beneficios.retry.retries", metodo).increment();
+                long espera = calcularEspera(tentativa);
+                logger.debug("Conflito em {} (tentativa {}), reexecutando em {} ms", metodo, tentativa, espera);
+                try {
+                    Thread.sleep(espera);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Atraso exponencial limitado ao teto, com a fração de jitter sorteada uniformemente
+     */
+    long calcularEspera(int tentativa) {
+        double base = properties.getAtrasoInicial().toMillis()
+                * Math.pow(properties.getMultiplicador(), tentativa - 1);
+        double teto = Math.min(base, properties.getAtrasoMaximo().toMillis());
+        double jitter = Math.min(1.0, Math.max(0.0, properties.getJitter()));
+        double fixo = teto * (1.0 - jitter);
+        return Math.round(fixo + ThreadLocalRandom.current().nextDouble() * (teto - fixo));
+    }
+
+    private Counter counter(String nome, String metodo) {
+        return meterRegistry.counter(nome, "method", metodo);
+    }
+
+    /**
+     * Procura uma falha de optimistic locking na cadeia de causas
+     * (o serviço embrulha OptimisticLockException em BusinessException)
+     */
+    static boolean isConflito(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof OptimisticLockingFailureException || t instanceof OptimisticLockException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reexecuta o método (e a transação que ele abre) quando falha por conflito de optimistic locking
+ * Tentativas e backoff vêm de beneficios.retry.*; ver {@link ConflictRetryAspect}
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RetryOnConflict {
+}
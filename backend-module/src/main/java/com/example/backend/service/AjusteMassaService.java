@@ -0,0 +1,311 @@
+package com.example.backend.service;
+
+import com.example.backend.config.AjusteMassaProperties;
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.AjusteMassaRequestDTO;
+import com.example.backend.dto.AjusteMassaResponseDTO;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.entity.AjusteMassa;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.repository.AjusteMassaRepository;
+import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.retry.RetryOnConflict;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ajustes em massa executados em segundo plano por UPDATEs em lote
+ *
+ * Cada lote lê pela chave primária os IDs seguintes ao cursor que atendem ao filtro, trava essas
+ * linhas em ordem de ID, aplica um único UPDATE condicional a elas (versão incrementada, como nas
+ * transferências condicionais) e avança o cursor do job na mesma transação. Depois do commit, cada
+ * benefício cuja versão mudou no lote gera um BeneficioAlteradoEvent, mantendo caches,
+ * estatísticas, busca e SSE alinhados; linhas recusadas pelo WHERE não geram evento.
+ *
+ * Não roda na estratégia PARTICIONADA: os saldos vivem nas partições em memória e um UPDATE direto
+ * no banco competiria com o write-behind.
+ *
+ * Os jobs rodam um de cada vez numa única thread. Após cada lote a thread dorme o suficiente para
+ * passar no máximo cargaMaxima do tempo dentro de transações. Jobs PENDENTE ou EM_EXECUCAO são
+ * retomados na inicialização, a partir do último lote confirmado.
+ */
+@Service
+public class AjusteMassaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AjusteMassaService.class);
+
+    private static final int TAMANHO_MAXIMO_MENSAGEM = 500;
+
+    private final AjusteMassaRepository ajusteRepository;
+    private final BeneficioRepository beneficioRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AjusteMassaProperties properties;
+    private final TransferenciaProperties transferenciaProperties;
+    private final ExecutorService executor;
+
+    public AjusteMassaService(AjusteMassaRepository ajusteRepository,
+                              BeneficioRepository beneficioRepository,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              AjusteMassaProperties properties,
+                              TransferenciaProperties transferenciaProperties) {
+        this.ajusteRepository = ajusteRepository;
+        this.beneficioRepository = beneficioRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transferenciaProperties = transferenciaProperties;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "ajuste-massa");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registra o job e o agenda; alcança os benefícios existentes até o maior ID atual
+     */
+    public AjusteMassaResponseDTO criar(AjusteMassaRequestDTO dto) {
+        verificarEstrategia();
+        validar(dto);
+        Long idFinal = beneficioRepository.findMaiorId().orElse(0L);
+        AjusteMassa ajuste = ajusteRepository.save(new AjusteMassa(dto.getTipo(),
+                dto.getTipo() == AjusteMassa.Tipo.CREDITO_PERCENTUAL ? dto.getPercentual() : null,
+                dto.getValorMin(), dto.getValorMax(), idFinal));
+        logger.info("Ajuste em massa criado: ID={} Tipo={} IdFinal={}", ajuste.getId(), ajuste.getTipo(), idFinal);
+        agendar(ajuste.getId());
+        return new AjusteMassaResponseDTO(ajuste);
+    }
+
+    @Transactional(readOnly = true)
+    public AjusteMassaResponseDTO buscar(Long id) {
+        return new AjusteMassaResponseDTO(carregar(id));
+    }
+
+    /**
+     * Cancela um job ainda não finalizado; um lote em curso é desfeito pelo conflito de versão
+     */
+    @RetryOnConflict
+    @Transactional
+    public AjusteMassaResponseDTO cancelar(Long id) {
+        AjusteMassa ajuste = carregar(id);
+        if (!ajuste.isAtivo()) {
+            throw new BusinessException("Ajuste " + id + " já finalizado com status " + ajuste.getStatus());
+        }
+        ajuste.setStatus(AjusteMassa.Status.CANCELADO);
+        AjusteMassa salvo = ajusteRepository.saveAndFlush(ajuste);
+        logger.info("Ajuste em massa cancelado: ID={} UltimoId={}", id, salvo.getUltimoId());
+        return new AjusteMassaResponseDTO(salvo);
+    }
+
+    /**
+     * Reagenda um job que falhou, a partir do último lote confirmado
+     */
+    @RetryOnConflict
+    @Transactional
+    public AjusteMassaResponseDTO retomar(Long id) {
+        AjusteMassa ajuste = carregar(id);
+        if (ajuste.getStatus() != AjusteMassa.Status.FALHOU) {
+            throw new BusinessException("Só ajustes com status FALHOU podem ser retomados (atual: "
+                    + ajuste.getStatus() + ")");
+        }
+        verificarEstrategia();
+        ajuste.setStatus(AjusteMassa.Status.PENDENTE);
+        ajuste.setMensagem(null);
+        AjusteMassa salvo = ajusteRepository.saveAndFlush(ajuste);
+        agendar(id);
+        return new AjusteMassaResponseDTO(salvo);
+    }
+
+    /**
+     * Retoma jobs interrompidos por uma parada da aplicação
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarPendentes() {
+        List<AjusteMassa> pendentes = ajusteRepository.findByStatusInOrderById(
+                EnumSet.of(AjusteMassa.Status.PENDENTE, AjusteMassa.Status.EM_EXECUCAO));
+        for (AjusteMassa ajuste : pendentes) {
+            logger.info("Retomando ajuste em massa: ID={} UltimoId={} IdFinal={}",
+                    ajuste.getId(), ajuste.getUltimoId(), ajuste.getIdFinal());
+            agendar(ajuste.getId());
+        }
+    }
+
+    /**
+     * Interrompe o job em curso; o lote aberto é desfeito e será refeito na próxima inicialização
+     */
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    private void agendar(Long id) {
+        executor.execute(() -> executar(id));
+    }
+
+    void executar(Long id) {
+        try {
+            // Job criado antes de a aplicação subir com PARTICIONADA
+            verificarEstrategia();
+        } catch (BusinessException e) {
+            marcarFalha(id, e);
+            return;
+        }
+        while (true) {
+            long inicio = System.nanoTime();
+            boolean continuar;
+            try {
+                continuar = executarLote(id);
+            } catch (OptimisticLockingFailureException e) {
+                // Job alterado durante o lote (cancelamento): o lote foi desfeito, relê o status
+                continue;
+            } catch (RuntimeException e) {
+                logger.error("Ajuste em massa falhou: ID={}", id, e);
+                marcarFalha(id, e);
+                return;
+            }
+            if (!continuar || !pausar(System.nanoTime() - inicio)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Aplica o próximo lote e avança o cursor numa única transação
+     *
+     * @return true se ainda há lotes a aplicar
+     */
+    private boolean executarLote(Long id) {
+        int tamanhoLote = Math.max(1, properties.getTamanhoLote());
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            AjusteMassa ajuste = ajusteRepository.findById(id).orElse(null);
+            if (ajuste == null || !ajuste.isAtivo()) {
+                return false;
+            }
+            ajuste.setStatus(AjusteMassa.Status.EM_EXECUCAO);
+            List<Long> ids = beneficioRepository.findIdsAtivosParaAjuste(ajuste.getUltimoId(), ajuste.getIdFinal(),
+                    ajuste.getValorMin(), ajuste.getValorMax(), PageRequest.of(0, tamanhoLote));
+            // Lote incompleto: não há mais benefícios no filtro até idFinal
+            Long ate = ids.size() < tamanhoLote ? ajuste.getIdFinal() : ids.get(ids.size() - 1);
+            int alterados = ids.isEmpty() ? 0 : aplicar(ajuste, ids);
+            ajuste.registrarLote(ate, alterados);
+            // Os UPDATEs limparam o contexto: o merge confere a versão lida no início do lote
+            ajuste = ajusteRepository.saveAndFlush(ajuste);
+            if (ajuste.getStatus() == AjusteMassa.Status.CONCLUIDO) {
+                logger.info("Ajuste em massa concluído: ID={} Afetados={} Lotes={}",
+                        id, ajuste.getAfetados(), ajuste.getLotes());
+            }
+            return ajuste.isAtivo();
+        }));
+    }
+
+    private int aplicar(AjusteMassa ajuste, List<Long> ids) {
+        // Com as linhas travadas, versão diferente depois do UPDATE significa alterada por este lote
+        Map<Long, Long> versoes = new HashMap<>();
+        for (Beneficio beneficio : beneficioRepository.travarEmOrdemDeId(ids)) {
+            versoes.put(beneficio.getId(), beneficio.getVersion());
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        int alterados;
+        BeneficioAlteradoEvent.Tipo tipoEvento;
+        if (ajuste.getTipo() == AjusteMassa.Tipo.CREDITO_PERCENTUAL) {
+            BigDecimal fator = BigDecimal.ONE.add(ajuste.getPercentual().divide(BigDecimal.valueOf(100),
+                    MathContext.DECIMAL64));
+            alterados = beneficioRepository.multiplicarValorEmLote(ids, fator,
+                    ajuste.getValorMin(), ajuste.getValorMax(), agora);
+            tipoEvento = BeneficioAlteradoEvent.Tipo.ATUALIZADO;
+        } else {
+            alterados = beneficioRepository.desativarEmLote(ids, ajuste.getValorMin(), ajuste.getValorMax(), agora);
+            tipoEvento = BeneficioAlteradoEvent.Tipo.DESATIVADO;
+        }
+        if (alterados == 0) {
+            return 0;
+        }
+        // Estado final dos benefícios alterados, publicado após o commit
+        for (BeneficioResponseDTO beneficio : beneficioRepository.findAllResponseByIdIn(ids)) {
+            if (!Objects.equals(beneficio.getVersion(), versoes.get(beneficio.getId()))) {
+                eventPublisher.publishEvent(new BeneficioAlteradoEvent(tipoEvento, beneficio));
+            }
+        }
+        return alterados;
+    }
+
+    /**
+     * Espera proporcional à duração do lote, limitada pela carga máxima
+     *
+     * @return false se a thread foi interrompida (encerramento)
+     */
+    private boolean pausar(long duracaoLoteNanos) {
+        double carga = Math.min(1.0, Math.max(0.01, properties.getCargaMaxima()));
+        long pausa = Math.max(properties.getPausaMinima().toNanos(), (long) (duracaoLoteNanos * (1 - carga) / carga));
+        try {
+            TimeUnit.NANOSECONDS.sleep(pausa);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void marcarFalha(Long id, RuntimeException erro) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> ajusteRepository.findById(id)
+                    .filter(AjusteMassa::isAtivo)
+                    .ifPresent(ajuste -> {
+                        String mensagem = String.valueOf(erro.getMessage());
+                        ajuste.setStatus(AjusteMassa.Status.FALHOU);
+                        ajuste.setMensagem(mensagem.length() > TAMANHO_MAXIMO_MENSAGEM
+                                ? mensagem.substring(0, TAMANHO_MAXIMO_MENSAGEM) : mensagem);
+                    }));
+        } catch (RuntimeException e) {
+            logger.error("Não foi possível registrar a falha do ajuste em massa: ID={}", id, e);
+        }
+    }
+
+    private AjusteMassa carregar(Long id) {
+        return ajusteRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("AjusteMassa", id));
+    }
+
+    private void verificarEstrategia() {
+        if (transferenciaProperties.getEstrategia() == EstrategiaTransferencia.PARTICIONADA) {
+            throw new BusinessException("Ajustes em massa não são suportados na estratégia PARTICIONADA");
+        }
+    }
+
+    private static void validar(AjusteMassaRequestDTO dto) {
+        if (dto.getTipo() == AjusteMassa.Tipo.CREDITO_PERCENTUAL && dto.getPercentual() == null) {
+            throw new BusinessException("Informe o percentual do crédito");
+        }
+        if (dto.getValorMin() != null && dto.getValorMax() != null
+                && dto.getValorMin().compareTo(dto.getValorMax()) > 0) {
+            throw new BusinessException("Valor mínimo não pode ser maior que o valor máximo");
+        }
+    }
+}
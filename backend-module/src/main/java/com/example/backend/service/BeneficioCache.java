@@ -0,0 +1,161 @@
+package com.example.backend.service;
+
+import com.example.backend.config.CacheBeneficioProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.SaldosGravadosEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Cache read-through de benefícios por ID, na frente de BeneficioService.findById
+ *
+ * Limitado por tamanho e TTL. Cada entrada é o DTO lido do banco e carrega o @Version da linha.
+ * Escritas invalidam as entradas só depois do commit (AFTER_COMMIT): uma transferência desfeita
+ * nunca mexe no cache. Atualizações e desativações removem apenas entradas com versão igual ou
+ * anterior à lida pela escrita; transferências não trazem versão e removem origem e destino.
+ *
+ * As entradas são futures: requisições concorrentes pelo mesmo ID, isoladas ou em lote, aguardam
+ * a carga já em andamento em vez de repetir a consulta. As cargas rodam na thread de quem pediu.
+ *
+ * Leituras dentro de uma transação de escrita não usam o cache, para não memorizar estado ainda
+ * não confirmado. Métricas: cache.gets (hit/miss), cache.evictions, cache.load.duration e
+ * cache.size com tag cache=beneficios, além de beneficios.cache.invalidacoes.
+ */
+@Component
+public class BeneficioCache {
+
+    static final String NOME = "beneficios";
+
+    private final boolean habilitado;
+    private final AsyncCache<Long, BeneficioResponseDTO> beneficios;
+    private final Counter invalidacoes;
+
+    public BeneficioCache(CacheBeneficioProperties properties, MeterRegistry meterRegistry) {
+        this.habilitado = properties.isHabilitado();
+        this.beneficios = Caffeine.newBuilder()
+                .maximumSize(properties.getTamanhoMaximo())
+                .expireAfterWrite(properties.getTtl())
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, beneficios, NOME);
+        this.invalidacoes = Counter.builder("beneficios.cache.invalidacoes")
+                .description("Entradas removidas do cache de benefícios por escritas confirmadas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Devolve o benefício do cache ou o carrega (uma única carga concorrente por ID)
+     * Exceções do carregador, como ResourceNotFoundException, são propagadas e nada é guardado.
+     */
+    public BeneficioResponseDTO buscar(Long id, Function<Long, BeneficioResponseDTO> carregador) {
+        if (!habilitado || emTransacaoDeEscrita()) {
+            return carregador.apply(id);
+        }
+        return aguardar(beneficios.get(id, carregador));
+    }
+
+    /**
+     * Versão do benefício se ele estiver em cache, ou null
+     */
+    public Long versaoEmCache(Long id) {
+        if (!habilitado || emTransacaoDeEscrita()) {
+            return null;
+        }
+        BeneficioResponseDTO beneficio = concluido(beneficios.getIfPresent(id));
+        return beneficio != null ? beneficio.getVersion() : null;
+    }
+
+    /**
+     * Devolve os benefícios encontrados; os ausentes do cache são carregados juntos numa única chamada
+     * IDs que o carregador não devolver ficam fora do resultado.
+     */
+    public Map<Long, BeneficioResponseDTO> buscarTodos(
+            Collection<Long> ids, Function<Set<Long>, Map<Long, BeneficioResponseDTO>> carregador) {
+        if (!habilitado || emTransacaoDeEscrita()) {
+            return carregador.apply(new LinkedHashSet<>(ids));
+        }
+        return aguardar(beneficios.getAll(ids, ausentes -> carregador.apply(Set.copyOf(ausentes))));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBeneficioAlterado(BeneficioAlteradoEvent evento) {
+        BeneficioResponseDTO beneficio = evento.getBeneficio();
+        if (beneficio == null || beneficio.getId() == null) {
+            return;
+        }
+        if (beneficio.getVersion() == null) {
+            invalidar(beneficio.getId());
+            return;
+        }
+        // Entrada mais nova que a versão lida pela escrita já foi carregada depois do commit
+        beneficios.asMap().computeIfPresent(beneficio.getId(), (id, futuro) -> {
+            BeneficioResponseDTO atual = concluido(futuro);
+            if (atual != null && atual.getVersion() != null && atual.getVersion() > beneficio.getVersion()) {
+                return futuro;
+            }
+            invalidacoes.increment();
+            return null;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransferenciaRealizada(TransferenciaRealizadaEvent evento) {
+        invalidar(evento.getDeId());
+        invalidar(evento.getParaId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSaldosGravados(SaldosGravadosEvent evento) {
+        evento.getIds().forEach(this::invalidar);
+    }
+
+    private void invalidar(Long id) {
+        if (beneficios.asMap().remove(id) != null) {
+            invalidacoes.increment();
+        }
+    }
+
+    /**
+     * Valor de uma entrada já carregada com sucesso; null se ausente, em carga ou com falha
+     */
+    private static BeneficioResponseDTO concluido(CompletableFuture<BeneficioResponseDTO> futuro) {
+        if (futuro == null || !futuro.isDone() || futuro.isCompletedExceptionally()) {
+            return null;
+        }
+        return futuro.join();
+    }
+
+    private static <T> T aguardar(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean emTransacaoDeEscrita() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.backend.service;
+
+import com.example.backend.config.ExportacaoProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.entity.Beneficio;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.AvailableHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de benefícios em streaming (NDJSON ou CSV)
+ *
+ * Lê por um cursor JDBC (Stream do Hibernate com fetch size configurado) em ordem de ID e escreve
+ * cada linha direto na resposta. A cada lote o contexto de persistência é limpo e a saída recebe
+ * flush: a memória fica constante e os primeiros bytes saem antes do fim da consulta.
+ */
+@Service
+public class BeneficioExportacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeneficioExportacaoService.class);
+
+    private static final String CABECALHO_CSV = "id,nome,descricao,valor,ativo,version,createdAt,updatedAt";
+
+    private final EntityManager entityManager;
+    private final ObjectWriter jsonWriter;
+    private final ExportacaoProperties properties;
+
+    public BeneficioExportacaoService(EntityManager entityManager,
+                                      ObjectMapper objectMapper,
+                                      ExportacaoProperties properties) {
+        this.entityManager = entityManager;
+        // O flush fica a cargo do fim de lote, não de cada linha
+        this.jsonWriter = objectMapper.writerFor(BeneficioResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.properties = properties;
+    }
+
+    /**
+     * Escreve os benefícios (opcionalmente filtrados por status) no formato pedido
+     *
+     * @return quantidade de linhas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportar(FormatoExportacao formato, Boolean ativo, OutputStream saida) throws IOException {
+        int tamanhoLote = Math.max(1, properties.getTamanhoLote());
+        TypedQuery<Beneficio> consulta = ativo == null
+                ? entityManager.createQuery("SELECT b FROM Beneficio b ORDER BY b.id", Beneficio.class)
+                : entityManager.createQuery("SELECT b FROM Beneficio b WHERE b.ativo = :ativo ORDER BY b.id",
+                        Beneficio.class).setParameter("ativo", ativo);
+        consulta.setHint(AvailableHints.HINT_FETCH_SIZE, tamanhoLote);
+        consulta.setHint(AvailableHints.HINT_READ_ONLY, true);
+
+        long linhas;
+        try (Stream<Beneficio> beneficios = consulta.getResultStream()) {
+            linhas = formato == FormatoExportacao.CSV
+                    ? escreverCsv(beneficios.iterator(), saida, tamanhoLote)
+                    : escreverNdjson(beneficios.iterator(), saida, tamanhoLote);
+        }
+        logger.info("Exportação concluída: Formato={} Linhas={}", formato, linhas);
+        return linhas;
+    }
+
+    private long escreverNdjson(Iterator<Beneficio> beneficios, OutputStream saida, int tamanhoLote)
+            throws IOException {
+        JsonGenerator gerador = jsonWriter.createGenerator(saida);
+        // Sem separador automático entre valores raiz: cada linha termina com \n
+        gerador.setRootValueSeparator(null);
+        long linhas = 0;
+        while (beneficios.hasNext()) {
+            jsonWriter.writeValue(gerador, new BeneficioResponseDTO(beneficios.next()));
+            gerador.writeRaw('\n');
+            if (++linhas % tamanhoLote == 0) {
+                fimDeLote(gerador);
+            }
+        }
+        gerador.flush();
+        return linhas;
+    }
+
+    private long escreverCsv(Iterator<Beneficio> beneficios, OutputStream saida, int tamanhoLote)
+            throws IOException {
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        escritor.write(CABECALHO_CSV);
+        escritor.write('\n');
+        long linhas = 0;
+        while (beneficios.hasNext()) {
+            Beneficio beneficio = beneficios.next();
+            escritor.write(String.valueOf(beneficio.getId()));
+            escritor.write(',');
+            escritor.write(csv(beneficio.getNome()));
+            escritor.write(',');
+            escritor.write(csv(beneficio.getDescricao()));
+            escritor.write(',');
+            escritor.write(beneficio.getValor().toPlainString());
+            escritor.write(',');
+            escritor.write(String.valueOf(beneficio.getAtivo()));
+            escritor.write(',');
+            escritor.write(beneficio.getVersion() == null ? "" : String.valueOf(beneficio.getVersion()));
+            escritor.write(',');
+            escritor.write(beneficio.getCreatedAt() == null ? "" : beneficio.getCreatedAt().toString());
+            escritor.write(',');
+            escritor.write(beneficio.getUpdatedAt() == null ? "" : beneficio.getUpdatedAt().toString());
+            escritor.write('\n');
+            if (++linhas % tamanhoLote == 0) {
+                fimDeLote(escritor);
+            }
+        }
+        escritor.flush();
+        return linhas;
+    }
+
+    /**
+     * Fim de lote: descarta as entidades já escritas e envia o que está no buffer
+     */
+    private void fimDeLote(Flushable saida) throws IOException {
+        entityManager.clear();
+        saida.flush();
+    }
+
+    /**
+     * Campo CSV conforme RFC 4180: aspas quando há vírgula, aspas ou quebra de linha
+     */
+    static String csv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
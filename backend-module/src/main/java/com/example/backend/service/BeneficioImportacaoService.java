@@ -0,0 +1,293 @@
+package com.example.backend.service;
+
+import com.example.backend.config.ImportacaoProperties;
+import com.example.backend.dto.BeneficioRequestDTO;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.ImportacaoResponseDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.repository.BeneficioRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Importação de benefícios em lote a partir de NDJSON ou CSV lido em streaming
+ *
+ * Cada linha é convertida e validada ao ser lida; as válidas acumulam até tamanhoLote e são
+ * gravadas numa transação própria, com IDs da sequence em blocos e INSERTs em batch JDBC. Depois do
+ * flush o contexto de persistência é limpo: a memória depende do lote, não do tamanho do arquivo.
+ * Um lote recusado pelo banco é regravado linha a linha para apontar só as linhas com problema.
+ * Lotes já confirmados permanecem mesmo que o restante do arquivo falhe.
+ */
+@Service
+public class BeneficioImportacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeneficioImportacaoService.class);
+
+    /**
+     * Limite de caracteres de uma linha NDJSON ou registro CSV
+     */
+    static final int TAMANHO_MAXIMO_REGISTRO = 64 * 1024;
+
+    private final BeneficioRepository repository;
+    private final EntityManager entityManager;
+    private final ObjectReader jsonReader;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImportacaoProperties properties;
+
+    public BeneficioImportacaoService(BeneficioRepository repository,
+                                      EntityManager entityManager,
+                                      ObjectMapper objectMapper,
+                                      Validator validator,
+                                      PlatformTransactionManager transactionManager,
+                                      ApplicationEventPublisher eventPublisher,
+                                      ImportacaoProperties properties) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.jsonReader = objectMapper.readerFor(BeneficioRequestDTO.class);
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    /**
+     * Lê a entrada até o fim, gravando os benefícios válidos em lotes
+     *
+     * @return contagens e erros por linha (numeração do arquivo)
+     */
+    public ImportacaoResponseDTO importar(FormatoExportacao formato, InputStream entrada) throws IOException {
+        LeitorImportacao leitor = new LeitorImportacao(
+                new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8)), TAMANHO_MAXIMO_REGISTRO);
+        Importacao importacao = new Importacao(Math.max(1, properties.getTamanhoLote()),
+                Math.max(0, properties.getMaximoErros()));
+        try {
+            if (formato == FormatoExportacao.CSV) {
+                lerCsv(leitor, importacao);
+            } else {
+                lerNdjson(leitor, importacao);
+            }
+        } catch (LeitorImportacao.RegistroInvalidoException e) {
+            // Sem como achar o início do próximo registro: grava o que já foi validado e para
+            importacao.resultado.adicionarLinha();
+            importacao.rejeitar(leitor.getLinhaInicial(), "Importação interrompida: " + e.getMessage());
+        }
+        gravar(importacao);
+
+        ImportacaoResponseDTO resultado = importacao.resultado;
+        logger.info("Importação concluída: Formato={} Linhas={} Importados={} Rejeitados={} Lotes={}",
+                formato, resultado.getLinhas(), resultado.getImportados(), resultado.getRejeitados(),
+                resultado.getLotes());
+        return resultado;
+    }
+
+    private void lerNdjson(LeitorImportacao leitor, Importacao importacao) throws IOException {
+        String linha;
+        while ((linha = leitor.proximaLinha()) != null) {
+            if (linha.isBlank()) {
+                continue;
+            }
+            importacao.resultado.adicionarLinha();
+            BeneficioRequestDTO dto;
+            try {
+                dto = jsonReader.readValue(linha);
+            } catch (JsonProcessingException e) {
+                importacao.rejeitar(leitor.getLinhaInicial(), "JSON inválido: " + e.getOriginalMessage());
+                continue;
+            }
+            aceitar(leitor.getLinhaInicial(), dto, importacao);
+        }
+    }
+
+    private void lerCsv(LeitorImportacao leitor, Importacao importacao) throws IOException {
+        List<String> cabecalho = leitor.proximoRegistroCsv();
+        if (cabecalho == null) {
+            return;
+        }
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            colunas.putIfAbsent(cabecalho.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!colunas.containsKey("nome") || !colunas.containsKey("valor")) {
+            throw new BusinessException("Cabeçalho CSV deve ter as colunas nome e valor (opcionais: descricao, ativo)");
+        }
+
+        List<String> campos;
+        while ((campos = leitor.proximoRegistroCsv()) != null) {
+            if (campos.size() == 1 && campos.get(0).isBlank()) {
+                continue;
+            }
+            importacao.resultado.adicionarLinha();
+            if (campos.size() != cabecalho.size()) {
+                importacao.rejeitar(leitor.getLinhaInicial(),
+                        "Esperadas " + cabecalho.size() + " colunas, encontradas " + campos.size());
+                continue;
+            }
+            BeneficioRequestDTO dto;
+            try {
+                dto = new BeneficioRequestDTO(
+                        campos.get(colunas.get("nome")),
+                        vazioComoNulo(campo(campos, colunas, "descricao")),
+                        valor(campos.get(colunas.get("valor"))),
+                        ativo(campo(campos, colunas, "ativo")));
+            } catch (BusinessException e) {
+                importacao.rejeitar(leitor.getLinhaInicial(), e.getMessage());
+                continue;
+            }
+            aceitar(leitor.getLinhaInicial(), dto, importacao);
+        }
+    }
+
+    /**
+     * Valida a linha e, se completar um lote, grava
+     */
+    private void aceitar(long linha, BeneficioRequestDTO dto, Importacao importacao) {
+        String violacoes = validator.validate(dto).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (!violacoes.isEmpty()) {
+            importacao.rejeitar(linha, violacoes);
+            return;
+        }
+        importacao.pendentes.add(new Pendente(linha, dto));
+        if (importacao.pendentes.size() >= importacao.tamanhoLote) {
+            gravar(importacao);
+        }
+    }
+
+    private void gravar(Importacao importacao) {
+        List<Pendente> pendentes = importacao.pendentes;
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        importacao.resultado.adicionarLote();
+        try {
+            importacao.resultado.adicionarImportados(inserir(pendentes));
+        } catch (RuntimeException e) {
+            logger.warn("Lote de importação recusado ({} linhas), regravando linha a linha: {}",
+                    pendentes.size(), e.getMessage());
+            for (Pendente pendente : pendentes) {
+                try {
+                    importacao.resultado.adicionarImportados(inserir(List.of(pendente)));
+                } catch (RuntimeException erro) {
+                    importacao.rejeitar(pendente.linha(), "Não gravado: " + causaRaiz(erro).getMessage());
+                }
+            }
+        }
+        pendentes.clear();
+    }
+
+    /**
+     * Insere as linhas numa transação; os eventos CRIADO seguem para os listeners após o commit
+     */
+    private int inserir(List<Pendente> pendentes) {
+        return transactionTemplate.execute(status -> {
+            List<Beneficio> beneficios = new ArrayList<>(pendentes.size());
+            for (Pendente pendente : pendentes) {
+                BeneficioRequestDTO dto = pendente.dto();
+                Beneficio beneficio = new Beneficio();
+                beneficio.setNome(dto.getNome());
+                beneficio.setDescricao(dto.getDescricao());
+                beneficio.setValor(dto.getValor());
+                beneficio.setAtivo(dto.getAtivo() != null ? dto.getAtivo() : true);
+                beneficios.add(beneficio);
+            }
+            repository.saveAll(beneficios);
+            entityManager.flush();
+            for (Beneficio beneficio : beneficios) {
+                eventPublisher.publishEvent(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.CRIADO,
+                        new BeneficioResponseDTO(beneficio)));
+            }
+            entityManager.clear();
+            return beneficios.size();
+        });
+    }
+
+    private static String campo(List<String> campos, Map<String, Integer> colunas, String nome) {
+        Integer indice = colunas.get(nome);
+        return indice != null ? campos.get(indice) : null;
+    }
+
+    private static String vazioComoNulo(String valor) {
+        return valor == null || valor.isEmpty() ? null : valor;
+    }
+
+    private static BigDecimal valor(String valor) {
+        if (valor.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Valor inválido: " + valor);
+        }
+    }
+
+    private static Boolean ativo(String ativo) {
+        if (ativo == null || ativo.isBlank()) {
+            return null;
+        }
+        return switch (ativo.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new BusinessException("Ativo inválido: " + ativo + " (use true ou false)");
+        };
+    }
+
+    private static Throwable causaRaiz(Throwable erro) {
+        Throwable causa = erro;
+        while (causa.getCause() != null && causa.getCause() != causa) {
+            causa = causa.getCause();
+        }
+        return causa;
+    }
+
+    private record Pendente(long linha, BeneficioRequestDTO dto) {
+    }
+
+    /**
+     * Estado de uma importação: lote em formação e relatório
+     */
+    private static final class Importacao {
+        private final int tamanhoLote;
+        private final int maximoErros;
+        private final List<Pendente> pendentes = new ArrayList<>();
+        private final ImportacaoResponseDTO resultado = new ImportacaoResponseDTO();
+
+        private Importacao(int tamanhoLote, int maximoErros) {
+            this.tamanhoLote = tamanhoLote;
+            this.maximoErros = maximoErros;
+        }
+
+        private void rejeitar(long linha, String mensagem) {
+            resultado.adicionarErro(linha, mensagem, maximoErros);
+        }
+    }
+}
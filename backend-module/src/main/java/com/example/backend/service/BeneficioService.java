@@ -1,20 +1,60 @@
 package com.example.backend.service;
 
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.BeneficioConsultaDTO;
+import com.example.backend.dto.BeneficioLoteResponseDTO;
+import com.example.backend.dto.BeneficioPatchDTO;
 import com.example.backend.dto.BeneficioRequestDTO;
 import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.CampoBeneficio;
+import com.example.backend.dto.ExtratoResponseDTO;
+import com.example.backend.dto.PaginaResponseDTO;
+import com.example.backend.dto.TransferenciaLoteRequestDTO;
+import com.example.backend.dto.TransferenciaLoteResponseDTO;
 import com.example.backend.dto.TransferenciaRequestDTO;
 import com.example.backend.entity.Beneficio;
+import com.example.backend.entity.Transferencia;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
 import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.PreconditionFailedException;
 import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.json.BeneficioJsonCache;
+import com.example.backend.json.ListaJson;
 import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.repository.BeneficioSpecifications;
+import com.example.backend.repository.TransferenciaRepository;
+import com.example.backend.repository.VersaoBeneficio;
+import com.example.backend.repository.VersaoColecao;
+import com.example.backend.retry.RetryOnConflict;
 import jakarta.persistence.OptimisticLockException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -27,40 +67,228 @@ public class BeneficioService {
 
     private static final Logger logger = LoggerFactory.getLogger(BeneficioService.class);
 
+    static final int LIMITE_MAXIMO_EXTRATO = 200;
+
+    /**
+     * IDs por consulta IN na busca em lote
+     */
+    static final int TAMANHO_BLOCO_IN = 500;
+
+    /**
+     * Ordem do extrato: mais recentes primeiro, ID como desempate
+     */
+    private static final Comparator<Transferencia> ORDEM_EXTRATO = Comparator
+            .comparing(Transferencia::getDataHora)
+            .thenComparing(Transferencia::getId)
+            .reversed();
+
+    /**
+     * Cursor da primeira página: posterior a qualquer movimento
+     */
+    private static final LocalDateTime INICIO_EXTRATO = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final BeneficioRepository repository;
+    private final TransferenciaRepository transferenciaRepository;
+    private final TransferenciaProperties transferenciaProperties;
+    private final TransferenciaCondicional transferenciaCondicional;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IdempotenciaService idempotenciaService;
+    private final BeneficioCache cache;
+    private final BeneficioJsonCache jsonCache;
+    private final Validator validator;
 
-    public BeneficioService(BeneficioRepository repository) {
+    public BeneficioService(BeneficioRepository repository,
+                            TransferenciaRepository transferenciaRepository,
+                            TransferenciaProperties transferenciaProperties,
+                            TransferenciaCondicional transferenciaCondicional,
+                            ApplicationEventPublisher eventPublisher,
+                            IdempotenciaService idempotenciaService,
+                            BeneficioCache cache,
+                            BeneficioJsonCache jsonCache,
+                            Validator validator) {
         this.repository = repository;
+        this.transferenciaRepository = transferenciaRepository;
+        this.transferenciaProperties = transferenciaProperties;
+        this.transferenciaCondicional = transferenciaCondicional;
+        this.eventPublisher = eventPublisher;
+        this.idempotenciaService = idempotenciaService;
+        this.cache = cache;
+        this.jsonCache = jsonCache;
+        this.validator = validator;
     }
 
     /**
-     * Lista todos os benefícios
+     * Lista todos os benefícios (projeção direto no DTO, sem hidratar entidades)
      */
     @Transactional(readOnly = true)
     public List<BeneficioResponseDTO> findAll() {
-        return repository.findAll().stream()
-                .map(BeneficioResponseDTO::new)
-                .collect(Collectors.toList());
+        return repository.findAllResponse();
     }
 
     /**
-     * Lista benefícios ativos
+     * Lista benefícios ativos (projeção direto no DTO)
      */
     @Transactional(readOnly = true)
     public List<BeneficioResponseDTO> findAllAtivos() {
-        return repository.findByAtivoTrue().stream()
-                .map(BeneficioResponseDTO::new)
-                .collect(Collectors.toList());
+        return repository.findAtivosResponse();
+    }
+
+    /**
+     * Lista benefícios (todos ou só ativos) já como array JSON
+     * Lê só ID e versão; o JSON de cada item vem do cache de fragmentos, e os ausentes do cache de
+     * DTOs ou do banco.
+     */
+    @Transactional(readOnly = true)
+    public ListaJson findAllJson(boolean somenteAtivos) {
+        List<VersaoBeneficio> versoes = somenteAtivos ? repository.findVersoesAtivos() : repository.findVersoes();
+        return jsonCache.montar(versoes, ids -> cache.buscarTodos(ids, this::carregarEmBlocos));
     }
 
     /**
-     * Busca benefício por ID
+     * Lista benefícios (todos ou só ativos) lendo só as colunas dos campos pedidos
      */
     @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAll(Set<CampoBeneficio> campos, boolean somenteAtivos) {
+        return repository.findCampos(campos, somenteAtivos);
+    }
+
+    /**
+     * Busca benefício por ID com só os campos pedidos; a projeção sai do DTO em cache
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> findById(Long id, Set<CampoBeneficio> campos) {
+        return CampoBeneficio.projetar(findById(id), campos);
+    }
+
+    /**
+     * Busca benefício por ID (projeção direto no DTO), via cache read-through
+     * SUPPORTS: um acerto no cache não abre transação nem pega conexão.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public BeneficioResponseDTO findById(Long id) {
-        Beneficio beneficio = repository.findById(id)
+        return cache.buscar(id, chave -> repository.findResponseById(chave)
+                .orElseThrow(() -> new ResourceNotFoundException("Beneficio", chave)));
+    }
+
+    /**
+     * Busca vários benefícios por ID, na ordem pedida e sem falhar por IDs inexistentes
+     * Os ausentes do cache são lidos em consultas IN de até TAMANHO_BLOCO_IN IDs; requisições
+     * concorrentes pelos mesmos IDs aguardam a carga em andamento (ver BeneficioCache).
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BeneficioLoteResponseDTO findAllById(List<Long> ids) {
+        Set<Long> distintos = new LinkedHashSet<>(ids);
+        Map<Long, BeneficioResponseDTO> encontrados = cache.buscarTodos(distintos, this::carregarEmBlocos);
+
+        List<BeneficioResponseDTO> beneficios = new ArrayList<>(encontrados.size());
+        List<Long> naoEncontrados = new ArrayList<>();
+        for (Long id : distintos) {
+            BeneficioResponseDTO beneficio = encontrados.get(id);
+            if (beneficio != null) {
+                beneficios.add(beneficio);
+            } else {
+                naoEncontrados.add(id);
+            }
+        }
+        return new BeneficioLoteResponseDTO(beneficios, naoEncontrados);
+    }
+
+    /**
+     * Versão atual do benefício: do cache, se presente, ou de uma consulta só da coluna version
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Long versao(Long id) {
+        Long emCache = cache.versaoEmCache(id);
+        if (emCache != null) {
+            return emCache;
+        }
+        return repository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Beneficio", id));
-        return new BeneficioResponseDTO(beneficio);
+    }
+
+    /**
+     * Quantidade e soma das versões dos benefícios (todos ou só os ativos), para ETag das listagens
+     */
+    @Transactional(readOnly = true)
+    public VersaoColecao versaoColecao(boolean somenteAtivos) {
+        return somenteAtivos ? repository.findVersaoColecaoAtivos() : repository.findVersaoColecao();
+    }
+
+    /**
+     * Lista benefícios paginados por keyset, com filtros e ordenação no servidor
+     * Busca limit + 1 linhas a partir do cursor para saber se há próxima página, sem COUNT nem OFFSET.
+     */
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<BeneficioResponseDTO> listar(BeneficioConsultaDTO consulta) {
+        BeneficioSpecifications.Ordenacao ordenacao = BeneficioSpecifications.Ordenacao.de(consulta.getSort());
+        Specification<Beneficio> especificacao = BeneficioSpecifications.filtro(
+                consulta.getAtivo(), consulta.getValorMin(), consulta.getValorMax());
+        if (consulta.getAfter() != null && !consulta.getAfter().isBlank()) {
+            CursorPagina cursor = CursorPagina.decodificar(consulta.getAfter(), ordenacao);
+            especificacao = especificacao.and(
+                    BeneficioSpecifications.apos(ordenacao, cursor.valor(), cursor.id()));
+        }
+
+        int limite = consulta.getLimit();
+        List<Beneficio> beneficios = repository.findBy(especificacao,
+                q -> q.sortBy(ordenacao.sort()).limit(limite + 1).all());
+
+        String proximoCursor = beneficios.size() > limite
+                ? CursorPagina.codificar(ordenacao, beneficios.get(limite - 1))
+                : null;
+        List<BeneficioResponseDTO> itens = beneficios.stream()
+                .limit(limite)
+                .map(BeneficioResponseDTO::new)
+                .collect(Collectors.toList());
+        return new PaginaResponseDTO<>(itens, proximoCursor);
+    }
+
+    /**
+     * Página da listagem com só os campos pedidos de cada item
+     */
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<Map<String, Object>> listar(BeneficioConsultaDTO consulta, Set<CampoBeneficio> campos) {
+        PaginaResponseDTO<BeneficioResponseDTO> pagina = listar(consulta);
+        List<Map<String, Object>> itens = pagina.getItens().stream()
+                .map(beneficio -> CampoBeneficio.projetar(beneficio, campos))
+                .collect(Collectors.toList());
+        return new PaginaResponseDTO<>(itens, pagina.getProximoCursor());
+    }
+
+    /**
+     * Extrato de transferências do benefício, paginado por keyset em (dataHora, id)
+     * Busca até limite + 1 débitos e limite + 1 créditos a partir do cursor, cada lado pelo seu
+     * índice, e intercala: o custo depende do tamanho da página, não do histórico da conta.
+     */
+    @Transactional(readOnly = true)
+    public ExtratoResponseDTO extrato(Long id, String cursor, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_EXTRATO) {
+            throw new BusinessException(
+                    String.format("Limite do extrato deve estar entre 1 e %d", LIMITE_MAXIMO_EXTRATO));
+        }
+        if (!repository.existsById(id)) {
+            throw new ResourceNotFoundException("Beneficio", id);
+        }
+
+        CursorExtrato inicio = cursor == null || cursor.isBlank()
+                ? new CursorExtrato(INICIO_EXTRATO, Long.MAX_VALUE)
+                : CursorExtrato.decodificar(cursor);
+
+        Pageable pagina = PageRequest.of(0, limite + 1);
+        List<Transferencia> transferencias = new ArrayList<>(
+                transferenciaRepository.findDebitosAntesDe(id, inicio.dataHora(), inicio.id(), pagina));
+        transferencias.addAll(
+                transferenciaRepository.findCreditosAntesDe(id, inicio.dataHora(), inicio.id(), pagina));
+        transferencias.sort(ORDEM_EXTRATO);
+
+        List<ExtratoResponseDTO.Movimento> movimentos = transferencias.stream()
+                .limit(limite)
+                .map(t -> new ExtratoResponseDTO.Movimento(t, id))
+                .collect(Collectors.toList());
+        String proximoCursor = transferencias.size() > limite
+                ? CursorExtrato.de(transferencias.get(limite - 1)).codificar()
+                : null;
+        return new ExtratoResponseDTO(id, movimentos, proximoCursor);
     }
 
     /**
@@ -75,15 +303,25 @@ public class BeneficioService {
 
         Beneficio saved = repository.save(beneficio);
         logger.info("Benefício criado: ID={}, Nome={}", saved.getId(), saved.getNome());
-        return new BeneficioResponseDTO(saved);
+        BeneficioResponseDTO response = new BeneficioResponseDTO(saved);
+        eventPublisher.publishEvent(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.CRIADO, response));
+        return response;
     }
 
     /**
      * Atualiza benefício existente
+     * Com dto.version informada, recusa a escrita se o benefício estiver em outra versão.
+     * O flush antecipa o incremento de @Version para que a resposta (e o ETag) traga a versão nova.
      */
+    @RetryOnConflict
     public BeneficioResponseDTO update(Long id, BeneficioRequestDTO dto) {
         Beneficio beneficio = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Beneficio", id));
+        if (dto.getVersion() != null && !dto.getVersion().equals(beneficio.getVersion())) {
+            throw new PreconditionFailedException(String.format(
+                    "Benefício está na versão %d, esperada %d. Recarregue e tente novamente.",
+                    beneficio.getVersion(), dto.getVersion()));
+        }
 
         beneficio.setNome(dto.getNome());
         beneficio.setDescricao(dto.getDescricao());
@@ -93,38 +331,82 @@ public class BeneficioService {
         }
 
         try {
-            Beneficio updated = repository.save(beneficio);
+            Beneficio updated = repository.saveAndFlush(beneficio);
             logger.info("Benefício atualizado: ID={}", updated.getId());
-            return new BeneficioResponseDTO(updated);
+            BeneficioResponseDTO response = new BeneficioResponseDTO(updated);
+            eventPublisher.publishEvent(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.ATUALIZADO, response));
+            return response;
         } catch (OptimisticLockException e) {
             throw new BusinessException("O benefício foi modificado por outro usuário. Recarregue e tente novamente.", e);
         }
     }
 
+    /**
+     * Atualização parcial (JSON Merge Patch) sem carregar a entidade
+     * Um único UPDATE grava só as colunas do patch se o benefício estiver na versão esperada. Sem linha
+     * afetada, a leitura só da versão distingue benefício inexistente (404) de versão divergente (412).
+     * A releitura por projeção traz o estado completo para a resposta e para os eventos.
+     */
+    public BeneficioResponseDTO patch(Long id, BeneficioPatchDTO patch) {
+        if (patch.getVersion() == null) {
+            throw new BusinessException("Informe a versão esperada em If-Match ou no campo version");
+        }
+        String violacoes = patch.getAlteracoes().entrySet().stream()
+                .flatMap(alteracao -> validator.validateValue(BeneficioRequestDTO.class,
+                        alteracao.getKey().getPropriedade(), alteracao.getValue()).stream())
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (!violacoes.isEmpty()) {
+            throw new BusinessException(violacoes);
+        }
+
+        if (repository.atualizarSeVersao(id, patch.getVersion(), patch.getAlteracoes(), LocalDateTime.now()) == 0) {
+            Long atual = repository.findVersionById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Beneficio", id));
+            throw new PreconditionFailedException(String.format(
+                    "Benefício está na versão %d, esperada %d. Recarregue e tente novamente.",
+                    atual, patch.getVersion()));
+        }
+        BeneficioResponseDTO response = repository.findResponseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Beneficio", id));
+        logger.info("Benefício atualizado parcialmente: ID={} Campos={}", id, patch.getAlteracoes().keySet());
+        eventPublisher.publishEvent(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.ATUALIZADO, response));
+        return response;
+    }
+
     /**
      * Deleta (desativa) benefício
      */
+    @RetryOnConflict
     public void delete(Long id) {
         Beneficio beneficio = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Beneficio", id));
 
         beneficio.setAtivo(false);
-        repository.save(beneficio);
+        // Flush antes do evento: o DTO precisa da versão e do updatedAt gravados
+        Beneficio saved = repository.saveAndFlush(beneficio);
         logger.info("Benefício desativado: ID={}", id);
+        eventPublisher.publishEvent(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.DESATIVADO,
+                new BeneficioResponseDTO(saved)));
     }
 
     /**
      * Transfere valor entre benefícios - implementação local
-     * Usa transação do Spring com optimistic locking
+     * Usa transação do Spring com optimistic locking ou, na estratégia CONDICIONAL,
+     * UPDATEs condicionais sem leitura prévia
      */
+    @RetryOnConflict
     public void transferir(TransferenciaRequestDTO dto) {
-        // Validações básicas
-        if (dto.getDeId().equals(dto.getParaId())) {
-            throw new BusinessException("Não é possível transferir para o mesmo benefício");
-        }
+        validarRequisicao(dto);
 
-        if (dto.getValor().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new BusinessException("Valor da transferência deve ser positivo");
+        if (transferenciaProperties.getEstrategia() == EstrategiaTransferencia.CONDICIONAL) {
+            transferenciaCondicional.executar(dto.getDeId(), dto.getParaId(), dto.getValor());
+            registrarHistorico(dto);
+            eventPublisher.publishEvent(new TransferenciaRealizadaEvent(dto.getDeId(), dto.getParaId(), dto.getValor()));
+            logger.info("Transferência realizada (condicional): De={} Para={} Valor={}",
+                    dto.getDeId(), dto.getParaId(), dto.getValor());
+            return;
         }
 
         // Busca benefícios
@@ -134,7 +416,140 @@ public class BeneficioService {
         Beneficio destino = repository.findById(dto.getParaId())
                 .orElseThrow(() -> new ResourceNotFoundException("Beneficio de destino", dto.getParaId()));
 
-        // Validações de negócio
+        aplicarTransferencia(origem, destino, dto.getValor());
+
+        try {
+            repository.save(origem);
+            repository.save(destino);
+            // Flush antecipado: o evento leva as versões resultantes e os ouvintes não releem as linhas
+            repository.flush();
+            registrarHistorico(dto);
+            eventPublisher.publishEvent(new TransferenciaRealizadaEvent(dto.getDeId(), dto.getParaId(), dto.getValor(),
+                    origem.getValor(), origem.getVersion(), destino.getValor(), destino.getVersion()));
+            logger.info("Transferência realizada: De={} Para={} Valor={}",
+                    dto.getDeId(), dto.getParaId(), dto.getValor());
+        } catch (OptimisticLockException e) {
+            throw new BusinessException(
+                    "Conflito de concorrência: os benefícios foram modificados. Tente novamente.", e);
+        }
+    }
+
+    /**
+     * Transfere valor gravando a chave de idempotência na mesma transação da movimentação
+     */
+    @RetryOnConflict
+    public void transferir(TransferenciaRequestDTO dto, String chaveIdempotencia) {
+        idempotenciaService.registrar(chaveIdempotencia, dto);
+        transferir(dto);
+    }
+
+    /**
+     * Transfere valores em lote numa única transação
+     * Carrega todos os benefícios envolvidos com uma só consulta IN, aplica os itens em memória
+     * na ordem da requisição e grava as linhas em ordem crescente de ID via JDBC batching.
+     * Itens rejeitados são reportados individualmente, a menos que o lote seja "tudo ou nada".
+     */
+    @RetryOnConflict
+    public TransferenciaLoteResponseDTO transferirLote(TransferenciaLoteRequestDTO lote) {
+        List<TransferenciaRequestDTO> itens = lote.getTransferencias();
+
+        TreeSet<Long> ids = new TreeSet<>();
+        for (TransferenciaRequestDTO item : itens) {
+            ids.add(item.getDeId());
+            ids.add(item.getParaId());
+        }
+
+        Map<Long, Beneficio> beneficios = new TreeMap<>();
+        for (Beneficio beneficio : repository.findAllByIdInOrderById(ids)) {
+            beneficios.put(beneficio.getId(), beneficio);
+        }
+
+        TransferenciaLoteResponseDTO resultado = new TransferenciaLoteResponseDTO();
+        List<TransferenciaRequestDTO> realizadas = new ArrayList<>();
+        List<Transferencia> historico = new ArrayList<>();
+        LocalDateTime agora = LocalDateTime.now();
+        for (int i = 0; i < itens.size(); i++) {
+            TransferenciaRequestDTO item = itens.get(i);
+            try {
+                validarRequisicao(item);
+                Beneficio origem = beneficios.get(item.getDeId());
+                if (origem == null) {
+                    throw new ResourceNotFoundException("Beneficio de origem", item.getDeId());
+                }
+                Beneficio destino = beneficios.get(item.getParaId());
+                if (destino == null) {
+                    throw new ResourceNotFoundException("Beneficio de destino", item.getParaId());
+                }
+                aplicarTransferencia(origem, destino, item.getValor());
+                resultado.adicionarSucesso(i, item);
+                realizadas.add(item);
+                historico.add(new Transferencia(item.getDeId(), item.getParaId(), item.getValor(), agora));
+            } catch (BusinessException | ResourceNotFoundException e) {
+                if (lote.isTudoOuNada()) {
+                    throw new BusinessException(
+                            String.format("Lote rejeitado no item %d: %s", i, e.getMessage()), e);
+                }
+                resultado.adicionarFalha(i, item, e.getMessage());
+            }
+        }
+
+        try {
+            // Entidades em ordem crescente de ID: os UPDATEs saem na mesma ordem em todo lote
+            repository.saveAllAndFlush(beneficios.values());
+            // IDs da sequence: os INSERTs do histórico também saem em lotes JDBC
+            transferenciaRepository.saveAll(historico);
+        } catch (OptimisticLockException | OptimisticLockingFailureException e) {
+            throw new BusinessException(
+                    "Conflito de concorrência: os benefícios do lote foram modificados. Tente novamente.", e);
+        }
+
+        // Após o flush: cada evento leva o saldo e a versão finais do lote para os dois lados
+        for (TransferenciaRequestDTO item : realizadas) {
+            Beneficio origem = beneficios.get(item.getDeId());
+            Beneficio destino = beneficios.get(item.getParaId());
+            eventPublisher.publishEvent(new TransferenciaRealizadaEvent(item.getDeId(), item.getParaId(), item.getValor(),
+                    origem.getValor(), origem.getVersion(), destino.getValor(), destino.getVersion()));
+        }
+
+        logger.info("Lote de transferências processado: Itens={} Processadas={} Falhas={}",
+                itens.size(), resultado.getProcessadas(), resultado.getFalhas());
+        return resultado;
+    }
+
+    private Map<Long, BeneficioResponseDTO> carregarEmBlocos(Set<Long> ids) {
+        List<Long> pendentes = new ArrayList<>(ids);
+        Map<Long, BeneficioResponseDTO> carregados = new HashMap<>(pendentes.size() * 2);
+        for (int inicio = 0; inicio < pendentes.size(); inicio += TAMANHO_BLOCO_IN) {
+            List<Long> bloco = pendentes.subList(inicio, Math.min(pendentes.size(), inicio + TAMANHO_BLOCO_IN));
+            for (BeneficioResponseDTO beneficio : repository.findAllResponseByIdIn(bloco)) {
+                carregados.put(beneficio.getId(), beneficio);
+            }
+        }
+        return carregados;
+    }
+
+    private void registrarHistorico(TransferenciaRequestDTO dto) {
+        transferenciaRepository.save(
+                new Transferencia(dto.getDeId(), dto.getParaId(), dto.getValor(), LocalDateTime.now()));
+    }
+
+    /**
+     * Validações que independem do estado dos benefícios
+     */
+    static void validarRequisicao(TransferenciaRequestDTO dto) {
+        if (dto.getDeId().equals(dto.getParaId())) {
+            throw new BusinessException("Não é possível transferir para o mesmo benefício");
+        }
+
+        if (dto.getValor().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new BusinessException("Valor da transferência deve ser positivo");
+        }
+    }
+
+    /**
+     * Valida as regras de negócio e movimenta os saldos em memória
+     */
+    private void aplicarTransferencia(Beneficio origem, Beneficio destino, BigDecimal valor) {
         if (!Boolean.TRUE.equals(origem.getAtivo())) {
             throw new BusinessException("Benefício de origem está inativo");
         }
@@ -143,25 +558,73 @@ public class BeneficioService {
             throw new BusinessException("Benefício de destino está inativo");
         }
 
-        if (origem.getValor().compareTo(dto.getValor()) < 0) {
+        if (origem.getValor().compareTo(valor) < 0) {
             throw new BusinessException(
                     String.format("Saldo insuficiente. Saldo atual: %.2f, Valor solicitado: %.2f",
-                            origem.getValor(), dto.getValor())
+                            origem.getValor(), valor)
             );
         }
 
-        // Realiza transferência
-        origem.setValor(origem.getValor().subtract(dto.getValor()));
-        destino.setValor(destino.getValor().add(dto.getValor()));
+        origem.setValor(origem.getValor().subtract(valor));
+        destino.setValor(destino.getValor().add(valor));
+    }
 
-        try {
-            repository.save(origem);
-            repository.save(destino);
-            logger.info("Transferência realizada: De={} Para={} Valor={}",
-                    dto.getDeId(), dto.getParaId(), dto.getValor());
-        } catch (OptimisticLockException e) {
-            throw new BusinessException(
-                    "Conflito de concorrência: os benefícios foram modificados. Tente novamente.", e);
+    /**
+     * Posição no extrato (último movimento entregue), serializada como Base64 URL-safe opaco
+     */
+    private record CursorExtrato(LocalDateTime dataHora, long id) {
+
+        static CursorExtrato de(Transferencia transferencia) {
+            return new CursorExtrato(transferencia.getDataHora(), transferencia.getId());
+        }
+
+        static CursorExtrato decodificar(String cursor) {
+            try {
+                String[] partes = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                        .split("_");
+                if (partes.length != 2) {
+                    throw new IllegalArgumentException(cursor);
+                }
+                return new CursorExtrato(LocalDateTime.parse(partes[0]), Long.parseLong(partes[1]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BusinessException("Cursor do extrato inválido");
+            }
+        }
+
+        String codificar() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((dataHora + "_" + id).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Posição na listagem paginada: ordenação, valor do campo ordenado e ID do último item entregue
+     * Serializada como Base64 URL-safe de "campo,direcao:valor_id"; só vale para a mesma ordenação.
+     */
+    private record CursorPagina(Comparable<?> valor, long id) {
+
+        static String codificar(BeneficioSpecifications.Ordenacao ordenacao, Beneficio ultimo) {
+            String texto = ordenacao + ":" + ordenacao.valorCursor(ultimo) + "_" + ultimo.getId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static CursorPagina decodificar(String cursor, BeneficioSpecifications.Ordenacao ordenacao) {
+            try {
+                String texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separadorOrdenacao = texto.indexOf(':');
+                int separadorId = texto.lastIndexOf('_');
+                if (separadorOrdenacao < 0 || separadorId < separadorOrdenacao) {
+                    throw new IllegalArgumentException(cursor);
+                }
+                if (!texto.substring(0, separadorOrdenacao).equals(ordenacao.toString())) {
+                    throw new BusinessException("Cursor gerado para outra ordenação: use o mesmo sort da página anterior");
+                }
+                return new CursorPagina(
+                        ordenacao.converter(texto.substring(separadorOrdenacao + 1, separadorId)),
+                        Long.parseLong(texto.substring(separadorId + 1)));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
         }
     }
 }
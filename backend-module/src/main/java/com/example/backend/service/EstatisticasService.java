@@ -0,0 +1,349 @@
+package com.example.backend.service;
+
+import com.example.backend.config.EstatisticasProperties;
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.EstatisticasResponseDTO;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.SaldosGravadosEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.example.backend.repository.BeneficioRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estatísticas agregadas dos benefícios mantidas em memória (GET /api/v1/beneficios/estatisticas)
+ *
+ * Criações, alterações e transferências confirmadas (AFTER_COMMIT) trocam o saldo conhecido de
+ * cada benefício, atualizando por diferença um multiconjunto ordenado de valores (mínimo e máximo)
+ * e os contadores do histograma; a cada escrita um novo resultado imutável é publicado, e a leitura
+ * apenas o devolve. Cada saldo guarda a versão da linha e eventos com versão antiga são ignorados,
+ * como no journal. Transferências sem saldo no evento (UPDATEs condicionais) são relidas numa
+ * consulta por transação; no motor particionado, após cada gravação write-behind. Um recálculo
+ * completo periódico corrige desvios de escritas feitas fora da aplicação.
+ */
+@Service
+public class EstatisticasService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EstatisticasService.class);
+
+    private final BeneficioRepository repository;
+    private final EstatisticasProperties properties;
+    private final TransferenciaProperties transferenciaProperties;
+    private final BigDecimal[] limites;
+
+    private final Map<Long, Saldo> saldos = new HashMap<>();
+    private final TreeMap<BigDecimal, Integer> valores = new TreeMap<>();
+    private final long[] histograma;
+    private BigDecimal valorTotal = BigDecimal.ZERO;
+    private long quantidadeAtivos;
+    private LocalDateTime recalculadoEm;
+    private Set<Long> alteradosDuranteRecalculo;
+
+    private volatile EstatisticasResponseDTO atual;
+    private ScheduledExecutorService agendador;
+
+    public EstatisticasService(BeneficioRepository repository, EstatisticasProperties properties,
+                               TransferenciaProperties transferenciaProperties) {
+        this.repository = repository;
+        this.properties = properties;
+        this.transferenciaProperties = transferenciaProperties;
+        this.limites = properties.getFaixas().stream().sorted().toArray(BigDecimal[]::new);
+        this.histograma = new long[Math.max(1, limites.length)];
+        this.atual = montar();
+    }
+
+    /**
+     * Estatísticas atuais; O(1), sem acesso ao banco
+     */
+    public EstatisticasResponseDTO obter() {
+        return atual;
+    }
+
+    /**
+     * Primeiro cálculo completo e agendamento dos recálculos
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void iniciar() {
+        if (agendador != null) {
+            return;
+        }
+        recalcular();
+        agendador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "estatisticas-recalculo");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalo = properties.getIntervaloRecalculo().toMillis();
+        agendador.scheduleWithFixedDelay(this::recalcular, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onBeneficioAlterado(BeneficioAlteradoEvent evento) {
+        BeneficioResponseDTO beneficio = evento.getBeneficio();
+        if (beneficio == null || beneficio.getId() == null || beneficio.getValor() == null) {
+            return;
+        }
+        if (aplicar(beneficio.getId(), saldo(beneficio))) {
+            atual = montar();
+        }
+    }
+
+    /**
+     * Aplica os saldos resultantes após o commit da transação que publicou o evento
+     * No motor particionado o banco ainda não tem a transferência; ela chega em onSaldosGravados.
+     */
+    @EventListener
+    public void onTransferenciaRealizada(TransferenciaRealizadaEvent evento) {
+        if (transferenciaProperties.getEstrategia() == EstrategiaTransferencia.PARTICIONADA) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransferenciasDoCommit avulsa = new TransferenciasDoCommit();
+            avulsa.adicionar(evento);
+            avulsa.afterCommit();
+            return;
+        }
+        TransferenciasDoCommit doCommit = (TransferenciasDoCommit) TransactionSynchronizationManager.getResource(this);
+        if (doCommit == null) {
+            doCommit = new TransferenciasDoCommit();
+            TransactionSynchronizationManager.bindResource(this, doCommit);
+            TransactionSynchronizationManager.registerSynchronization(doCommit);
+        }
+        doCommit.adicionar(evento);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSaldosGravados(SaldosGravadosEvent evento) {
+        reler(evento.getIds());
+    }
+
+    /**
+     * Recalcula tudo a partir do banco; a leitura acontece fora do bloqueio
+     */
+    void recalcular() {
+        try {
+            synchronized (this) {
+                alteradosDuranteRecalculo = new HashSet<>();
+            }
+            List<BeneficioResponseDTO> beneficios = repository.findAllResponse();
+            synchronized (this) {
+                Map<Long, Saldo> lidos = new HashMap<>();
+                for (BeneficioResponseDTO beneficio : beneficios) {
+                    lidos.put(beneficio.getId(), saldo(beneficio));
+                }
+                // A leitura pode ou não ter visto essas escritas: vale a versão mais nova
+                for (Long id : alteradosDuranteRecalculo) {
+                    Saldo saldo = saldos.get(id);
+                    Saldo lido = lidos.get(id);
+                    if (saldo != null && (lido == null || !lido.maisNovoQue(saldo))) {
+                        lidos.put(id, saldo);
+                    }
+                }
+                alteradosDuranteRecalculo = null;
+
+                boolean primeiro = recalculadoEm == null;
+                BigDecimal totalAnterior = valorTotal;
+                int quantidadeAnterior = saldos.size();
+                saldos.clear();
+                valores.clear();
+                Arrays.fill(histograma, 0);
+                valorTotal = BigDecimal.ZERO;
+                quantidadeAtivos = 0;
+                lidos.forEach(this::definir);
+                recalculadoEm = LocalDateTime.now();
+                atual = montar();
+
+                if (!primeiro && (quantidadeAnterior != saldos.size() || totalAnterior.compareTo(valorTotal) != 0)) {
+                    logger.warn("Estatísticas recalculadas com correção: Quantidade {} -> {} Total {} -> {}",
+                            quantidadeAnterior, saldos.size(), totalAnterior, valorTotal);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Falha ao recalcular estatísticas de benefícios", e);
+            synchronized (this) {
+                alteradosDuranteRecalculo = null;
+            }
+        }
+    }
+
+    @PreDestroy
+    public synchronized void encerrar() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+        }
+    }
+
+    /**
+     * Troca o saldo conhecido se o novo for de versão mais nova; devolve se houve troca
+     */
+    private boolean aplicar(Long id, Saldo novo) {
+        Saldo anterior = saldos.get(id);
+        if (anterior != null && !novo.maisNovoQue(anterior)) {
+            return false;
+        }
+        definir(id, novo);
+        return true;
+    }
+
+    private void reler(Collection<Long> ids) {
+        List<BeneficioResponseDTO> beneficios = repository.findAllResponseByIdIn(ids);
+        synchronized (this) {
+            boolean alterado = false;
+            for (BeneficioResponseDTO beneficio : beneficios) {
+                alterado |= aplicar(beneficio.getId(), saldo(beneficio));
+            }
+            if (alterado) {
+                atual = montar();
+            }
+        }
+    }
+
+    private synchronized void aplicarTransferencias(List<TransferenciaRealizadaEvent> eventos) {
+        boolean alterado = false;
+        for (TransferenciaRealizadaEvent evento : eventos) {
+            alterado |= aplicar(evento.getDeId(), new Saldo(evento.getSaldoDe(), ativo(evento.getDeId()), evento.getVersaoDe()));
+            alterado |= aplicar(evento.getParaId(), new Saldo(evento.getSaldoPara(), ativo(evento.getParaId()), evento.getVersaoPara()));
+        }
+        if (alterado) {
+            atual = montar();
+        }
+    }
+
+    /**
+     * Troca o saldo conhecido do benefício, desfazendo a contribuição anterior nos agregados
+     */
+    private void definir(Long id, Saldo novo) {
+        Saldo anterior = saldos.put(id, novo);
+        if (anterior != null) {
+            remover(anterior);
+        }
+        valorTotal = valorTotal.add(novo.valor());
+        valores.merge(novo.valor(), 1, Integer::sum);
+        histograma[faixa(novo.valor())]++;
+        if (novo.ativo()) {
+            quantidadeAtivos++;
+        }
+        if (alteradosDuranteRecalculo != null) {
+            alteradosDuranteRecalculo.add(id);
+        }
+    }
+
+    private void remover(Saldo saldo) {
+        valorTotal = valorTotal.subtract(saldo.valor());
+        valores.computeIfPresent(saldo.valor(), (valor, quantidade) -> quantidade > 1 ? quantidade - 1 : null);
+        histograma[faixa(saldo.valor())]--;
+        if (saldo.ativo()) {
+            quantidadeAtivos--;
+        }
+    }
+
+    /**
+     * Índice da faixa: última cujo limite inferior é menor ou igual ao valor (valores abaixo do
+     * primeiro limite contam na primeira faixa)
+     */
+    private int faixa(BigDecimal valor) {
+        int indice = Arrays.binarySearch(limites, valor, BigDecimal::compareTo);
+        int faixa = indice >= 0 ? indice : -indice - 2;
+        return Math.max(0, Math.min(faixa, histograma.length - 1));
+    }
+
+    private EstatisticasResponseDTO montar() {
+        List<EstatisticasResponseDTO.Faixa> faixas = new ArrayList<>(histograma.length);
+        for (int i = 0; i < histograma.length; i++) {
+            BigDecimal de = limites.length > 0 ? limites[i] : BigDecimal.ZERO;
+            BigDecimal ate = i + 1 < limites.length ? limites[i + 1] : null;
+            faixas.add(new EstatisticasResponseDTO.Faixa(de, ate, histograma[i]));
+        }
+        long quantidade = saldos.size();
+        return new EstatisticasResponseDTO(
+                quantidade,
+                quantidadeAtivos,
+                valorTotal,
+                valores.isEmpty() ? null : valores.firstKey(),
+                valores.isEmpty() ? null : valores.lastKey(),
+                quantidade == 0 ? null : valorTotal.divide(BigDecimal.valueOf(quantidade), 2, RoundingMode.HALF_EVEN),
+                List.copyOf(faixas),
+                recalculadoEm);
+    }
+
+    /**
+     * Transferências não mudam o ativo: vale o conhecido (benefício ainda não visto só pode estar ativo)
+     */
+    private boolean ativo(Long id) {
+        Saldo saldo = saldos.get(id);
+        return saldo == null || saldo.ativo();
+    }
+
+    private static Saldo saldo(BeneficioResponseDTO beneficio) {
+        return new Saldo(beneficio.getValor(), Boolean.TRUE.equals(beneficio.getAtivo()), beneficio.getVersion());
+    }
+
+    private record Saldo(BigDecimal valor, boolean ativo, Long versao) {
+
+        /**
+         * Versão nula (linha sem @Version conhecida) sempre substitui
+         */
+        boolean maisNovoQue(Saldo outro) {
+            return versao == null || outro.versao == null || versao > outro.versao;
+        }
+    }
+
+    /**
+     * Transferências de uma transação, aplicadas só se ela for confirmada
+     */
+    private final class TransferenciasDoCommit implements TransactionSynchronization {
+
+        private final List<TransferenciaRealizadaEvent> conhecidas = new ArrayList<>();
+        private final Set<Long> relidos = new LinkedHashSet<>();
+
+        void adicionar(TransferenciaRealizadaEvent evento) {
+            if (evento.temSaldos()) {
+                conhecidas.add(evento);
+            } else {
+                relidos.add(evento.getDeId());
+                relidos.add(evento.getParaId());
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!conhecidas.isEmpty()) {
+                aplicarTransferencias(conhecidas);
+            }
+            if (!relidos.isEmpty()) {
+                reler(relidos);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(EstatisticasService.this);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.backend.service;
+
+/**
+ * Estratégias disponíveis para executar uma transferência
+ */
+public enum EstrategiaTransferencia {
+
+    /**
+     * Lê as duas entidades, valida em Java e grava com optimistic locking (@Version)
+     */
+    OTIMISTA,
+
+    /**
+     * Debita e credita com UPDATEs condicionais, sem SELECT prévio nem janela de conflito
+     */
+    CONDICIONAL,
+
+    /**
+     * Saldos em memória, particionados por ID entre threads single-writer, com gravação
+     * write-behind em lotes (ver TransferenciaEngine)
+     */
+    PARTICIONADA
+}
@@ -0,0 +1,38 @@
+package com.example.backend.service;
+
+import com.example.backend.exception.BusinessException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Formatos aceitos pela exportação e pela importação em streaming
+ */
+public enum FormatoExportacao {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extensao;
+
+    FormatoExportacao(MediaType mediaType, String extensao) {
+        this.mediaType = mediaType;
+        this.extensao = extensao;
+    }
+
+    public static FormatoExportacao de(String formato) {
+        try {
+            return valueOf(formato.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Formato inválido: " + formato + " (use ndjson ou csv)");
+        }
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+}
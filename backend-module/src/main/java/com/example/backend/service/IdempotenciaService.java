@@ -0,0 +1,133 @@
+package com.example.backend.service;
+
+import com.example.backend.config.IdempotenciaProperties;
+import com.example.backend.dto.TransferenciaRequestDTO;
+import com.example.backend.entity.ChaveIdempotencia;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.repository.ChaveIdempotenciaRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Idempotência de transferências pelo header Idempotency-Key
+ *
+ * Chaves concluídas ficam num cache limitado por tamanho e TTL: a repetição é respondida sem
+ * abrir transação. Repetições concorrentes de uma chave em andamento aguardam a primeira execução.
+ * Fora do cache, a tabela IDEMPOTENCIA_TRANSFERENCIA é consultada; a chave é gravada junto com a
+ * movimentação, e a chave primária barra execuções duplicadas entre instâncias.
+ * Só sucessos são memorizados: uma transferência recusada pode ser reenviada com a mesma chave.
+ */
+@Service
+public class IdempotenciaService {
+
+    private final ChaveIdempotenciaRepository repository;
+    private final AsyncCache<String, Impressao> concluidas;
+
+    public IdempotenciaService(ChaveIdempotenciaRepository repository, IdempotenciaProperties properties) {
+        this.repository = repository;
+        // Futures com falha são descartados pelo Caffeine, liberando a chave para nova tentativa
+        this.concluidas = Caffeine.newBuilder()
+                .maximumSize(properties.getTamanhoMaximo())
+                .expireAfterWrite(properties.getTtl())
+                .buildAsync();
+    }
+
+    /**
+     * Executa a transferência uma única vez por chave
+     *
+     * @param transferencia execução real, responsável por gravar a chave na mesma transação da
+     *                      movimentação (ver {@link #registrar}); gravá-la depois transformaria uma
+     *                      colisão em falsa repetição
+     * @return true se a resposta é a repetição de uma execução anterior
+     */
+    public boolean executar(String chave, TransferenciaRequestDTO dto, Runnable transferencia) {
+        validarChave(chave);
+
+        CompletableFuture<Impressao> propria = new CompletableFuture<>();
+        CompletableFuture<Impressao> existente = concluidas.asMap().putIfAbsent(chave, propria);
+        if (existente != null) {
+            verificarMesmaTransferencia(chave, aguardar(existente), dto);
+            return true;
+        }
+
+        try {
+            Optional<Impressao> gravada = buscarGravada(chave);
+            if (gravada.isEmpty()) {
+                try {
+                    transferencia.run();
+                    propria.complete(Impressao.de(dto));
+                    return false;
+                } catch (DataIntegrityViolationException e) {
+                    // Outra instância gravou a mesma chave antes do nosso commit; como a chave é
+                    // gravada na transação da movimentação, a nossa foi desfeita junto com ela
+                    gravada = Optional.of(buscarGravada(chave).orElseThrow(() -> e));
+                }
+            }
+            propria.complete(gravada.get());
+            verificarMesmaTransferencia(chave, gravada.get(), dto);
+            return true;
+        } catch (RuntimeException e) {
+            propria.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Grava a chave; deve ser chamado dentro da transação da movimentação
+     */
+    public void registrar(String chave, TransferenciaRequestDTO dto) {
+        repository.save(new ChaveIdempotencia(chave, dto.getDeId(), dto.getParaId(), dto.getValor()));
+    }
+
+    private Optional<Impressao> buscarGravada(String chave) {
+        return repository.findById(chave)
+                .map(c -> new Impressao(c.getDeId(), c.getParaId(), c.getValor()));
+    }
+
+    private static void validarChave(String chave) {
+        if (chave == null || chave.isBlank() || chave.length() > 100) {
+            throw new BusinessException("Idempotency-Key deve ter entre 1 e 100 caracteres");
+        }
+    }
+
+    private static void verificarMesmaTransferencia(String chave, Impressao original, TransferenciaRequestDTO dto) {
+        if (!original.corresponde(dto)) {
+            throw new BusinessException(
+                    String.format("Idempotency-Key %s já foi usada com outra transferência", chave));
+        }
+    }
+
+    private static Impressao aguardar(CompletableFuture<Impressao> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Dados da transferência original, para recusar a reutilização da chave com outro conteúdo
+     */
+    private record Impressao(Long deId, Long paraId, BigDecimal valor) {
+
+        static Impressao de(TransferenciaRequestDTO dto) {
+            return new Impressao(dto.getDeId(), dto.getParaId(), dto.getValor());
+        }
+
+        boolean corresponde(TransferenciaRequestDTO dto) {
+            return deId.equals(dto.getDeId())
+                    && paraId.equals(dto.getParaId())
+                    && valor.compareTo(dto.getValor()) == 0;
+        }
+    }
+}
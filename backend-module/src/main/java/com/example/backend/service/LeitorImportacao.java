@@ -0,0 +1,137 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitura incremental do arquivo de importação: linhas NDJSON ou registros CSV (RFC 4180)
+ *
+ * Lê caractere a caractere de um Reader com buffer e guarda só o registro atual, limitado a
+ * tamanhoMaximo caracteres; campos entre aspas podem conter vírgulas, aspas duplicadas e quebras
+ * de linha. Aceita \n e \r\n como fim de linha.
+ */
+class LeitorImportacao {
+
+    private final Reader entrada;
+    private final int tamanhoMaximo;
+    private final StringBuilder atual = new StringBuilder();
+    private long linha;
+    private long linhaInicial;
+    private int pendente = -2;
+
+    LeitorImportacao(Reader entrada, int tamanhoMaximo) {
+        this.entrada = entrada;
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    /**
+     * Próxima linha sem o terminador, ou null no fim do arquivo
+     */
+    String proximaLinha() throws IOException {
+        if (espiar() < 0) {
+            return null;
+        }
+        iniciarRegistro();
+        int c = ler();
+        while (c >= 0 && c != '\n') {
+            if (c != '\r' || espiar() != '\n') {
+                acrescentar((char) c);
+            }
+            c = ler();
+        }
+        return atual.toString();
+    }
+
+    /**
+     * Campos do próximo registro CSV, ou null no fim do arquivo
+     */
+    List<String> proximoRegistroCsv() throws IOException {
+        if (espiar() < 0) {
+            return null;
+        }
+        iniciarRegistro();
+        int c = ler();
+        List<String> campos = new ArrayList<>();
+        boolean entreAspas = false;
+        while (true) {
+            if (entreAspas) {
+                if (c < 0) {
+                    throw new RegistroInvalidoException("Aspas não fechadas no registro iniciado na linha " + linhaInicial);
+                }
+                if (c == '"') {
+                    if (espiar() == '"') {
+                        ler();
+                        acrescentar('"');
+                    } else {
+                        entreAspas = false;
+                    }
+                } else {
+                    acrescentar((char) c);
+                }
+            } else if (c < 0 || c == '\n') {
+                campos.add(atual.toString());
+                return campos;
+            } else if (c == ',') {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else if (c == '"' && atual.length() == 0) {
+                entreAspas = true;
+            } else if (c != '\r' || espiar() != '\n') {
+                acrescentar((char) c);
+            }
+            c = ler();
+        }
+    }
+
+    /**
+     * Linha do arquivo (a partir de 1) em que começou o último registro lido
+     */
+    long getLinhaInicial() {
+        return linhaInicial;
+    }
+
+    private void iniciarRegistro() {
+        atual.setLength(0);
+        linhaInicial = linha + 1;
+    }
+
+    private void acrescentar(char c) {
+        if (atual.length() >= tamanhoMaximo) {
+            throw new RegistroInvalidoException(
+                    "Registro iniciado na linha " + linhaInicial + " excede " + tamanhoMaximo + " caracteres");
+        }
+        atual.append(c);
+    }
+
+    private int ler() throws IOException {
+        int c;
+        if (pendente != -2) {
+            c = pendente;
+            pendente = -2;
+        } else {
+            c = entrada.read();
+        }
+        if (c == '\n') {
+            linha++;
+        }
+        return c;
+    }
+
+    private int espiar() throws IOException {
+        if (pendente == -2) {
+            pendente = entrada.read();
+        }
+        return pendente;
+    }
+
+    /**
+     * Registro que não pode ser lido; o restante do arquivo não é confiável
+     */
+    static class RegistroInvalidoException extends RuntimeException {
+        RegistroInvalidoException(String mensagem) {
+            super(mensagem);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.backend.service;
+
+import com.example.backend.config.SincronizacaoProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.MudancasResponseDTO;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.repository.BeneficioRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sincronização incremental: benefícios alterados desde um cursor (GET /api/v1/beneficios/mudancas)
+ *
+ * O cursor é a posição (updated_at, id) da última alteração entregue, lida pelo índice
+ * IDX_BENEFICIO_UPDATED_AT_ID. Desativações também atualizam updated_at, então o cliente mantém
+ * uma réplica local aplicando cada benefício recebido (maior version vence).
+ *
+ * Como updated_at é carimbado antes do commit, uma transação lenta pode aparecer com horário
+ * anterior ao de outra já entregue. Por isso o cursor devolvido nunca passa de agora menos a margem
+ * de commit, nem em página cheia: alterações dentro da margem são reenviadas na próxima consulta.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SincronizacaoService {
+
+    static final int LIMITE_MAXIMO = 1000;
+
+    private static final Comparator<CursorMudancas> ORDEM = Comparator
+            .comparing(CursorMudancas::updatedAt)
+            .thenComparingLong(CursorMudancas::id);
+
+    /**
+     * Cursor da primeira consulta: anterior a qualquer alteração
+     */
+    private static final CursorMudancas INICIO = new CursorMudancas(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final BeneficioRepository repository;
+    private final SincronizacaoProperties properties;
+
+    public SincronizacaoService(BeneficioRepository repository, SincronizacaoProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    /**
+     * Até limite benefícios alterados após o cursor, em ordem de (updatedAt, id)
+     *
+     * @param desde cursor devolvido pela consulta anterior; vazio para a carga inicial
+     */
+    public MudancasResponseDTO mudancas(String desde, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BusinessException(
+                    String.format("Limite de mudanças deve estar entre 1 e %d", LIMITE_MAXIMO));
+        }
+        CursorMudancas inicio = desde == null || desde.isBlank() ? INICIO : CursorMudancas.decodificar(desde);
+        LocalDateTime corte = LocalDateTime.now().minus(properties.getMargemCommit());
+
+        List<BeneficioResponseDTO> beneficios = repository.findAlteradosApos(
+                inicio.updatedAt(), inicio.id(), PageRequest.of(0, limite + 1));
+        boolean temMais = beneficios.size() > limite;
+        if (temMais) {
+            beneficios = beneficios.subList(0, limite);
+        }
+
+        CursorMudancas proximo = beneficios.isEmpty() ? inicio : CursorMudancas.de(beneficios.get(beneficios.size() - 1));
+        CursorMudancas limiteSeguro = new CursorMudancas(corte, 0L);
+        if (ORDEM.compare(proximo, limiteSeguro) > 0) {
+            // Página (cheia ou não) que cruza o corte termina nele: o que vem depois está na margem
+            // e é reenviado na próxima consulta, junto com commits lentos ainda invisíveis
+            proximo = ORDEM.compare(inicio, limiteSeguro) > 0 ? inicio : limiteSeguro;
+            temMais = false;
+        }
+        return new MudancasResponseDTO(beneficios, proximo.codificar(), temMais);
+    }
+
+    /**
+     * Posição na sequência de alterações, serializada como Base64 URL-safe opaco
+     */
+    record CursorMudancas(LocalDateTime updatedAt, long id) {
+
+        static CursorMudancas de(BeneficioResponseDTO beneficio) {
+            return new CursorMudancas(beneficio.getUpdatedAt(), beneficio.getId());
+        }
+
+        static CursorMudancas decodificar(String cursor) {
+            try {
+                String[] partes = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                        .split("_");
+                if (partes.length != 2) {
+                    throw new IllegalArgumentException(cursor);
+                }
+                return new CursorMudancas(LocalDateTime.parse(partes[0]), Long.parseLong(partes[1]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BusinessException("Cursor de mudanças inválido");
+            }
+        }
+
+        String codificar() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((updatedAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.backend.service;
+
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.TransferenciaRequestDTO;
+import com.example.backend.dto.TransferenciaStatusDTO;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.exception.ServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transferências assíncronas: a requisição é aceita na hora e executada por um pool próprio
+ *
+ * O pool tem threads e fila limitadas (beneficios.transferencia.assincrona.*); com a fila cheia a
+ * submissão é recusada com 503 em vez de acumular memória. O status de cada transferência fica num
+ * cache limitado por tamanho e TTL, consultado por GET /api/v1/transferencias/{id}.
+ *
+ * Métricas: beneficios.transferencia.async.fila (profundidade da fila), .espera (tempo na fila),
+ * .execucao (duração da transferência) e .rejeitadas.
+ */
+@Service
+public class TransferenciaAssincronaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferenciaAssincronaService.class);
+
+    private final TransferenciaService transferenciaService;
+    private final Cache<String, TransferenciaStatusDTO> status;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer espera;
+    private final Timer execucao;
+    private final Counter rejeitadas;
+
+    public TransferenciaAssincronaService(TransferenciaService transferenciaService,
+                                          TransferenciaProperties properties,
+                                          MeterRegistry meterRegistry) {
+        this.transferenciaService = transferenciaService;
+        TransferenciaProperties.Assincrona config = properties.getAssincrona();
+        this.status = Caffeine.newBuilder()
+                .maximumSize(config.getTamanhoMaximoStatus())
+                .expireAfterWrite(config.getTtlStatus())
+                .build();
+
+        int threads = Math.max(1, config.getThreads());
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getCapacidadeFila())),
+                r -> {
+                    Thread thread = new Thread(r, "transferencia-async-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("beneficios.transferencia.async.fila", executor, e -> e.getQueue().size())
+                .description("Transferências aceitas aguardando execução").register(meterRegistry);
+        this.espera = Timer.builder("beneficios.transferencia.async.espera")
+                .description("Tempo entre a aceitação e o início da execução").register(meterRegistry);
+        this.execucao = Timer.builder("beneficios.transferencia.async.execucao")
+                .description("Duração da execução da transferência").register(meterRegistry);
+        this.rejeitadas = Counter.builder("beneficios.transferencia.async.rejeitadas")
+                .description("Submissões recusadas com a fila cheia").register(meterRegistry);
+    }
+
+    /**
+     * Valida e enfileira a transferência, devolvendo o status PENDENTE com o ID para consulta
+     */
+    public TransferenciaStatusDTO submeter(TransferenciaRequestDTO dto, String chaveIdempotencia) {
+        BeneficioService.validarRequisicao(dto);
+        transferenciaService.verificarIdempotencia(chaveIdempotencia);
+
+        TransferenciaStatusDTO pendente = TransferenciaStatusDTO.pendente(UUID.randomUUID().toString(), dto);
+        status.put(pendente.getId(), pendente);
+        long submetidaEm = System.nanoTime();
+        try {
+            executor.execute(() -> executar(pendente, dto, chaveIdempotencia, submetidaEm));
+        } catch (RejectedExecutionException e) {
+            status.invalidate(pendente.getId());
+            rejeitadas.increment();
+            throw new ServiceUnavailableException("Fila de transferências assíncronas cheia. Tente novamente.");
+        }
+        return pendente;
+    }
+
+    /**
+     * Status atual da transferência
+     */
+    public TransferenciaStatusDTO buscar(String id) {
+        TransferenciaStatusDTO atual = status.getIfPresent(id);
+        if (atual == null) {
+            throw new ResourceNotFoundException(String.format("Transferência %s não encontrada", id));
+        }
+        return atual;
+    }
+
+    private void executar(TransferenciaStatusDTO pendente, TransferenciaRequestDTO dto,
+                          String chaveIdempotencia, long submetidaEm) {
+        long inicio = System.nanoTime();
+        espera.record(inicio - submetidaEm, TimeUnit.NANOSECONDS);
+        status.put(pendente.getId(), pendente.emExecucao());
+        try {
+            if (chaveIdempotencia == null) {
+                transferenciaService.transferir(dto);
+            } else {
+                transferenciaService.transferir(dto, chaveIdempotencia);
+            }
+            status.put(pendente.getId(), pendente.concluida());
+        } catch (RuntimeException e) {
+            logger.warn("Transferência assíncrona {} falhou: {}", pendente.getId(), e.getMessage());
+            status.put(pendente.getId(), pendente.falhou(e.getMessage()));
+        } finally {
+            execucao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Para de aceitar submissões e aguarda as já enfileiradas
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Transferências assíncronas ainda pendentes no encerramento: {}", executor.getQueue().size());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Beneficio;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.repository.BeneficioRepository;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Transferência por UPDATEs condicionais (estratégia CONDICIONAL)
+ *
+ * O débito só afeta a linha se ela existir, estiver ativa e tiver saldo; o crédito só se existir
+ * e estiver ativa. Os dois UPDATEs rodam em ordem crescente de ID para que transferências
+ * cruzadas não entrem em deadlock. Não abre transação própria: participa da transação do chamador,
+ * que deve desfazer o primeiro UPDATE se o segundo falhar.
+ */
+@Component
+public class TransferenciaCondicional {
+
+    private final BeneficioRepository repository;
+
+    public TransferenciaCondicional(BeneficioRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Executa débito e crédito; lança exceção de negócio se algum UPDATE não afetar linha
+     */
+    public void executar(Long deId, Long paraId, BigDecimal valor) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (deId < paraId) {
+            debitar(deId, valor, agora);
+            creditar(paraId, valor, agora);
+        } else {
+            creditar(paraId, valor, agora);
+            debitar(deId, valor, agora);
+        }
+    }
+
+    private void debitar(Long id, BigDecimal valor, LocalDateTime agora) {
+        if (repository.debitarSeSaldoSuficiente(id, valor, agora) == 0) {
+            // Caminho frio: só consulta a linha para explicar a recusa
+            Beneficio origem = repository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Beneficio de origem", id));
+            if (!Boolean.TRUE.equals(origem.getAtivo())) {
+                throw new BusinessException("Benefício de origem está inativo");
+            }
+            throw new BusinessException(
+                    String.format("Saldo insuficiente. Saldo atual: %.2f, Valor solicitado: %.2f",
+                            origem.getValor(), valor)
+            );
+        }
+    }
+
+    private void creditar(Long id, BigDecimal valor, LocalDateTime agora) {
+        if (repository.creditarSeAtivo(id, valor, agora) == 0) {
+            if (!repository.existsById(id)) {
+                throw new ResourceNotFoundException("Beneficio de destino", id);
+            }
+            throw new BusinessException("Benefício de destino está inativo");
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.example.backend.service;
+
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.TransferenciaRequestDTO;
+import com.example.backend.entity.Transferencia;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ServiceUnavailableException;
+import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.repository.TransferenciaRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Group commit de transferências
+ *
+ * Transferências que chegam dentro da janela configurada (ou até o tamanho máximo do lote) são
+ * aplicadas numa única transação, pagando um só commit. Cada item roda num savepoint JDBC com os
+ * UPDATEs condicionais de {@link TransferenciaCondicional}: um item recusado volta ao seu savepoint
+ * sem afetar os demais. (O JpaTransactionManager não oferece savepoints com Hibernate, por isso o
+ * savepoint é tomado direto na conexão da transação; os UPDATEs em massa não deixam estado no
+ * contexto de persistência, então desfazê-los no banco basta.) Antes dos itens, todos os benefícios
+ * do lote são travados em ordem crescente de ID, como no lote de POST /transferir/lote, para que
+ * lotes e transferências concorrentes não entrem em deadlock.
+ *
+ * Com Idempotency-Key, a chave é inserida sob o savepoint do item, na mesma transação dos saldos:
+ * uma chave repetida desfaz só aquele item e chega ao chamador como DataIntegrityViolationException.
+ *
+ * Cada chamador aguarda o próprio future, que só é concluído depois do commit compartilhado, por
+ * no máximo tempo-maximo-espera; estourado o prazo, o pedido é retirado do lote (se ainda não
+ * entrou numa transação) e o chamador recebe 503. No encerramento, todo pedido ainda na fila falha.
+ *
+ * Métricas: beneficios.groupcommit.lote (itens por commit), beneficios.groupcommit.commit
+ * (duração da transação) e beneficios.groupcommit.latencia (espera de cada chamador).
+ */
+@Component
+public class TransferenciaGroupCommit {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferenciaGroupCommit.class);
+
+    private static final String INSERT_CHAVE = "INSERT INTO IDEMPOTENCIA_TRANSFERENCIA "
+            + "(CHAVE, DE_ID, PARA_ID, VALOR, CREATED_AT) VALUES (?, ?, ?, ?, ?)";
+
+    private final TransferenciaCondicional transferenciaCondicional;
+    private final BeneficioRepository beneficioRepository;
+    private final TransferenciaRepository transferenciaRepository;
+    private final TransferenciaProperties properties;
+    private final TransactionTemplate loteTemplate;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<Pedido> fila = new LinkedBlockingQueue<>();
+
+    private final DistributionSummary tamanhoLote;
+    private final Timer duracaoCommit;
+    private final Timer latencia;
+
+    private volatile Thread despachante;
+
+    public TransferenciaGroupCommit(TransferenciaCondicional transferenciaCondicional,
+                                    BeneficioRepository beneficioRepository,
+                                    TransferenciaRepository transferenciaRepository,
+                                    TransferenciaProperties properties,
+                                    PlatformTransactionManager transactionManager,
+                                    DataSource dataSource,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry) {
+        this.transferenciaCondicional = transferenciaCondicional;
+        this.beneficioRepository = beneficioRepository;
+        this.transferenciaRepository = transferenciaRepository;
+        this.properties = properties;
+        this.loteTemplate = new TransactionTemplate(transactionManager);
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.tamanhoLote = DistributionSummary.builder("beneficios.groupcommit.lote")
+                .description("Transferências por commit").register(meterRegistry);
+        this.duracaoCommit = Timer.builder("beneficios.groupcommit.commit")
+                .description("Duração da transação compartilhada").register(meterRegistry);
+        this.latencia = Timer.builder("beneficios.groupcommit.latencia")
+                .description("Tempo entre a submissão e o commit, por transferência").register(meterRegistry);
+    }
+
+    /**
+     * Sobe a thread despachante se o group commit estiver habilitado
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void iniciar() {
+        if (!properties.getGroupCommit().isHabilitado() || despachante != null) {
+            return;
+        }
+        Thread thread = new Thread(this::despachar, "transferencia-group-commit");
+        thread.setDaemon(true);
+        thread.start();
+        despachante = thread;
+        logger.info("Group commit de transferências iniciado: Janela={} TamanhoMaximo={}",
+                properties.getGroupCommit().getJanela(), properties.getGroupCommit().getTamanhoMaximoLote());
+    }
+
+    public boolean isAtivo() {
+        return despachante != null;
+    }
+
+    /**
+     * Enfileira a transferência e bloqueia até o commit do lote em que ela entrou
+     */
+    public void transferir(TransferenciaRequestDTO dto) {
+        transferir(dto, null);
+    }
+
+    /**
+     * Como {@link #transferir(TransferenciaRequestDTO)}, gravando a chave de idempotência no mesmo commit
+     */
+    public void transferir(TransferenciaRequestDTO dto, String chaveIdempotencia) {
+        Pedido pedido = new Pedido(dto, chaveIdempotencia);
+        // Mesmo monitor de encerrar(): nada entra na fila depois que ela foi esvaziada
+        synchronized (this) {
+            if (despachante == null) {
+                throw new BusinessException("Group commit de transferências indisponível");
+            }
+            fila.add(pedido);
+        }
+        long espera = properties.getGroupCommit().getTempoMaximoEspera().toNanos();
+        try {
+            aguardar(pedido, espera);
+        } catch (TimeoutException e) {
+            if (pedido.assumido.compareAndSet(false, true)) {
+                // Ainda não entrou numa transação: o despachante vai ignorá-lo
+                fila.remove(pedido);
+                throw new ServiceUnavailableException("Group commit sem resposta no prazo. Tente novamente.");
+            }
+            // Já está num lote em andamento: espera o commit por mais um prazo
+            try {
+                aguardar(pedido, espera);
+            } catch (TimeoutException ex) {
+                throw new ServiceUnavailableException(
+                        "Transferência em processamento sem confirmação no prazo. Consulte o extrato antes de repetir.");
+            }
+        }
+    }
+
+    private static void aguardar(Pedido pedido, long nanos) throws TimeoutException {
+        try {
+            pedido.resultado.get(nanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Transferência interrompida. Tente novamente.");
+        }
+    }
+
+    private void despachar() {
+        List<Pedido> lote = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                coletar(lote);
+                aplicar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // Pedidos coletados antes da interrupção não chegaram a ser aplicados
+                lote.forEach(pedido -> pedido.resultado.completeExceptionally(encerrado()));
+            } catch (RuntimeException e) {
+                logger.error("Falha inesperada no group commit", e);
+                lote.forEach(pedido -> pedido.resultado.completeExceptionally(e));
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    /**
+     * Aguarda o primeiro pedido e junta os que chegarem até fechar a janela ou encher o lote
+     */
+    private void coletar(List<Pedido> lote) throws InterruptedException {
+        lote.add(fila.take());
+        int maximo = Math.max(1, properties.getGroupCommit().getTamanhoMaximoLote());
+        long limite = System.nanoTime() + properties.getGroupCommit().getJanela().toNanos();
+        while (lote.size() < maximo) {
+            fila.drainTo(lote, maximo - lote.size());
+            long restante = limite - System.nanoTime();
+            if (lote.size() >= maximo || restante <= 0) {
+                break;
+            }
+            Pedido proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                break;
+            }
+            lote.add(proximo);
+        }
+    }
+
+    private void aplicar(List<Pedido> candidatos) {
+        // Pedidos cujo chamador desistiu por tempo ficam de fora
+        List<Pedido> lote = new ArrayList<>(candidatos.size());
+        for (Pedido pedido : candidatos) {
+            if (pedido.assumido.compareAndSet(false, true)) {
+                lote.add(pedido);
+            }
+        }
+        if (lote.isEmpty()) {
+            return;
+        }
+        List<Pedido> aplicados = new ArrayList<>(lote.size());
+        long inicio = System.nanoTime();
+        try {
+            loteTemplate.executeWithoutResult(status -> {
+                travarEmOrdem(lote);
+                Connection conexao = DataSourceUtils.getConnection(dataSource);
+                for (Pedido pedido : lote) {
+                    TransferenciaRequestDTO dto = pedido.dto;
+                    Savepoint savepoint = criarSavepoint(conexao);
+                    try {
+                        BeneficioService.validarRequisicao(dto);
+                        transferenciaCondicional.executar(dto.getDeId(), dto.getParaId(), dto.getValor());
+                        if (pedido.chaveIdempotencia != null) {
+                            registrarChave(conexao, pedido);
+                        }
+                        aplicados.add(pedido);
+                    } catch (RuntimeException e) {
+                        // Só este pedido falha; os demais seguem no mesmo commit
+                        voltarAoSavepoint(conexao, savepoint);
+                        pedido.resultado.completeExceptionally(e);
+                    }
+                }
+                // Histórico gravado depois dos savepoints: um rollback parcial não pode desfazê-lo
+                LocalDateTime agora = LocalDateTime.now();
+                List<Transferencia> historico = new ArrayList<>(aplicados.size());
+                for (Pedido pedido : aplicados) {
+                    historico.add(new Transferencia(pedido.dto.getDeId(), pedido.dto.getParaId(),
+                            pedido.dto.getValor(), agora));
+                }
+                transferenciaRepository.saveAll(historico);
+                // Publicados na transação: ouvintes AFTER_COMMIT recebem o lote inteiro do mesmo commit
+                for (Pedido pedido : aplicados) {
+                    eventPublisher.publishEvent(new TransferenciaRealizadaEvent(
+                            pedido.dto.getDeId(), pedido.dto.getParaId(), pedido.dto.getValor()));
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.error("Commit do lote de {} transferências falhou", lote.size(), e);
+            BusinessException falha = new BusinessException("Falha ao confirmar a transferência. Tente novamente.", e);
+            // Pedidos já recusados mantêm o próprio erro; os demais falham com o lote
+            lote.forEach(pedido -> pedido.resultado.completeExceptionally(falha));
+            return;
+        }
+
+        duracaoCommit.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        tamanhoLote.record(lote.size());
+        long agora = System.nanoTime();
+        for (Pedido pedido : aplicados) {
+            latencia.record(agora - pedido.submetidoEm, TimeUnit.NANOSECONDS);
+            pedido.resultado.complete(null);
+        }
+        logger.debug("Group commit: Itens={} Aplicados={}", lote.size(), aplicados.size());
+    }
+
+    /**
+     * Trava de uma vez, em ordem crescente de ID, todos os benefícios que o lote vai debitar ou creditar
+     */
+    private void travarEmOrdem(List<Pedido> lote) {
+        Set<Long> ids = new TreeSet<>();
+        for (Pedido pedido : lote) {
+            if (pedido.dto.getDeId() != null) {
+                ids.add(pedido.dto.getDeId());
+            }
+            if (pedido.dto.getParaId() != null) {
+                ids.add(pedido.dto.getParaId());
+            }
+        }
+        if (!ids.isEmpty()) {
+            beneficioRepository.travarEmOrdemDeId(ids);
+        }
+    }
+
+    /**
+     * Insere a chave de idempotência direto na conexão da transação; uma falha pelo repository
+     * marcaria a transação compartilhada inteira como rollback-only
+     */
+    private static void registrarChave(Connection conexao, Pedido pedido) {
+        try (PreparedStatement insert = conexao.prepareStatement(INSERT_CHAVE)) {
+            insert.setString(1, pedido.chaveIdempotencia);
+            insert.setLong(2, pedido.dto.getDeId());
+            insert.setLong(3, pedido.dto.getParaId());
+            insert.setBigDecimal(4, pedido.dto.getValor());
+            insert.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            insert.executeUpdate();
+        } catch (SQLIntegrityConstraintViolationException e) {
+            throw new DuplicateKeyException("Idempotency-Key já gravada: " + pedido.chaveIdempotencia, e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Não foi possível gravar a chave de idempotência", e);
+        }
+    }
+
+    private static Savepoint criarSavepoint(Connection conexao) {
+        try {
+            return conexao.setSavepoint();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Não foi possível criar savepoint para o group commit", e);
+        }
+    }
+
+    private static void voltarAoSavepoint(Connection conexao, Savepoint savepoint) {
+        try {
+            conexao.rollback(savepoint);
+        } catch (SQLException e) {
+            // Sem o savepoint o lote inteiro precisa ser desfeito
+            throw new IllegalStateException("Não foi possível desfazer a transferência recusada", e);
+        }
+    }
+
+    /**
+     * Para o despachante e recusa os pedidos ainda na fila
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        Thread thread;
+        synchronized (this) {
+            thread = despachante;
+            if (thread == null) {
+                return;
+            }
+            despachante = null;
+        }
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(30));
+        List<Pedido> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        restantes.forEach(pedido -> pedido.resultado.completeExceptionally(encerrado()));
+    }
+
+    private static ServiceUnavailableException encerrado() {
+        return new ServiceUnavailableException("Serviço de transferências em encerramento. Tente novamente.");
+    }
+
+    /**
+     * Transferência aguardando o commit do seu lote
+     */
+    private static final class Pedido {
+        final TransferenciaRequestDTO dto;
+        final String chaveIdempotencia;
+        final CompletableFuture<Void> resultado = new CompletableFuture<>();
+        final long submetidoEm = System.nanoTime();
+        // Marcado por quem chegar primeiro: o despachante (vai aplicar) ou o chamador (desistiu)
+        final AtomicBoolean assumido = new AtomicBoolean();
+
+        Pedido(TransferenciaRequestDTO dto, String chaveIdempotencia) {
+            this.dto = dto;
+            this.chaveIdempotencia = chaveIdempotencia;
+        }
+    }
+}
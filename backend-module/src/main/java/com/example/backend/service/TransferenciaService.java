@@ -0,0 +1,112 @@
+package com.example.backend.service;
+
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.TransferenciaLoteRequestDTO;
+import com.example.backend.dto.TransferenciaLoteResponseDTO;
+import com.example.backend.dto.TransferenciaRequestDTO;
+import com.example.backend.engine.TransferenciaEngine;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Porta de entrada das transferências
+ * Não é transacional: escolhe entre o BeneficioService (transação por chamada), o group commit
+ * (transação compartilhada) e o motor particionado em memória, conforme
+ * beneficios.transferencia.*, sem prender uma conexão enquanto aguarda o motor ou o lote.
+ */
+@Service
+public class TransferenciaService {
+
+    private final BeneficioService beneficioService;
+    private final TransferenciaEngine engine;
+    private final TransferenciaGroupCommit groupCommit;
+    private final IdempotenciaService idempotenciaService;
+    private final TransferenciaProperties properties;
+
+    public TransferenciaService(BeneficioService beneficioService,
+                                TransferenciaEngine engine,
+                                TransferenciaGroupCommit groupCommit,
+                                IdempotenciaService idempotenciaService,
+                                TransferenciaProperties properties) {
+        this.beneficioService = beneficioService;
+        this.engine = engine;
+        this.groupCommit = groupCommit;
+        this.idempotenciaService = idempotenciaService;
+        this.properties = properties;
+    }
+
+    /**
+     * Transfere valor entre benefícios
+     */
+    public void transferir(TransferenciaRequestDTO dto) {
+        if (properties.getEstrategia() == EstrategiaTransferencia.PARTICIONADA) {
+            engine.transferir(dto);
+            return;
+        }
+        if (groupCommit.isAtivo()) {
+            groupCommit.transferir(dto);
+            return;
+        }
+        beneficioService.transferir(dto);
+    }
+
+    /**
+     * Transfere valor no máximo uma vez por chave de idempotência
+     * A chave é sempre gravada na mesma transação da movimentação (no group commit, sob o savepoint
+     * do item). O motor particionado grava saldos fora dessa transação e por isso recusa a chave.
+     *
+     * @return true se a chamada repetiu uma transferência já realizada
+     */
+    public boolean transferir(TransferenciaRequestDTO dto, String chaveIdempotencia) {
+        if (chaveIdempotencia == null) {
+            transferir(dto);
+            return false;
+        }
+        verificarIdempotencia(chaveIdempotencia);
+        return idempotenciaService.executar(chaveIdempotencia, dto, () -> {
+            if (groupCommit.isAtivo()) {
+                groupCommit.transferir(dto, chaveIdempotencia);
+            } else {
+                beneficioService.transferir(dto, chaveIdempotencia);
+            }
+        });
+    }
+
+    /**
+     * Recusa Idempotency-Key na estratégia PARTICIONADA, que não grava a chave junto com os saldos
+     */
+    public void verificarIdempotencia(String chaveIdempotencia) {
+        if (chaveIdempotencia != null && properties.getEstrategia() == EstrategiaTransferencia.PARTICIONADA) {
+            throw new BusinessException("Idempotency-Key não é suportado na estratégia PARTICIONADA");
+        }
+    }
+
+    /**
+     * Transfere valores em lote; no motor particionado cada item é uma mensagem independente,
+     * por isso o modo "tudo ou nada" só existe nas estratégias transacionais
+     */
+    public TransferenciaLoteResponseDTO transferirLote(TransferenciaLoteRequestDTO lote) {
+        if (properties.getEstrategia() != EstrategiaTransferencia.PARTICIONADA) {
+            return beneficioService.transferirLote(lote);
+        }
+        if (lote.isTudoOuNada()) {
+            throw new BusinessException("Lote \"tudo ou nada\" não é suportado na estratégia PARTICIONADA");
+        }
+
+        List<TransferenciaRequestDTO> itens = lote.getTransferencias();
+        TransferenciaLoteResponseDTO resultado = new TransferenciaLoteResponseDTO();
+        for (int i = 0; i < itens.size(); i++) {
+            TransferenciaRequestDTO item = itens.get(i);
+            try {
+                engine.transferir(item);
+                resultado.adicionarSucesso(i, item);
+            } catch (BusinessException | ResourceNotFoundException e) {
+                resultado.adicionarFalha(i, item, e.getMessage());
+            }
+        }
+        return resultado;
+    }
+}
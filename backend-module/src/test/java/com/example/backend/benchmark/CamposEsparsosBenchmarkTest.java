@@ -0,0 +1,87 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.entity.Beneficio;
+import com.example.backend.repository.BeneficioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Benchmark da listagem completa versus ?fields= (sparse fieldsets)
+ *
+ * Mede bytes da resposta e requisições por segundo do GET /api/v1/beneficios com muitos registros.
+ * Desligado por padrão; para rodar:
+ * mvn test -Dtest=CamposEsparsosBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.example.backend=INFO"
+})
+@AutoConfigureMockMvc
+class CamposEsparsosBenchmarkTest {
+
+    private static final int BENEFICIOS = 5_000;
+    private static final int AQUECIMENTO = 30;
+    private static final int MEDICOES = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BeneficioRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        List<Beneficio> beneficios = new ArrayList<>(BENEFICIOS);
+        for (int i = 0; i < BENEFICIOS; i++) {
+            beneficios.add(new Beneficio("Beneficio " + i,
+                    "Descrição mais longa do benefício número " + i, new BigDecimal("100.00")));
+        }
+        repository.saveAll(beneficios);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void compararListaCompletaComCamposEsparsos() throws Exception {
+        medir("lista completa     ", get("/api/v1/beneficios"));
+        medir("fields=nome,valor  ", get("/api/v1/beneficios").param("fields", "nome,valor"));
+        medir("fields=nome        ", get("/api/v1/beneficios").param("fields", "nome"));
+    }
+
+    private void medir(String nome, MockHttpServletRequestBuilder requisicao) throws Exception {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            mockMvc.perform(requisicao);
+        }
+        long bytes = 0;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < MEDICOES; i++) {
+            var resposta = mockMvc.perform(requisicao).andReturn().getResponse();
+            assertEquals(200, resposta.getStatus());
+            bytes = resposta.getContentAsByteArray().length;
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("%s: %,8.1f KB/resposta, %,7.1f req/s%n",
+                nome, bytes / 1024.0, MEDICOES / segundos);
+    }
+}
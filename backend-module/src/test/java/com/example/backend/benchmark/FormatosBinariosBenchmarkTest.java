@@ -0,0 +1,91 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark de listas de BeneficioResponseDTO em JSON, CBOR e Smile: tamanho, codificação e decodificação
+ *
+ * Os mapeadores reproduzem a configuração da aplicação: JSON com datas ISO em texto, formatos
+ * binários com datas numéricas (FormatosBinariosConfig). Desligado por padrão; para rodar:
+ * mvn test -Dtest=FormatosBinariosBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FormatosBinariosBenchmarkTest {
+
+    private static final int[] TAMANHOS = {1_000, 10_000, 100_000};
+
+    @Test
+    void compararFormatos() throws Exception {
+        ObjectMapper json = mapeador(new JsonFactory(), false);
+        ObjectMapper cbor = mapeador(new CBORFactory(), true);
+        ObjectMapper smile = mapeador(new SmileFactory(), true);
+
+        for (int tamanho : TAMANHOS) {
+            List<BeneficioResponseDTO> beneficios = beneficios(tamanho);
+            int repeticoes = Math.max(3, 200_000 / tamanho);
+            medir("JSON ", json, beneficios, repeticoes);
+            medir("CBOR ", cbor, beneficios, repeticoes);
+            medir("Smile", smile, beneficios, repeticoes);
+        }
+    }
+
+    private static void medir(String nome, ObjectMapper mapper, List<BeneficioResponseDTO> beneficios,
+                              int repeticoes) throws Exception {
+        JavaType tipo = mapper.getTypeFactory().constructCollectionType(List.class, BeneficioResponseDTO.class);
+        byte[] bytes = null;
+        for (int i = 0; i < repeticoes; i++) {
+            bytes = mapper.writeValueAsBytes(beneficios);
+            mapper.readValue(bytes, tipo);
+        }
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            bytes = mapper.writeValueAsBytes(beneficios);
+        }
+        long codificacao = System.nanoTime() - inicio;
+
+        List<BeneficioResponseDTO> lidos = null;
+        inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            lidos = mapper.readValue(bytes, tipo);
+        }
+        long decodificacao = System.nanoTime() - inicio;
+
+        assertEquals(beneficios.size(), lidos.size());
+        System.out.printf("%,7d itens %s: %,10.1f KB, codificar %,8.2f ms, decodificar %,8.2f ms%n",
+                beneficios.size(), nome, bytes.length / 1024.0,
+                codificacao / 1e6 / repeticoes, decodificacao / 1e6 / repeticoes);
+    }
+
+    private static ObjectMapper mapeador(JsonFactory factory, boolean datasNumericas) {
+        ObjectMapper mapper = new ObjectMapper(factory).findAndRegisterModules();
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, datasNumericas);
+        return mapper;
+    }
+
+    private static List<BeneficioResponseDTO> beneficios(int quantidade) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<BeneficioResponseDTO> beneficios = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            beneficios.add(new BeneficioResponseDTO((long) i, "Beneficio " + i, "Descrição do benefício " + i,
+                    new BigDecimal(i % 10_000 + ".50"), i % 7 != 0, (long) (i % 5),
+                    agora.minusDays(i % 365), agora.minusSeconds(i)));
+        }
+        return beneficios;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.entity.Beneficio;
+import com.example.backend.json.ListaJsonHttpMessageConverter;
+import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.service.BeneficioService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Benchmark da listagem JSON: DTOs do banco + Jackson por item versus fragmentos pré-serializados
+ *
+ * Mede bytes alocados pela thread e latência por resposta de GET /api/v1/beneficios já aquecido
+ * (o caso quente: nenhuma versão mudou desde a última listagem). Desligado por padrão; para rodar:
+ * mvn test -Dtest=JsonPreSerializadoBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.example.backend=INFO"
+})
+class JsonPreSerializadoBenchmarkTest {
+
+    private static final int BENEFICIOS = 5_000;
+    private static final int AQUECIMENTO = 50;
+    private static final int MEDICOES = 200;
+
+    @Autowired
+    private BeneficioRepository repository;
+
+    @Autowired
+    private BeneficioService service;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ListaJsonHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        List<Beneficio> beneficios = new ArrayList<>(BENEFICIOS);
+        for (int i = 0; i < BENEFICIOS; i++) {
+            beneficios.add(new Beneficio("Beneficio " + i, "Descrição " + i, new BigDecimal("100.00")));
+        }
+        repository.saveAll(beneficios);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void compararJacksonComFragmentos() throws Exception {
+        Leitura jackson = () -> {
+            ByteArrayOutputStream saida = new ByteArrayOutputStream();
+            objectMapper.writeValue(saida, service.findAll());
+            return saida.toByteArray();
+        };
+        Leitura fragmentos = () -> {
+            MockHttpOutputMessage saida = new MockHttpOutputMessage();
+            converter.write(service.findAllJson(false), MediaType.APPLICATION_JSON, saida);
+            return saida.getBodyAsBytes();
+        };
+        assertArrayEquals(jackson.ler(), fragmentos.ler());
+
+        medir("DTOs + Jackson          ", jackson);
+        medir("fragmentos pré-serializ.", fragmentos);
+    }
+
+    private static void medir(String nome, Leitura leitura) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            leitura.ler();
+        }
+        long cpuAntes = threads.getCurrentThreadCpuTime();
+        long bytesAntes = threads.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < MEDICOES; i++) {
+            leitura.ler();
+        }
+        long nanos = System.nanoTime() - inicio;
+        long cpu = threads.getCurrentThreadCpuTime() - cpuAntes;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesAntes;
+        System.out.printf("%s: %,10.1f KB alocados, %,8.2f ms CPU, %,8.2f ms por resposta%n",
+                nome, bytes / 1024.0 / MEDICOES, cpu / 1e6 / MEDICOES, nanos / 1e6 / MEDICOES);
+    }
+
+    @FunctionalInterface
+    private interface Leitura {
+        byte[] ler() throws Exception;
+    }
+}
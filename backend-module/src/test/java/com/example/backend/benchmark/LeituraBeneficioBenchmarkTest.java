@@ -0,0 +1,107 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.repository.BeneficioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark das leituras: entidades gerenciadas + cópia para DTO versus projeção JPQL direto no DTO
+ *
+ * Mede bytes alocados pela thread e latência média por chamada, dentro de uma transação somente
+ * leitura como no BeneficioService. Desligado por padrão; para rodar:
+ * mvn test -Dtest=LeituraBeneficioBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.example.backend=INFO"
+})
+class LeituraBeneficioBenchmarkTest {
+
+    private static final int BENEFICIOS = 2_000;
+    private static final int AQUECIMENTO = 200;
+    private static final int MEDICOES = 500;
+
+    @Autowired
+    private BeneficioRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate somenteLeitura;
+    private Long idConsultado;
+
+    @BeforeEach
+    void setUp() {
+        somenteLeitura = new TransactionTemplate(transactionManager);
+        somenteLeitura.setReadOnly(true);
+
+        repository.deleteAll();
+        List<Beneficio> beneficios = new ArrayList<>(BENEFICIOS);
+        for (int i = 0; i < BENEFICIOS; i++) {
+            beneficios.add(new Beneficio("Beneficio " + i, "Descrição " + i, new BigDecimal("100.00")));
+        }
+        idConsultado = repository.saveAll(beneficios).get(BENEFICIOS / 2).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void compararEntidadeComProjecao() {
+        Supplier<List<BeneficioResponseDTO>> listarEntidades = () -> somenteLeitura.execute(status ->
+                repository.findAll().stream().map(BeneficioResponseDTO::new).collect(Collectors.toList()));
+        Supplier<List<BeneficioResponseDTO>> listarProjecao = () -> somenteLeitura.execute(status ->
+                repository.findAllResponse());
+        Supplier<BeneficioResponseDTO> buscarEntidade = () -> somenteLeitura.execute(status ->
+                new BeneficioResponseDTO(repository.findById(idConsultado).orElseThrow()));
+        Supplier<BeneficioResponseDTO> buscarProjecao = () -> somenteLeitura.execute(status ->
+                repository.findResponseById(idConsultado).orElseThrow());
+
+        assertEquals(BENEFICIOS, listarEntidades.get().size());
+        assertEquals(BENEFICIOS, listarProjecao.get().size());
+
+        medir("findAll  (entidade + cópia)", listarEntidades, MEDICOES);
+        medir("findAll  (projeção DTO)    ", listarProjecao, MEDICOES);
+        medir("findById (entidade + cópia)", buscarEntidade, MEDICOES * 20);
+        medir("findById (projeção DTO)    ", buscarProjecao, MEDICOES * 20);
+    }
+
+    private static void medir(String nome, Supplier<?> leitura, int medicoes) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            leitura.get();
+        }
+        long bytesAntes = threads.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < medicoes; i++) {
+            leitura.get();
+        }
+        long nanos = System.nanoTime() - inicio;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesAntes;
+        System.out.printf("%s: %,10.1f KB alocados/chamada, %,8.1f µs/chamada%n",
+                nome, bytes / 1024.0 / medicoes, nanos / 1000.0 / medicoes);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.busca;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para IndiceTrigramas
+ */
+class IndiceTrigramasTest {
+
+    private IndiceTrigramas indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceTrigramas();
+        indice.indexar(1L, "Vale Refeição", "Almoço em restaurantes");
+        indice.indexar(2L, "Refeição Corporativa", null);
+        indice.indexar(3L, "Auxílio Creche", "Reembolso de refeições escolares");
+        indice.indexar(4L, "VR", "Vale refeição reduzido");
+    }
+
+    @Test
+    void testBuscar_IgnoraAcentosEMaiusculas() {
+        assertEquals(List.of(3L), indice.buscar("AUXILIO", 10));
+        assertEquals(List.of(1L), indice.buscar("almoço", 10));
+    }
+
+    @Test
+    void testBuscar_OrdenaPorRelevancia() {
+        // Nome começa com, palavra do nome começa com, descrição contém (menor nome primeiro)
+        assertEquals(List.of(2L, 1L, 4L, 3L), indice.buscar("refeic", 10));
+        assertEquals(List.of(2L, 1L), indice.buscar("refeic", 2));
+    }
+
+    @Test
+    void testBuscar_TermosCurtosESemFalsosPositivos() {
+        assertEquals(List.of(4L), indice.buscar("vr", 10));
+        // Todos os trigramas existem no índice, mas não em sequência no mesmo texto
+        assertTrue(indice.buscar("vale creche", 10).isEmpty());
+        assertTrue(indice.buscar("inexistente", 10).isEmpty());
+    }
+
+    @Test
+    void testIndexar_ReindexaSemRestos() {
+        indice.indexar(3L, "Auxílio Transporte", null);
+
+        assertTrue(indice.buscar("creche", 10).isEmpty());
+        assertEquals(List.of(3L), indice.buscar("transporte", 10));
+        assertEquals(4, indice.tamanho());
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.backend.engine;
+
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.TransferenciaRequestDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.repository.TransferenciaRepository;
+import com.example.backend.service.EstrategiaTransferencia;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para TransferenciaEngine
+ */
+@ExtendWith(MockitoExtension.class)
+class TransferenciaEngineTest {
+
+    @Mock
+    private BeneficioRepository repository;
+
+    @Mock
+    private TransferenciaRepository transferenciaRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TransferenciaEngine engine;
+    private List<Beneficio> beneficios;
+
+    @BeforeEach
+    void setUp() {
+        TransferenciaProperties properties = new TransferenciaProperties();
+        properties.setEstrategia(EstrategiaTransferencia.PARTICIONADA);
+        properties.getParticionada().setParticoes(2);
+        properties.getParticionada().setIntervaloGravacao(Duration.ofHours(1));
+
+        // IDs 1 e 3 na partição 1, ID 2 na partição 0
+        beneficios = Arrays.asList(
+                beneficio(1L, "1000.00", true),
+                beneficio(2L, "500.00", true),
+                beneficio(3L, "100.00", true),
+                beneficio(4L, "100.00", false));
+        when(repository.findAll()).thenReturn(beneficios);
+
+        engine = new TransferenciaEngine(repository, transferenciaRepository, properties, new TransactionTemplate(transactionManager), eventPublisher);
+        engine.iniciar();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.encerrar();
+    }
+
+    @Test
+    void testTransferir_MesmaParticao() {
+        engine.transferir(new TransferenciaRequestDTO(1L, 3L, new BigDecimal("100.00")));
+
+        assertEquals(new BigDecimal("900.00"), gravados().get(1L));
+        assertEquals(new BigDecimal("200.00"), gravados().get(3L));
+    }
+
+    @Test
+    void testTransferir_EntreParticoes() {
+        engine.transferir(new TransferenciaRequestDTO(1L, 2L, new BigDecimal("250.00")));
+
+        assertEquals(new BigDecimal("750.00"), gravados().get(1L));
+        assertEquals(new BigDecimal("750.00"), gravados().get(2L));
+    }
+
+    @Test
+    void testTransferir_Validacoes() {
+        assertThrows(BusinessException.class,
+                () -> engine.transferir(new TransferenciaRequestDTO(3L, 2L, new BigDecimal("100.01"))));
+        assertThrows(BusinessException.class,
+                () -> engine.transferir(new TransferenciaRequestDTO(2L, 4L, new BigDecimal("1.00"))));
+        assertThrows(ResourceNotFoundException.class,
+                () -> engine.transferir(new TransferenciaRequestDTO(1L, 99L, new BigDecimal("1.00"))));
+        assertThrows(BusinessException.class,
+                () -> engine.transferir(new TransferenciaRequestDTO(1L, 1L, new BigDecimal("1.00"))));
+
+        assertTrue(gravados().isEmpty());
+    }
+
+    @Test
+    void testDesativacaoPreservaSaldoEmMemoria() {
+        engine.transferir(new TransferenciaRequestDTO(1L, 2L, new BigDecimal("100.00")));
+
+        Beneficio desativado = beneficio(2L, "500.00", false);
+        engine.onBeneficioAlterado(new BeneficioAlteradoEvent(
+                BeneficioAlteradoEvent.Tipo.DESATIVADO, new BeneficioResponseDTO(desativado)));
+
+        assertThrows(BusinessException.class,
+                () -> engine.transferir(new TransferenciaRequestDTO(1L, 2L, new BigDecimal("1.00"))));
+        assertEquals(new BigDecimal("600.00"), gravados().get(2L));
+    }
+
+    @Test
+    void testAtualizacaoAntesDoWriteBehindNaoSePerde() {
+        engine.transferir(new TransferenciaRequestDTO(1L, 2L, new BigDecimal("100.00")));
+
+        // PUT confirmado no banco antes da gravação das transferências
+        Beneficio atualizado = beneficios.get(0);
+        atualizado.setValor(new BigDecimal("2000.00"));
+        atualizado.setVersion(1L);
+        engine.onBeneficioAlterado(new BeneficioAlteradoEvent(
+                BeneficioAlteradoEvent.Tipo.ATUALIZADO, new BeneficioResponseDTO(atualizado)));
+
+        // Evento atrasado com versão anterior é ignorado
+        Beneficio antigo = beneficio(1L, "50.00", true);
+        antigo.setVersion(0L);
+        engine.onBeneficioAlterado(new BeneficioAlteradoEvent(
+                BeneficioAlteradoEvent.Tipo.ATUALIZADO, new BeneficioResponseDTO(antigo)));
+        engine.transferir(new TransferenciaRequestDTO(1L, 3L, new BigDecimal("500.00")));
+
+        assertEquals(new BigDecimal("1400.00"), gravados().get(1L));
+    }
+
+    @Test
+    void testAtualizacaoDuranteWriteBehindNaoContaVariacaoDuasVezes() {
+        Beneficio inicial = beneficio(1L, "1000.00", true);
+        inicial.setVersion(0L);
+        engine.onBeneficioAlterado(new BeneficioAlteradoEvent(
+                BeneficioAlteradoEvent.Tipo.ATUALIZADO, new BeneficioResponseDTO(inicial)));
+        engine.transferir(new TransferenciaRequestDTO(1L, 2L, new BigDecimal("100.00")));
+
+        // Gravação confirmada na v1 e PUT de nome na v2 chegando à partição antes do confirmar
+        when(repository.saveAll(anyIterable())).thenAnswer(inv -> {
+            Iterable<Beneficio> lote = inv.getArgument(0);
+            lote.forEach(b -> b.setVersion(1L));
+            Beneficio renomeado = beneficio(1L, "900.00", true);
+            renomeado.setVersion(2L);
+            engine.onBeneficioAlterado(new BeneficioAlteradoEvent(
+                    BeneficioAlteradoEvent.Tipo.ATUALIZADO, new BeneficioResponseDTO(renomeado)));
+            engine.transferir(new TransferenciaRequestDTO(1L, 3L, new BigDecimal("850.00")));
+            return lote;
+        }).thenAnswer(inv -> inv.getArgument(0));
+        assertEquals(new BigDecimal("900.00"), gravados().get(1L));
+
+        beneficios.get(0).setValor(new BigDecimal("900.00"));
+        assertEquals(new BigDecimal("50.00"), gravados().get(1L));
+    }
+
+    @Test
+    void testWriteBehindRecusaSaldoNegativo() {
+        engine.transferir(new TransferenciaRequestDTO(1L, 2L, new BigDecimal("100.00")));
+
+        // Saldo reduzido no banco sem evento antes da gravação
+        beneficios.get(0).setValor(new BigDecimal("50.00"));
+        Map<Long, BigDecimal> resultado = gravados();
+
+        assertFalse(resultado.containsKey(1L));
+        assertEquals(new BigDecimal("600.00"), resultado.get(2L));
+    }
+
+    /**
+     * Dispara o write-behind e devolve os saldos gravados por ID
+     */
+    private Map<Long, BigDecimal> gravados() {
+        List<Beneficio> copia = new ArrayList<>();
+        for (Beneficio b : beneficios) {
+            copia.add(beneficio(b.getId(), b.getValor().toPlainString(), b.getAtivo()));
+        }
+        lenient().when(repository.findAllByIdInOrderById(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return copia.stream().filter(b -> ids.contains(b.getId())).toList();
+        });
+        engine.gravarPendentes();
+
+        Map<Long, BigDecimal> resultado = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<Beneficio>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(repository, atLeast(0)).saveAll(captor.capture());
+        for (Iterable<Beneficio> lote : captor.getAllValues()) {
+            lote.forEach(b -> resultado.put(b.getId(), b.getValor()));
+        }
+        return resultado;
+    }
+
+    private static Beneficio beneficio(Long id, String valor, boolean ativo) {
+        Beneficio beneficio = new Beneficio("Beneficio " + id, null, new BigDecimal(valor));
+        beneficio.setId(id);
+        beneficio.setAtivo(ativo);
+        return beneficio;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.backend.integration;
+
+import com.example.backend.dto.AjusteMassaRequestDTO;
+import com.example.backend.dto.BeneficioRequestDTO;
+import com.example.backend.entity.AjusteMassa;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.repository.AjusteMassaRepository;
+import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.service.AjusteMassaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração dos ajustes em massa: os lotes rodam e confirmam numa thread própria,
+ * então os dados são confirmados (sem @Transactional no teste)
+ */
+@SpringBootTest(properties = {"beneficios.ajustes.tamanho-lote=2", "beneficios.ajustes.pausa-minima=0ms",
+        "beneficios.ajustes.carga-maxima=1.0"})
+@AutoConfigureMockMvc
+class AjusteMassaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BeneficioRepository repository;
+
+    @Autowired
+    private AjusteMassaRepository ajusteRepository;
+
+    @Autowired
+    private AjusteMassaService ajusteService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        ajusteRepository.deleteAll();
+        repository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ajusteRepository.deleteAll();
+        repository.deleteAll();
+    }
+
+    @Test
+    void testCreditoPercentual_SomenteAtivosNoFiltro() throws Exception {
+        Beneficio a = salvar("A", "100.00", true);
+        Beneficio b = salvar("B", "10.05", true);
+        Beneficio inativo = salvar("C", "50.00", false);
+        Beneficio acimaDoFiltro = salvar("D", "2000.00", true);
+        Beneficio c = salvar("E", "1000.00", true);
+
+        String corpo = mockMvc.perform(post("/api/v1/ajustes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AjusteMassaRequestDTO(
+                                AjusteMassa.Tipo.CREDITO_PERCENTUAL, new BigDecimal("10"), null, new BigDecimal("1000")))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readTree(corpo).get("id").asLong();
+
+        AjusteMassa ajuste = aguardar(id);
+        assertEquals(AjusteMassa.Status.CONCLUIDO, ajuste.getStatus());
+        assertEquals(3, ajuste.getAfetados());
+        assertEquals(2, ajuste.getLotes());
+
+        assertValor("110.00", a);
+        assertValor("11.06", b);
+        assertValor("1100.00", c);
+        assertValor("50.00", inativo);
+        assertValor("2000.00", acimaDoFiltro);
+        assertEquals(a.getVersion() + 1, repository.findById(a.getId()).orElseThrow().getVersion());
+        assertEquals(inativo.getVersion(), repository.findById(inativo.getId()).orElseThrow().getVersion());
+
+        mockMvc.perform(get("/api/v1/ajustes/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONCLUIDO"))
+                .andExpect(jsonPath("$.progresso").value(100));
+    }
+
+    @Test
+    void testDesativacao_EscritorComVersaoAntigaRecusado() throws Exception {
+        Beneficio baixo = salvar("A", "0.50", true);
+        Beneficio limite = salvar("B", "1.00", true);
+        Beneficio alto = salvar("C", "5.00", true);
+
+        Long id = ajusteService.criar(new AjusteMassaRequestDTO(
+                AjusteMassa.Tipo.DESATIVACAO, null, null, new BigDecimal("1.00"))).getId();
+
+        AjusteMassa ajuste = aguardar(id);
+        assertEquals(2, ajuste.getAfetados());
+        assertFalse(repository.findById(baixo.getId()).orElseThrow().getAtivo());
+        assertFalse(repository.findById(limite.getId()).orElseThrow().getAtivo());
+        assertTrue(repository.findById(alto.getId()).orElseThrow().getAtivo());
+
+        BeneficioRequestDTO atualizacao = new BeneficioRequestDTO("A", null, new BigDecimal("0.50"), true);
+        atualizacao.setVersion(baixo.getVersion());
+        mockMvc.perform(put("/api/v1/beneficios/" + baixo.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(atualizacao)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void testRetomadaAposQueda_ContinuaDoUltimoLote() throws Exception {
+        Beneficio jaAplicado = salvar("A", "100.00", true);
+        Beneficio pendente = salvar("B", "200.00", true);
+
+        // Job interrompido depois de confirmar o lote que terminou em jaAplicado
+        AjusteMassa interrompido = new AjusteMassa(AjusteMassa.Tipo.CREDITO_PERCENTUAL, new BigDecimal("50"),
+                null, null, pendente.getId());
+        interrompido.registrarLote(jaAplicado.getId(), 1);
+        interrompido.setStatus(AjusteMassa.Status.EM_EXECUCAO);
+        Long id = ajusteRepository.save(interrompido).getId();
+
+        ajusteService.retomarPendentes();
+
+        AjusteMassa ajuste = aguardar(id);
+        assertEquals(AjusteMassa.Status.CONCLUIDO, ajuste.getStatus());
+        assertEquals(2, ajuste.getAfetados());
+        assertValor("100.00", jaAplicado);
+        assertValor("300.00", pendente);
+    }
+
+    @Test
+    void testValidacoes() throws Exception {
+        mockMvc.perform(post("/api/v1/ajustes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AjusteMassaRequestDTO(
+                                AjusteMassa.Tipo.CREDITO_PERCENTUAL, null, null, null))))
+                .andExpect(status().isBadRequest());
+
+        salvar("A", "1.00", true);
+        Long id = ajusteService.criar(new AjusteMassaRequestDTO(
+                AjusteMassa.Tipo.DESATIVACAO, null, null, null)).getId();
+        aguardar(id);
+        mockMvc.perform(post("/api/v1/ajustes/" + id + "/cancelar"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/ajustes/999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    private Beneficio salvar(String nome, String valor, boolean ativo) {
+        Beneficio beneficio = new Beneficio(nome, null, new BigDecimal(valor));
+        beneficio.setAtivo(ativo);
+        return repository.save(beneficio);
+    }
+
+    private void assertValor(String esperado, Beneficio beneficio) {
+        assertEquals(0, new BigDecimal(esperado).compareTo(
+                repository.findById(beneficio.getId()).orElseThrow().getValor()), beneficio.getNome());
+    }
+
+    private AjusteMassa aguardar(Long id) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            AjusteMassa ajuste = ajusteRepository.findById(id).orElseThrow();
+            if (!ajuste.isAtivo()) {
+                return ajuste;
+            }
+            Thread.sleep(25);
+        }
+        fail("Ajuste " + id + " não terminou");
+        return null;
+    }
+}
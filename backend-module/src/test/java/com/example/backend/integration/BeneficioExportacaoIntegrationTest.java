@@ -0,0 +1,98 @@
+package com.example.backend.integration;
+
+import com.example.backend.entity.Beneficio;
+import com.example.backend.repository.BeneficioRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração da exportação em streaming: o corpo é escrito fora da thread da requisição,
+ * então os dados precisam estar confirmados (sem @Transactional no teste)
+ */
+@SpringBootTest(properties = "beneficios.exportacao.tamanho-lote=2")
+@AutoConfigureMockMvc
+class BeneficioExportacaoIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BeneficioRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        repository.save(new Beneficio("Beneficio A", "Descrição, com vírgula", new BigDecimal("1000.00")));
+        repository.save(new Beneficio("Beneficio B", "Descrição \"B\"", new BigDecimal("500.00")));
+        Beneficio inativo = new Beneficio("Beneficio C", null, new BigDecimal("10.00"));
+        inativo.setAtivo(false);
+        repository.save(inativo);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testExportarNdjson() throws Exception {
+        String corpo = exportar("ndjson", null, "application/x-ndjson");
+
+        String[] linhas = corpo.split("\n");
+        assertEquals(3, linhas.length);
+        JsonNode primeira = objectMapper.readTree(linhas[0]);
+        assertEquals("Beneficio A", primeira.get("nome").asText());
+        assertEquals(0, new BigDecimal("1000.00").compareTo(primeira.get("valor").decimalValue()));
+        assertEquals("Beneficio C", objectMapper.readTree(linhas[2]).get("nome").asText());
+    }
+
+    @Test
+    void testExportarCsvSomenteAtivos() throws Exception {
+        String corpo = exportar("csv", true, "text/csv");
+
+        String[] linhas = corpo.split("\n");
+        assertEquals(3, linhas.length);
+        assertTrue(linhas[0].startsWith("id,nome,descricao,valor,ativo"));
+        assertTrue(linhas[1].contains(",Beneficio A,\"Descrição, com vírgula\",1000.00,true,"));
+        assertTrue(linhas[2].contains(",Beneficio B,\"Descrição \"\"B\"\"\",500.00,true,"));
+    }
+
+    @Test
+    void testExportarFormatoInvalido() throws Exception {
+        mockMvc.perform(get("/api/v1/beneficios/exportar").param("formato", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String exportar(String formato, Boolean ativo, String contentType) throws Exception {
+        var requisicao = get("/api/v1/beneficios/exportar").param("formato", formato);
+        if (ativo != null) {
+            requisicao.param("ativo", ativo.toString());
+        }
+        MvcResult resultado = mockMvc.perform(requisicao)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.backend.integration;
+
+import com.example.backend.entity.Beneficio;
+import com.example.backend.repository.BeneficioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração da importação em lote: cada lote tem commit próprio,
+ * então os dados são confirmados (sem @Transactional no teste)
+ */
+@SpringBootTest(properties = {"beneficios.importacao.tamanho-lote=2", "beneficios.importacao.maximo-erros=2"})
+@AutoConfigureMockMvc
+class BeneficioImportacaoIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BeneficioRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void testImportarCsv_ComErrosPorLinha() throws Exception {
+        String csv = "nome,descricao,valor,ativo\n"
+                + "Alfa,\"Linha 1\nLinha 2\",10.00,true\n"
+                + "Beta,,abc,\n"
+                + "Gama,,-5,false\n"
+                + "Delta,\"Com \"\"aspas\"\"\",20,false\n"
+                + "Epsilon,,30\n"
+                + "Zeta,,40,\n";
+
+        mockMvc.perform(post("/api/v1/beneficios/importacao").param("formato", "csv")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linhas").value(6))
+                .andExpect(jsonPath("$.importados").value(3))
+                .andExpect(jsonPath("$.rejeitados").value(3))
+                .andExpect(jsonPath("$.lotes").value(2))
+                .andExpect(jsonPath("$.erros", hasSize(2)))
+                .andExpect(jsonPath("$.erros[0].linha").value(4))
+                .andExpect(jsonPath("$.erros[0].mensagem", containsString("Valor inválido")))
+                .andExpect(jsonPath("$.erros[1].linha").value(5))
+                .andExpect(jsonPath("$.erros[1].mensagem").value("Valor não pode ser negativo"))
+                .andExpect(jsonPath("$.errosOmitidos").value(1));
+
+        List<Beneficio> importados = repository.findAll().stream()
+                .sorted(Comparator.comparing(Beneficio::getId))
+                .toList();
+        assertEquals(List.of("Alfa", "Delta", "Zeta"), importados.stream().map(Beneficio::getNome).toList());
+        assertEquals("Linha 1\nLinha 2", importados.get(0).getDescricao());
+        assertEquals("Com \"aspas\"", importados.get(1).getDescricao());
+        assertFalse(importados.get(1).getAtivo());
+        assertTrue(importados.get(2).getAtivo());
+        assertEquals(0, new BigDecimal("40").compareTo(importados.get(2).getValor()));
+    }
+
+    @Test
+    void testImportarNdjson() throws Exception {
+        String ndjson = """
+                {"nome":"Um","valor":1.5}
+
+                {"nome":"","valor":2}
+                {nao e json
+                {"nome":"Dois","valor":3,"ativo":false,"id":99}
+                """;
+
+        mockMvc.perform(post("/api/v1/beneficios/importacao")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linhas").value(4))
+                .andExpect(jsonPath("$.importados").value(2))
+                .andExpect(jsonPath("$.rejeitados").value(2))
+                .andExpect(jsonPath("$.erros[0].linha").value(3))
+                .andExpect(jsonPath("$.erros[0].mensagem").value("Nome não pode ser vazio"))
+                .andExpect(jsonPath("$.erros[1].linha").value(4))
+                .andExpect(jsonPath("$.erros[1].mensagem", startsWith("JSON inválido")));
+
+        assertEquals(2, repository.count());
+        assertTrue(repository.findAll().stream().noneMatch(b -> b.getId() == 99L));
+    }
+
+    @Test
+    void testImportarCsv_SemColunasObrigatorias() throws Exception {
+        mockMvc.perform(post("/api/v1/beneficios/importacao").param("formato", "csv")
+                        .contentType("text/csv")
+                        .content("nome,descricao\nAlfa,x\n".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(0, repository.count());
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.backend.integration;
 
+import com.example.backend.busca.BuscaBeneficioService;
+import com.example.backend.config.SincronizacaoProperties;
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.BeneficioIdsRequestDTO;
 import com.example.backend.dto.BeneficioRequestDTO;
 import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.TransferenciaLoteRequestDTO;
 import com.example.backend.dto.TransferenciaRequestDTO;
 import com.example.backend.entity.Beneficio;
 import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.service.EstrategiaTransferencia;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,8 +25,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -38,6 +51,15 @@ class BeneficioIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TransferenciaProperties transferenciaProperties;
+
+    @Autowired
+    private BuscaBeneficioService buscaService;
+
+    @Autowired
+    private SincronizacaoProperties sincronizacaoProperties;
+
     private Beneficio beneficio1;
     private Beneficio beneficio2;
 
@@ -61,6 +83,24 @@ class BeneficioIntegrationTest {
                 .andExpect(jsonPath("$[1].nome", is("Beneficio Teste B")));
     }
 
+    @Test
+    void testFindAll_JsonPreSerializado() throws Exception {
+        // Sem Accept e com application/json a lista sai dos fragmentos pré-serializados
+        mockMvc.perform(get("/api/v1/beneficios/ativos").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Content-Length"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].valor", is(1000.00)));
+
+        mockMvc.perform(delete("/api/v1/beneficios/{id}", beneficio1.getId()));
+
+        mockMvc.perform(get("/api/v1/beneficios"))
+                .andExpect(header().exists("Content-Length"))
+                .andExpect(jsonPath("$[0].ativo", is(false)));
+        mockMvc.perform(get("/api/v1/beneficios/ativos"))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
     @Test
     void testFindById() throws Exception {
         mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio1.getId()))
@@ -178,4 +218,441 @@ class BeneficioIntegrationTest {
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void testTransferirLote() throws Exception {
+        TransferenciaLoteRequestDTO lote = new TransferenciaLoteRequestDTO(Arrays.asList(
+                new TransferenciaRequestDTO(beneficio1.getId(), beneficio2.getId(), new BigDecimal("100.00")),
+                new TransferenciaRequestDTO(beneficio2.getId(), beneficio1.getId(), new BigDecimal("9000.00")),
+                new TransferenciaRequestDTO(beneficio2.getId(), beneficio1.getId(), new BigDecimal("50.00"))
+        ), false);
+
+        mockMvc.perform(post("/api/v1/beneficios/transferir/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lote)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processadas", is(2)))
+                .andExpect(jsonPath("$.falhas", is(1)))
+                .andExpect(jsonPath("$.resultados[1].sucesso", is(false)))
+                .andExpect(jsonPath("$.resultados[1].mensagem", containsString("Saldo insuficiente")));
+
+        mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio1.getId()))
+                .andExpect(jsonPath("$.valor", is(950.00)));
+    }
+
+    @Test
+    void testTransferirLote_TudoOuNada() throws Exception {
+        TransferenciaLoteRequestDTO lote = new TransferenciaLoteRequestDTO(Arrays.asList(
+                new TransferenciaRequestDTO(beneficio1.getId(), beneficio2.getId(), new BigDecimal("100.00")),
+                new TransferenciaRequestDTO(beneficio2.getId(), beneficio1.getId(), new BigDecimal("9000.00"))
+        ), true);
+
+        mockMvc.perform(post("/api/v1/beneficios/transferir/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lote)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Lote rejeitado no item 1")));
+    }
+
+    @Test
+    void testTransferir_Condicional() throws Exception {
+        transferenciaProperties.setEstrategia(EstrategiaTransferencia.CONDICIONAL);
+        try {
+            TransferenciaRequestDTO dto = new TransferenciaRequestDTO(
+                    beneficio2.getId(), beneficio1.getId(), new BigDecimal("200.00"));
+
+            mockMvc.perform(post("/api/v1/beneficios/transferir")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio2.getId()))
+                    .andExpect(jsonPath("$.valor", is(300.00)))
+                    .andExpect(jsonPath("$.version", is(1)));
+
+            dto.setValor(new BigDecimal("301.00"));
+            mockMvc.perform(post("/api/v1/beneficios/transferir")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("Saldo insuficiente")));
+
+            dto.setParaId(999L);
+            dto.setValor(new BigDecimal("1.00"));
+            mockMvc.perform(post("/api/v1/beneficios/transferir")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isNotFound());
+        } finally {
+            transferenciaProperties.setEstrategia(EstrategiaTransferencia.OTIMISTA);
+        }
+    }
+
+    @Test
+    void testTransferir_IdempotencyKey() throws Exception {
+        TransferenciaRequestDTO dto = new TransferenciaRequestDTO(
+                beneficio1.getId(), beneficio2.getId(), new BigDecimal("100.00"));
+        String chave = "teste-" + beneficio1.getId();
+
+        mockMvc.perform(post("/api/v1/beneficios/transferir")
+                        .header("Idempotency-Key", chave)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+
+        mockMvc.perform(post("/api/v1/beneficios/transferir")
+                        .header("Idempotency-Key", chave)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+
+        mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio1.getId()))
+                .andExpect(jsonPath("$.valor", is(900.00)));
+
+        dto.setValor(new BigDecimal("1.00"));
+        mockMvc.perform(post("/api/v1/beneficios/transferir")
+                        .header("Idempotency-Key", chave)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("já foi usada")));
+    }
+
+    @Test
+    void testExtrato_PaginacaoPorCursor() throws Exception {
+        TransferenciaLoteRequestDTO lote = new TransferenciaLoteRequestDTO(Arrays.asList(
+                new TransferenciaRequestDTO(beneficio1.getId(), beneficio2.getId(), new BigDecimal("100.00")),
+                new TransferenciaRequestDTO(beneficio2.getId(), beneficio1.getId(), new BigDecimal("30.00")),
+                new TransferenciaRequestDTO(beneficio1.getId(), beneficio2.getId(), new BigDecimal("10.00"))
+        ), false);
+        mockMvc.perform(post("/api/v1/beneficios/transferir/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lote)))
+                .andExpect(status().isOk());
+
+        String primeira = mockMvc.perform(get("/api/v1/beneficios/{id}/extrato", beneficio1.getId())
+                        .param("limite", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movimentos", hasSize(2)))
+                .andExpect(jsonPath("$.movimentos[0].tipo", is("DEBITO")))
+                .andExpect(jsonPath("$.movimentos[0].valor", is(10.00)))
+                .andExpect(jsonPath("$.movimentos[1].tipo", is("CREDITO")))
+                .andExpect(jsonPath("$.proximoCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(primeira).get("proximoCursor").asText();
+
+        mockMvc.perform(get("/api/v1/beneficios/{id}/extrato", beneficio1.getId())
+                        .param("limite", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movimentos", hasSize(1)))
+                .andExpect(jsonPath("$.movimentos[0].valor", is(100.00)))
+                .andExpect(jsonPath("$.proximoCursor", nullValue()));
+
+        mockMvc.perform(get("/api/v1/beneficios/{id}/extrato", beneficio1.getId())
+                        .param("cursor", "invalido"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testListarPaginado_OrdenacaoECursor() throws Exception {
+        Beneficio inativo = new Beneficio("Beneficio Teste C", "Descrição C", new BigDecimal("750.00"));
+        inativo.setAtivo(false);
+        repository.save(inativo);
+
+        String primeira = mockMvc.perform(get("/api/v1/beneficios/pagina")
+                        .param("sort", "valor,desc")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens", hasSize(2)))
+                .andExpect(jsonPath("$.itens[0].valor", is(1000.00)))
+                .andExpect(jsonPath("$.itens[1].valor", is(750.00)))
+                .andExpect(jsonPath("$.proximoCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(primeira).get("proximoCursor").asText();
+
+        mockMvc.perform(get("/api/v1/beneficios/pagina")
+                        .param("sort", "valor,desc")
+                        .param("limit", "2")
+                        .param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens", hasSize(1)))
+                .andExpect(jsonPath("$.itens[0].nome", is("Beneficio Teste B")))
+                .andExpect(jsonPath("$.proximoCursor", nullValue()));
+
+        mockMvc.perform(get("/api/v1/beneficios/pagina")
+                        .param("sort", "nome,asc")
+                        .param("after", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testListarPaginado_Filtros() throws Exception {
+        mockMvc.perform(get("/api/v1/beneficios/pagina")
+                        .param("ativo", "true")
+                        .param("valorMin", "600")
+                        .param("sort", "nome"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens", hasSize(1)))
+                .andExpect(jsonPath("$.itens[0].nome", is("Beneficio Teste A")));
+
+        mockMvc.perform(get("/api/v1/beneficios/pagina").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testBusca_SemAcentosEPorRelevancia() throws Exception {
+        repository.save(new Beneficio("Vale Alimentação", "Cartão para supermercado", new BigDecimal("300.00")));
+        // Setup roda dentro da transação do teste: o índice é montado como na inicialização
+        buscaService.indexarTodos();
+
+        mockMvc.perform(get("/api/v1/beneficios/busca").param("q", "ALIMENTACAO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].nome", is("Vale Alimentação")));
+
+        mockMvc.perform(get("/api/v1/beneficios/busca").param("q", "teste").param("limite", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].nome", is("Beneficio Teste A")));
+
+        mockMvc.perform(get("/api/v1/beneficios/busca").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testFindById_ETagEIfNoneMatch() throws Exception {
+        String etag = "\"" + beneficio1.getVersion() + "\"";
+
+        mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio1.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag));
+
+        mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio1.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/beneficios").header("If-None-Match", "\"2-0\""))
+                .andExpect(status().isNotModified());
+        repository.save(new Beneficio("Beneficio Teste C", null, new BigDecimal("10.00")));
+        mockMvc.perform(get("/api/v1/beneficios").header("If-None-Match", "\"2-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3-0\""));
+    }
+
+    @Test
+    void testFindById_ETagPorRepresentacao() throws Exception {
+        long versao = beneficio1.getVersion();
+
+        mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio1.getId()).accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + versao + ";cbor\""))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+        // Ordem dos campos em fields= não muda o ETag
+        mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio1.getId()).param("fields", "valor,nome"))
+                .andExpect(header().string("ETag", "\"" + versao + ";id,nome,valor\""));
+
+        // ETag do JSON não vale para o CBOR
+        mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio1.getId())
+                        .accept("application/cbor").header("If-None-Match", "\"" + versao + "\""))
+                .andExpect(status().isOk());
+
+        // If-Match aceita o ETag de qualquer representação da versão
+        BeneficioRequestDTO dto = new BeneficioRequestDTO("Beneficio Atualizado", null, new BigDecimal("1000.00"), true);
+        mockMvc.perform(put("/api/v1/beneficios/{id}", beneficio1.getId())
+                        .header("If-Match", "\"" + versao + ";cbor\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testUpdate_IfMatch() throws Exception {
+        BeneficioRequestDTO dto = new BeneficioRequestDTO("Beneficio Atualizado", null, new BigDecimal("1000.00"), true);
+        long versao = beneficio1.getVersion();
+
+        mockMvc.perform(put("/api/v1/beneficios/{id}", beneficio1.getId())
+                        .header("If-Match", "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/v1/beneficios/{id}", beneficio1.getId())
+                        .header("If-Match", "\"" + versao + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + (versao + 1) + "\""))
+                .andExpect(jsonPath("$.version", is((int) versao + 1)));
+    }
+
+    @Test
+    void testPatch_MergePatchComVersao() throws Exception {
+        long versao = beneficio1.getVersion();
+        MediaType mergePatch = MediaType.parseMediaType("application/merge-patch+json");
+
+        mockMvc.perform(patch("/api/v1/beneficios/{id}", beneficio1.getId())
+                        .header("If-Match", "\"" + versao + "\"")
+                        .contentType(mergePatch)
+                        .content("{\"descricao\":null,\"valor\":1234.50}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + (versao + 1) + "\""))
+                .andExpect(jsonPath("$.nome", is(beneficio1.getNome())))
+                .andExpect(jsonPath("$.descricao").value(nullValue()))
+                .andExpect(jsonPath("$.valor", is(1234.50)))
+                .andExpect(jsonPath("$.version", is((int) versao + 1)));
+
+        Beneficio atualizado = repository.findById(beneficio1.getId()).orElseThrow();
+        assertEquals(0, new BigDecimal("1234.50").compareTo(atualizado.getValor()));
+        assertEquals(versao + 1, atualizado.getVersion());
+
+        // Versão antiga: 412; inexistente: 404; sem versão ou campo inválido: 400
+        mockMvc.perform(patch("/api/v1/beneficios/{id}", beneficio1.getId())
+                        .contentType(mergePatch)
+                        .content("{\"nome\":\"Outro\",\"version\":" + versao + "}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/v1/beneficios/{id}", 999999L)
+                        .contentType(mergePatch)
+                        .content("{\"nome\":\"Outro\",\"version\":0}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/api/v1/beneficios/{id}", beneficio1.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Outro\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/beneficios/{id}", beneficio1.getId())
+                        .contentType(mergePatch)
+                        .content("{\"nome\":\"\",\"version\":" + (versao + 1) + "}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testFormatosBinarios_CborESmile() throws Exception {
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory()).findAndRegisterModules();
+        ObjectMapper smile = new ObjectMapper(new SmileFactory()).findAndRegisterModules();
+        MediaType applicationCbor = MediaType.parseMediaType("application/cbor");
+        MediaType applicationSmile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        TransferenciaRequestDTO dto = new TransferenciaRequestDTO(
+                beneficio1.getId(), beneficio2.getId(), new BigDecimal("100.00"));
+        mockMvc.perform(post("/api/v1/beneficios/transferir")
+                        .contentType(applicationCbor)
+                        .content(cbor.writeValueAsBytes(dto)))
+                .andExpect(status().isOk());
+
+        byte[] corpo = mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio1.getId()).accept(applicationCbor))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(applicationCbor))
+                .andReturn().getResponse().getContentAsByteArray();
+        BeneficioResponseDTO beneficio = cbor.readValue(corpo, BeneficioResponseDTO.class);
+        assertEquals(0, new BigDecimal("900.00").compareTo(beneficio.getValor()));
+        assertNotNull(beneficio.getCreatedAt());
+
+        corpo = mockMvc.perform(get("/api/v1/beneficios").accept(applicationSmile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(applicationSmile))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(2, smile.readValue(corpo, BeneficioResponseDTO[].class).length);
+
+        // Accept genérico continua JSON
+        mockMvc.perform(get("/api/v1/beneficios").accept(MediaType.ALL))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testMudancas_DesdeCursor() throws Exception {
+        Duration margem = sincronizacaoProperties.getMargemCommit();
+        sincronizacaoProperties.setMargemCommit(Duration.ZERO);
+        try {
+            String cursor = mudancas(null, 1);
+            assertEquals(0, objectMapper.readTree(mockMvc.perform(get("/api/v1/beneficios/mudancas")
+                            .param("desde", cursor))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString()).get("beneficios").size());
+
+            mockMvc.perform(delete("/api/v1/beneficios/{id}", beneficio2.getId()))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/api/v1/beneficios/mudancas").param("desde", cursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.beneficios", hasSize(1)))
+                    .andExpect(jsonPath("$.beneficios[0].id", is(beneficio2.getId().intValue())))
+                    .andExpect(jsonPath("$.beneficios[0].ativo", is(false)))
+                    .andExpect(jsonPath("$.temMais", is(false)));
+        } finally {
+            sincronizacaoProperties.setMargemCommit(margem);
+        }
+
+        mockMvc.perform(get("/api/v1/beneficios/mudancas").param("desde", "invalido"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Percorre as mudanças página a página a partir do cursor e devolve o cursor final
+     */
+    private String mudancas(String desde, int limite) throws Exception {
+        String cursor = desde;
+        int recebidos = 0;
+        boolean temMais = true;
+        while (temMais) {
+            var requisicao = get("/api/v1/beneficios/mudancas").param("limite", String.valueOf(limite));
+            if (cursor != null) {
+                requisicao.param("desde", cursor);
+            }
+            JsonNode resposta = objectMapper.readTree(mockMvc.perform(requisicao)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            recebidos += resposta.get("beneficios").size();
+            cursor = resposta.get("cursor").asText();
+            temMais = resposta.get("temMais").asBoolean();
+        }
+        assertEquals(2, recebidos);
+        return cursor;
+    }
+
+    @Test
+    void testCamposEsparsos() throws Exception {
+        mockMvc.perform(get("/api/v1/beneficios").param("fields", "nome,valor"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(beneficio1.getId().intValue())))
+                .andExpect(jsonPath("$[0].nome", is("Beneficio Teste A")))
+                .andExpect(jsonPath("$[0].valor", is(1000.00)))
+                .andExpect(jsonPath("$[0].descricao").doesNotExist())
+                .andExpect(jsonPath("$[0].version").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/beneficios/{id}", beneficio2.getId()).param("fields", "ativo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(beneficio2.getId().intValue())))
+                .andExpect(jsonPath("$.ativo", is(true)))
+                .andExpect(jsonPath("$.nome").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/beneficios/pagina").param("limit", "1").param("fields", "nome"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].nome", is("Beneficio Teste A")))
+                .andExpect(jsonPath("$.itens[0].valor").doesNotExist())
+                .andExpect(jsonPath("$.proximoCursor").exists());
+
+        mockMvc.perform(get("/api/v1/beneficios/ativos").param("fields", "nome,saldo"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("saldo")));
+    }
+
+    @Test
+    void testConsultarPorIds() throws Exception {
+        BeneficioIdsRequestDTO dto = new BeneficioIdsRequestDTO(
+                Arrays.asList(beneficio2.getId(), 999_999L, beneficio1.getId()));
+
+        mockMvc.perform(post("/api/v1/beneficios/consulta")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.beneficios", hasSize(2)))
+                .andExpect(jsonPath("$.beneficios[0].nome", is("Beneficio Teste B")))
+                .andExpect(jsonPath("$.beneficios[1].nome", is("Beneficio Teste A")))
+                .andExpect(jsonPath("$.naoEncontrados[0]", is(999_999)));
+    }
 }
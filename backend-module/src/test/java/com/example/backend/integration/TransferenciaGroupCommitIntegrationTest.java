@@ -0,0 +1,102 @@
+package com.example.backend.integration;
+
+import com.example.backend.dto.TransferenciaRequestDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.repository.ChaveIdempotenciaRepository;
+import com.example.backend.service.TransferenciaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do group commit: transações reais, sem rollback do teste
+ */
+@SpringBootTest(properties = {
+        "beneficios.transferencia.group-commit.habilitado=true",
+        "beneficios.transferencia.group-commit.janela=20ms"
+})
+class TransferenciaGroupCommitIntegrationTest {
+
+    @Autowired
+    private TransferenciaService transferenciaService;
+
+    @Autowired
+    private BeneficioRepository repository;
+
+    @Autowired
+    private ChaveIdempotenciaRepository chaveRepository;
+
+    private Beneficio origem;
+    private Beneficio destino;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        origem = repository.save(new Beneficio("Origem", null, new BigDecimal("100.00")));
+        destino = repository.save(new Beneficio("Destino", null, new BigDecimal("0.00")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        chaveRepository.deleteAll();
+        repository.deleteAll();
+    }
+
+    @Test
+    void testTransferenciasConcorrentesComFalhaIndividual() {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            // 12 x 10.00 sobre saldo de 100.00: exatamente 10 devem passar
+            for (int i = 0; i < 12; i++) {
+                futures.add(CompletableFuture.runAsync(() -> transferenciaService.transferir(
+                        new TransferenciaRequestDTO(origem.getId(), destino.getId(), new BigDecimal("10.00"))), executor));
+            }
+
+            int sucessos = 0;
+            int recusadas = 0;
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.join();
+                    sucessos++;
+                } catch (CompletionException e) {
+                    assertInstanceOf(BusinessException.class, e.getCause());
+                    recusadas++;
+                }
+            }
+
+            assertEquals(10, sucessos);
+            assertEquals(2, recusadas);
+            assertEquals(0, BigDecimal.ZERO.compareTo(repository.findById(origem.getId()).orElseThrow().getValor()));
+            assertEquals(0, new BigDecimal("100.00").compareTo(repository.findById(destino.getId()).orElseThrow().getValor()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testIdempotencyKeyGravadaNoLote() {
+        TransferenciaRequestDTO dto = new TransferenciaRequestDTO(origem.getId(), destino.getId(), new BigDecimal("30.00"));
+
+        assertFalse(transferenciaService.transferir(dto, "gc-chave-1"));
+        assertTrue(transferenciaService.transferir(dto, "gc-chave-1"));
+
+        assertTrue(chaveRepository.existsById("gc-chave-1"));
+        assertEquals(0, new BigDecimal("70.00").compareTo(repository.findById(origem.getId()).orElseThrow().getValor()));
+        assertEquals(0, new BigDecimal("30.00").compareTo(repository.findById(destino.getId()).orElseThrow().getValor()));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.backend.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para JournalWriter, SaldosJournal e JournalReplay
+ */
+class JournalWriterTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void testReplay_CriacaoETransferencia() throws IOException {
+        try (JournalWriter writer = new JournalWriter(diretorio, 4096, false)) {
+            writer.append(RegistroJournal.CRIADO, 1L, 0L, 100_000L, true);
+            writer.append(RegistroJournal.CRIADO, 2L, 0L, 50_000L, true);
+            writer.append(RegistroJournal.TRANSFERENCIA, 1L, 1L, 74_950L, true);
+            writer.append(RegistroJournal.TRANSFERENCIA, 2L, 1L, 75_050L, true);
+            writer.append(RegistroJournal.DESATIVADO, 2L, 2L, 75_050L, false);
+        }
+
+        SaldosJournal saldos = JournalReplay.reconstruir(diretorio);
+
+        assertEquals(5, saldos.getSequencia());
+        assertEquals(74_950L, saldos.getSaldos().get(1L).getCentavos());
+        assertEquals(75_050L, saldos.getSaldos().get(2L).getCentavos());
+        assertFalse(saldos.getSaldos().get(2L).isAtivo());
+    }
+
+    @Test
+    void testReplay_DescartaRegistroForaDaOrdemDeCommit() throws IOException {
+        try (JournalWriter writer = new JournalWriter(diretorio, 4096, false)) {
+            writer.append(RegistroJournal.CRIADO, 1L, 0L, 10_000L, true);
+            // Atualização (versão 2) registrada antes da transferência que a precedeu no banco (versão 1)
+            writer.append(RegistroJournal.ATUALIZADO, 1L, 2L, 50_000L, true);
+            writer.append(RegistroJournal.TRANSFERENCIA, 1L, 1L, 9_000L, true);
+        }
+
+        SaldosJournal saldos = JournalReplay.reconstruir(diretorio);
+
+        assertEquals(3, saldos.getSequencia());
+        assertEquals(50_000L, saldos.getSaldos().get(1L).getCentavos());
+        assertEquals(2L, saldos.getSaldos().get(1L).getVersao());
+    }
+
+    @Test
+    void testReabrir_ContinuaSequenciaERolaSegmento() throws IOException {
+        // Segmento com espaço para dois registros
+        try (JournalWriter writer = new JournalWriter(diretorio, 2 * RegistroJournal.TAMANHO, false)) {
+            writer.append(RegistroJournal.CRIADO, 1L, 0L, 1_000L, true);
+        }
+        try (JournalWriter writer = new JournalWriter(diretorio, 2 * RegistroJournal.TAMANHO, false)) {
+            assertEquals(1, writer.getUltimaSequencia());
+            writer.append(RegistroJournal.TRANSFERENCIA, 1L, 1L, 900L, true);
+            assertEquals(3, writer.append(RegistroJournal.TRANSFERENCIA, 1L, 2L, 800L, true));
+        }
+
+        assertEquals(2, JournalWriter.segmentos(diretorio).size());
+        assertEquals(800L, JournalReplay.reconstruir(diretorio).getSaldos().get(1L).getCentavos());
+    }
+
+    @Test
+    void testReplay_IgnoraRegistroCorrompido() throws IOException {
+        try (JournalWriter writer = new JournalWriter(diretorio, 4096, false)) {
+            writer.append(RegistroJournal.CRIADO, 1L, 0L, 1_000L, true);
+            writer.append(RegistroJournal.ATUALIZADO, 1L, 1L, 9_999L, true);
+        }
+        Path segmento = JournalWriter.segmentos(diretorio).get(0);
+        try (FileChannel canal = FileChannel.open(segmento, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[]{0x7F}), RegistroJournal.TAMANHO + 32);
+        }
+
+        SaldosJournal saldos = JournalReplay.reconstruir(diretorio);
+
+        assertEquals(1, saldos.getSequencia());
+        assertEquals(1_000L, saldos.getSaldos().get(1L).getCentavos());
+    }
+
+    @Test
+    void testSnapshot_CompactaSegmentosCobertos() throws IOException {
+        try (JournalWriter writer = new JournalWriter(diretorio, 2 * RegistroJournal.TAMANHO, false)) {
+            writer.append(RegistroJournal.CRIADO, 1L, 0L, 1_000L, true);
+            writer.append(RegistroJournal.CRIADO, 2L, 0L, 1_000L, true);
+            writer.append(RegistroJournal.TRANSFERENCIA, 1L, 1L, 700L, true);
+
+            SaldosJournal snapshot = JournalReplay.reconstruir(diretorio, writer.getUltimaSequencia());
+            snapshot.gravar(diretorio);
+            JournalReplay.compactar(diretorio, snapshot.getSequencia());
+
+            writer.append(RegistroJournal.TRANSFERENCIA, 2L, 1L, 1_300L, true);
+        }
+
+        assertEquals(1, JournalWriter.segmentos(diretorio).size());
+        SaldosJournal saldos = JournalReplay.reconstruir(diretorio);
+        assertEquals(4, saldos.getSequencia());
+        assertEquals(700L, saldos.getSaldos().get(1L).getCentavos());
+        assertEquals(1L, saldos.getSaldos().get(1L).getVersao());
+        assertEquals(1_300L, saldos.getSaldos().get(2L).getCentavos());
+    }
+}
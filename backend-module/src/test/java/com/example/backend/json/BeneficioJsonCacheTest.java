@@ -0,0 +1,102 @@
+package com.example.backend.json;
+
+import com.example.backend.config.CacheBeneficioProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.repository.VersaoBeneficio;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do cache de JSON pré-serializado
+ */
+class BeneficioJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private BeneficioJsonCache cache;
+    private final Map<Long, BeneficioResponseDTO> banco = new HashMap<>();
+    private final List<Set<Long>> cargas = new ArrayList<>();
+    private final Function<Set<Long>, Map<Long, BeneficioResponseDTO>> carregador = ids -> {
+        cargas.add(Set.copyOf(ids));
+        Map<Long, BeneficioResponseDTO> encontrados = new HashMap<>();
+        ids.forEach(id -> {
+            if (banco.containsKey(id)) {
+                encontrados.put(id, banco.get(id));
+            }
+        });
+        return encontrados;
+    };
+
+    @BeforeEach
+    void setUp() {
+        cache = new BeneficioJsonCache(new CacheBeneficioProperties(), objectMapper, new SimpleMeterRegistry());
+        banco.put(1L, beneficio(1L, "Beneficio A", 0L));
+        banco.put(2L, beneficio(2L, "Beneficio B", 0L));
+    }
+
+    @Test
+    void testMontar_ReusaFragmentosDaMesmaVersao() throws Exception {
+        List<VersaoBeneficio> versoes = List.of(new VersaoBeneficio(2L, 0L), new VersaoBeneficio(1L, 0L));
+
+        String primeira = escrever(cache.montar(versoes, carregador));
+        String segunda = escrever(cache.montar(versoes, carregador));
+
+        assertEquals(1, cargas.size());
+        assertEquals(primeira, segunda);
+        assertEquals(objectMapper.writeValueAsString(List.of(banco.get(2L), banco.get(1L))), primeira);
+    }
+
+    @Test
+    void testMontar_VersaoNovaRecarregaSoOAlterado() throws Exception {
+        cache.montar(List.of(new VersaoBeneficio(1L, 0L), new VersaoBeneficio(2L, 0L)), carregador);
+        banco.put(1L, beneficio(1L, "Beneficio A2", 1L));
+
+        String json = escrever(cache.montar(
+                List.of(new VersaoBeneficio(1L, 1L), new VersaoBeneficio(2L, 0L), new VersaoBeneficio(3L, 0L)),
+                carregador));
+
+        assertEquals(Set.of(1L, 3L), cargas.get(1));
+        assertTrue(json.contains("Beneficio A2"));
+        assertEquals(2, objectMapper.readTree(json).size());
+    }
+
+    @Test
+    void testInvalidacaoAposCommit() {
+        List<VersaoBeneficio> versoes = List.of(new VersaoBeneficio(1L, 0L));
+        cache.montar(versoes, carregador);
+
+        cache.onBeneficioAlterado(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.ATUALIZADO,
+                beneficio(1L, "Beneficio A", 0L)));
+        cache.montar(versoes, carregador);
+
+        assertEquals(2, cargas.size());
+    }
+
+    private static String escrever(ListaJson lista) throws Exception {
+        MockHttpOutputMessage saida = new MockHttpOutputMessage();
+        new ListaJsonHttpMessageConverter().write(lista, null, saida);
+        assertEquals(lista.tamanho(), saida.getHeaders().getContentLength());
+        return saida.getBodyAsString();
+    }
+
+    private static BeneficioResponseDTO beneficio(Long id, String nome, Long version) {
+        Beneficio beneficio = new Beneficio(nome, "Descrição", new BigDecimal("100.00"));
+        beneficio.setId(id);
+        beneficio.setVersion(version);
+        return new BeneficioResponseDTO(beneficio);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.backend.notificacao;
+
+import com.example.backend.config.EventosProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do broadcaster SSE: ordem, retomada por Last-Event-ID e consumidor lento
+ */
+class EventosBeneficioServiceTest {
+
+    private EventosProperties properties;
+    private EventosBeneficioService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EventosProperties();
+        properties.setTamanhoHistorico(4);
+        properties.setCapacidadeAssinante(2);
+        service = new EventosBeneficioService(properties, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.encerrar();
+    }
+
+    @Test
+    void testEntregaEventosEmOrdemComId() {
+        EmitterTeste emitter = new EmitterTeste();
+        service.registrar(emitter, null);
+        aguardar(() -> service.quantidadeAssinantes() == 1);
+
+        service.onBeneficioAlterado(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.CRIADO, beneficio()));
+        service.onTransferenciaRealizada(new TransferenciaRealizadaEvent(1L, 2L, new BigDecimal("10.00")));
+
+        aguardar(() -> emitter.recebidos.size() == 2);
+        assertTrue(emitter.recebidos.get(0).contains("event:criado\nid:1\n"));
+        assertTrue(emitter.recebidos.get(0).contains("\"nome\":\"Beneficio A\""));
+        assertTrue(emitter.recebidos.get(1).contains("event:transferencia\nid:2\n"));
+        assertTrue(emitter.recebidos.get(1).contains("\"paraId\":2"));
+    }
+
+    @Test
+    void testRetomadaPorLastEventId() {
+        for (int i = 0; i < 5; i++) {
+            service.onBeneficioAlterado(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.ATUALIZADO, beneficio()));
+        }
+
+        EmitterTeste retomado = new EmitterTeste();
+        service.registrar(retomado, 3L);
+        aguardar(() -> retomado.recebidos.size() == 2);
+        assertTrue(retomado.recebidos.get(0).contains("id:4\n"));
+        assertTrue(retomado.recebidos.get(1).contains("id:5\n"));
+
+        // O evento 1 já saiu do histórico (4 posições): o cliente precisa ressincronizar
+        EmitterTeste atrasado = new EmitterTeste();
+        service.registrar(atrasado, 0L);
+        aguardar(() -> atrasado.recebidos.size() == 1);
+        assertTrue(atrasado.recebidos.get(0).startsWith("event:reinicio\n"));
+    }
+
+    @Test
+    void testConsumidorLentoDesconectadoSemBloquearPublicacao() throws Exception {
+        EmitterTeste lento = new EmitterTeste();
+        lento.bloqueio = new CountDownLatch(1);
+        EmitterTeste rapido = new EmitterTeste();
+        service.registrar(lento, null);
+        service.registrar(rapido, null);
+        aguardar(() -> service.quantidadeAssinantes() == 2);
+
+        for (int i = 1; i <= 5; i++) {
+            service.onBeneficioAlterado(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.ATUALIZADO, beneficio()));
+            int enviados = i;
+            aguardar(() -> rapido.recebidos.size() == enviados);
+        }
+
+        aguardar(() -> service.quantidadeAssinantes() == 1);
+        lento.bloqueio.countDown();
+        aguardar(() -> lento.completado);
+        assertTrue(lento.recebidos.size() < 5);
+    }
+
+    private static BeneficioResponseDTO beneficio() {
+        Beneficio beneficio = new Beneficio("Beneficio A", "Descrição A", new BigDecimal("100.00"));
+        beneficio.setId(1L);
+        return new BeneficioResponseDTO(beneficio);
+    }
+
+    private static void aguardar(BooleanSupplier condicao) {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean()) {
+            if (System.nanoTime() > limite) {
+                fail("Condição não atingida em 5s");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Emitter que guarda o texto SSE de cada envio; opcionalmente trava no envio (cliente que não lê)
+     */
+    private static class EmitterTeste extends SseEmitter {
+
+        final List<String> recebidos = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch bloqueio;
+        volatile boolean completado;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (bloqueio != null) {
+                try {
+                    bloqueio.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder texto = new StringBuilder();
+            builder.build().forEach(parte -> texto.append(parte.getData()));
+            recebidos.add(texto.toString());
+        }
+
+        @Override
+        public void complete() {
+            completado = true;
+        }
+    }
+}
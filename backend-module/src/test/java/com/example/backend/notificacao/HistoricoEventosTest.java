@@ -0,0 +1,38 @@
+package com.example.backend.notificacao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários do histórico circular de eventos
+ */
+class HistoricoEventosTest {
+
+    @Test
+    void testApos_DevolveEventosPosterioresEmOrdem() {
+        HistoricoEventos historico = new HistoricoEventos(4);
+        for (int i = 0; i < 6; i++) {
+            historico.adicionar("criado", "{}");
+        }
+
+        List<EventoBeneficio> eventos = historico.apos(3);
+
+        assertEquals(List.of(4L, 5L, 6L), eventos.stream().map(EventoBeneficio::id).toList());
+        assertTrue(historico.apos(6).isEmpty());
+    }
+
+    @Test
+    void testApos_ForaDoBufferOuDesconhecido() {
+        HistoricoEventos historico = new HistoricoEventos(4);
+        for (int i = 0; i < 6; i++) {
+            historico.adicionar("criado", "{}");
+        }
+
+        assertEquals(4, historico.apos(2).size());
+        assertNull(historico.apos(1));
+        assertNull(historico.apos(7));
+    }
+}
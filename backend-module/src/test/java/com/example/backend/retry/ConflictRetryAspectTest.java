@@ -0,0 +1,105 @@
+package com.example.backend.retry;
+
+import com.example.backend.config.RetryProperties;
+import com.example.backend.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ConflictRetryAspect
+ */
+class ConflictRetryAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private RetryProperties properties;
+    private Alvo alvo;
+    private Alvo proxy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new RetryProperties();
+        properties.setMaxTentativas(3);
+        properties.setAtrasoInicial(Duration.ofMillis(1));
+        properties.setAtrasoMaximo(Duration.ofMillis(2));
+
+        alvo = new Alvo();
+        AspectJProxyFactory factory = new AspectJProxyFactory(alvo);
+        factory.addAspect(new ConflictRetryAspect(properties, registry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void testReexecutaAteSucesso() {
+        alvo.falhas = 2;
+
+        assertEquals("ok", proxy.executar());
+        assertEquals(3, alvo.chamadas);
+        assertEquals(3.0, registry.counter("beneficios.retry.attempts", "method", "Alvo.executar").count());
+        assertEquals(2.0, registry.counter("beneficios.retry.retries", "method", "Alvo.executar").count());
+        assertEquals(0.0, registry.counter("beneficios.retry.exhausted", "method", "Alvo.executar").count());
+    }
+
+    @Test
+    void testEsgotaTentativas() {
+        alvo.falhas = 10;
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> proxy.executar());
+        assertEquals(3, alvo.chamadas);
+        assertEquals(1.0, registry.counter("beneficios.retry.exhausted", "method", "Alvo.executar").count());
+    }
+
+    @Test
+    void testNaoReexecutaOutrosErros() {
+        assertThrows(BusinessException.class, () -> proxy.falharNegocio());
+        assertEquals(1, alvo.chamadas);
+    }
+
+    @Test
+    void testDetectaConflitoEmbrulhado() {
+        assertTrue(ConflictRetryAspect.isConflito(
+                new BusinessException("conflito", new OptimisticLockException())));
+        assertFalse(ConflictRetryAspect.isConflito(new BusinessException("saldo")));
+    }
+
+    @Test
+    void testEsperaRespeitaTeto() {
+        properties.setAtrasoInicial(Duration.ofMillis(100));
+        properties.setAtrasoMaximo(Duration.ofMillis(300));
+        ConflictRetryAspect aspect = new ConflictRetryAspect(properties, registry);
+
+        for (int tentativa = 1; tentativa <= 10; tentativa++) {
+            long espera = aspect.calcularEspera(tentativa);
+            assertTrue(espera <= 300, "espera acima do teto: " + espera);
+        }
+        assertTrue(aspect.calcularEspera(1) >= 50);
+    }
+
+    static class Alvo {
+        int falhas;
+        int chamadas;
+
+        @RetryOnConflict
+        public String executar() {
+            chamadas++;
+            if (chamadas <= falhas) {
+                throw new ObjectOptimisticLockingFailureException("Beneficio", 1L);
+            }
+            return "ok";
+        }
+
+        @RetryOnConflict
+        public void falharNegocio() {
+            chamadas++;
+            throw new BusinessException("Saldo insuficiente");
+        }
+    }
+}
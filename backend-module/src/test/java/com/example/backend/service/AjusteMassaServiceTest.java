@@ -0,0 +1,103 @@
+package com.example.backend.service;
+
+import com.example.backend.config.AjusteMassaProperties;
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.AjusteMassaRequestDTO;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.entity.AjusteMassa;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.repository.AjusteMassaRepository;
+import com.example.backend.repository.BeneficioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AjusteMassaService
+ */
+@ExtendWith(MockitoExtension.class)
+class AjusteMassaServiceTest {
+
+    @Mock
+    private AjusteMassaRepository ajusteRepository;
+
+    @Mock
+    private BeneficioRepository beneficioRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TransferenciaProperties transferenciaProperties;
+    private AjusteMassaService service;
+
+    @BeforeEach
+    void setUp() {
+        transferenciaProperties = new TransferenciaProperties();
+        service = new AjusteMassaService(ajusteRepository, beneficioRepository, transactionManager,
+                eventPublisher, new AjusteMassaProperties(), transferenciaProperties);
+    }
+
+    @Test
+    void testEventosSomenteParaLinhasAlteradas() {
+        AjusteMassa ajuste = new AjusteMassa(AjusteMassa.Tipo.CREDITO_PERCENTUAL, new BigDecimal("10"),
+                null, null, 2L);
+        when(ajusteRepository.findById(1L)).thenReturn(Optional.of(ajuste));
+        when(ajusteRepository.saveAndFlush(any(AjusteMassa.class))).thenAnswer(i -> i.getArgument(0));
+        when(beneficioRepository.findIdsAtivosParaAjuste(any(), any(), any(), any(), any())).thenReturn(List.of(1L, 2L));
+        when(beneficioRepository.travarEmOrdemDeId(anyCollection()))
+                .thenReturn(List.of(beneficio(1L, 0L), beneficio(2L, 0L)));
+        // ID 2 mudou de valor entre a seleção e o UPDATE e saiu do filtro
+        when(beneficioRepository.multiplicarValorEmLote(anyCollection(), any(), any(), any(), any())).thenReturn(1);
+        when(beneficioRepository.findAllResponseByIdIn(anyCollection())).thenReturn(List.of(
+                response(1L, "110.00", 1L), response(2L, "5000.00", 0L)));
+
+        service.executar(1L);
+
+        ArgumentCaptor<BeneficioAlteradoEvent> captor = ArgumentCaptor.forClass(BeneficioAlteradoEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(1L, captor.getValue().getBeneficio().getId());
+        assertEquals(AjusteMassa.Status.CONCLUIDO, ajuste.getStatus());
+        assertEquals(1L, ajuste.getAfetados());
+    }
+
+    @Test
+    void testCriar_RecusadoNaEstrategiaParticionada() {
+        transferenciaProperties.setEstrategia(EstrategiaTransferencia.PARTICIONADA);
+
+        assertThrows(BusinessException.class, () -> service.criar(new AjusteMassaRequestDTO(
+                AjusteMassa.Tipo.DESATIVACAO, null, null, null)));
+        verifyNoInteractions(ajusteRepository);
+    }
+
+    private static Beneficio beneficio(Long id, Long versao) {
+        Beneficio beneficio = new Beneficio("Beneficio " + id, null, BigDecimal.ONE);
+        beneficio.setId(id);
+        beneficio.setVersion(versao);
+        return beneficio;
+    }
+
+    private static BeneficioResponseDTO response(Long id, String valor, Long versao) {
+        return new BeneficioResponseDTO(id, "Beneficio " + id, null, new BigDecimal(valor), true, versao,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.backend.service;
+
+import com.example.backend.config.CacheBeneficioProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.example.backend.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para BeneficioCache
+ */
+class BeneficioCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private BeneficioCache cache;
+    private AtomicInteger cargas;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new BeneficioCache(new CacheBeneficioProperties(), registry);
+        cargas = new AtomicInteger();
+    }
+
+    @Test
+    void testBuscar_CarregaUmaVezERegistraMetricas() {
+        cache.buscar(1L, carregador(3L));
+        BeneficioResponseDTO resultado = cache.buscar(1L, carregador(3L));
+
+        assertEquals(3L, resultado.getVersion());
+        assertEquals(1, cargas.get());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", BeneficioCache.NOME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", BeneficioCache.NOME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testBuscar_NaoGuardaFalhaDeCarga() {
+        assertThrows(ResourceNotFoundException.class, () -> cache.buscar(9L, id -> {
+            throw new ResourceNotFoundException("Beneficio", id);
+        }));
+
+        cache.buscar(9L, carregador(0L));
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    void testTransferencia_InvalidaOrigemEDestino() {
+        cache.buscar(1L, carregador(0L));
+        cache.buscar(2L, carregador(0L));
+
+        cache.onTransferenciaRealizada(new TransferenciaRealizadaEvent(1L, 2L, new BigDecimal("10.00")));
+        cache.buscar(1L, carregador(1L));
+        cache.buscar(2L, carregador(1L));
+
+        assertEquals(4, cargas.get());
+        assertEquals(2.0, registry.get("beneficios.cache.invalidacoes").counter().count());
+    }
+
+    @Test
+    void testAlteracao_PreservaEntradaMaisNova() {
+        cache.buscar(1L, carregador(5L));
+
+        // Escrita que leu a versão 4: a entrada em cache (5) já reflete o commit
+        cache.onBeneficioAlterado(evento(1L, 4L));
+        cache.buscar(1L, carregador(5L));
+        assertEquals(1, cargas.get());
+
+        cache.onBeneficioAlterado(evento(1L, 5L));
+        assertEquals(6L, cache.buscar(1L, carregador(6L)).getVersion());
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    void testBuscarTodos_CoalesceCargasConcorrentes() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Set<Long> pedidosSegundaCarga = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<Long, BeneficioResponseDTO>> primeira = executor.submit(() -> cache.buscarTodos(List.of(1L, 2L), ids -> {
+                iniciou.countDown();
+                aguardar(liberar);
+                return carregarTodos(ids);
+            }));
+            assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+
+            Future<Map<Long, BeneficioResponseDTO>> segunda = executor.submit(() -> cache.buscarTodos(List.of(2L, 3L), ids -> {
+                pedidosSegundaCarga.addAll(ids);
+                return carregarTodos(ids);
+            }));
+            // A segunda requisição carrega só o ID 3 e espera a carga do 2 que já está em andamento
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (pedidosSegundaCarga.isEmpty() && System.nanoTime() < limite) {
+                Thread.sleep(5);
+            }
+            liberar.countDown();
+
+            assertEquals(Set.of(1L, 2L), primeira.get(5, TimeUnit.SECONDS).keySet());
+            assertEquals(Set.of(2L, 3L), segunda.get(5, TimeUnit.SECONDS).keySet());
+            assertEquals(Set.of(3L), pedidosSegundaCarga);
+            assertEquals(3, cargas.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Long, BeneficioResponseDTO> carregarTodos(Set<Long> ids) {
+        Map<Long, BeneficioResponseDTO> carregados = new HashMap<>();
+        for (Long id : ids) {
+            carregados.put(id, carregador(0L).apply(id));
+        }
+        return carregados;
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Function<Long, BeneficioResponseDTO> carregador(long versao) {
+        return id -> {
+            cargas.incrementAndGet();
+            return dto(id, versao);
+        };
+    }
+
+    private static BeneficioAlteradoEvent evento(long id, long versao) {
+        return new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.ATUALIZADO, dto(id, versao));
+    }
+
+    private static BeneficioResponseDTO dto(long id, long versao) {
+        Beneficio beneficio = new Beneficio("Beneficio " + id, null, new BigDecimal("100.00"));
+        beneficio.setId(id);
+        beneficio.setVersion(versao);
+        return new BeneficioResponseDTO(beneficio);
+    }
+}
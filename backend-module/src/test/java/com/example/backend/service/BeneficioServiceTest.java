@@ -1,26 +1,49 @@
 package com.example.backend.service;
 
+import com.example.backend.config.CacheBeneficioProperties;
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.BeneficioLoteResponseDTO;
+import com.example.backend.dto.BeneficioPatchDTO;
 import com.example.backend.dto.BeneficioRequestDTO;
 import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.CampoBeneficio;
+import com.example.backend.dto.TransferenciaLoteRequestDTO;
+import com.example.backend.dto.TransferenciaLoteResponseDTO;
 import com.example.backend.dto.TransferenciaRequestDTO;
 import com.example.backend.entity.Beneficio;
+import com.example.backend.entity.Transferencia;
+import com.example.backend.event.BeneficioAlteradoEvent;
 import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.PreconditionFailedException;
 import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.json.BeneficioJsonCache;
 import com.example.backend.repository.BeneficioRepository;
+import com.example.backend.repository.TransferenciaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -32,6 +55,31 @@ class BeneficioServiceTest {
     @Mock
     private BeneficioRepository repository;
 
+    @Mock
+    private TransferenciaRepository transferenciaRepository;
+
+    @Spy
+    private TransferenciaProperties transferenciaProperties = new TransferenciaProperties();
+
+    @Mock
+    private TransferenciaCondicional transferenciaCondicional;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private IdempotenciaService idempotenciaService;
+
+    @Spy
+    private BeneficioCache cache = new BeneficioCache(new CacheBeneficioProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private BeneficioJsonCache jsonCache = new BeneficioJsonCache(new CacheBeneficioProperties(),
+            new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private BeneficioService service;
 
@@ -51,32 +99,56 @@ class BeneficioServiceTest {
 
     @Test
     void testFindAll() {
-        when(repository.findAll()).thenReturn(Arrays.asList(beneficio1, beneficio2));
+        when(repository.findAllResponse()).thenReturn(Arrays.asList(
+                new BeneficioResponseDTO(beneficio1), new BeneficioResponseDTO(beneficio2)));
 
         List<BeneficioResponseDTO> result = service.findAll();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).findAllResponse();
+        verify(repository, never()).findAll();
     }
 
     @Test
     void testFindById_Success() {
-        when(repository.findById(1L)).thenReturn(Optional.of(beneficio1));
+        when(repository.findResponseById(1L)).thenReturn(Optional.of(new BeneficioResponseDTO(beneficio1)));
 
         BeneficioResponseDTO result = service.findById(1L);
 
         assertNotNull(result);
         assertEquals("Beneficio A", result.getNome());
-        verify(repository, times(1)).findById(1L);
+        verify(repository, times(1)).findResponseById(1L);
     }
 
     @Test
     void testFindById_NotFound() {
-        when(repository.findById(999L)).thenReturn(Optional.empty());
+        when(repository.findResponseById(999L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> service.findById(999L));
-        verify(repository, times(1)).findById(999L);
+        verify(repository, times(1)).findResponseById(999L);
+    }
+
+    @Test
+    void testFindAllById_OrdemEAusentes() {
+        when(repository.findAllResponseByIdIn(anyCollection())).thenReturn(Arrays.asList(
+                new BeneficioResponseDTO(beneficio1), new BeneficioResponseDTO(beneficio2)));
+
+        BeneficioLoteResponseDTO result = service.findAllById(Arrays.asList(2L, 99L, 1L, 2L));
+
+        assertEquals(Arrays.asList(2L, 1L), result.getBeneficios().stream().map(BeneficioResponseDTO::getId).toList());
+        assertEquals(List.of(99L), result.getNaoEncontrados());
+        verify(repository, times(1)).findAllResponseByIdIn(anyCollection());
+    }
+
+    @Test
+    void testFindAllById_ConsultasEmBlocos() {
+        List<Long> ids = LongStream.rangeClosed(1, BeneficioService.TAMANHO_BLOCO_IN + 1).boxed().toList();
+
+        BeneficioLoteResponseDTO result = service.findAllById(ids);
+
+        assertEquals(ids, result.getNaoEncontrados());
+        verify(repository, times(2)).findAllResponseByIdIn(anyCollection());
     }
 
     @Test
@@ -102,24 +174,82 @@ class BeneficioServiceTest {
         dto.setValor(new BigDecimal("1500.00"));
 
         when(repository.findById(1L)).thenReturn(Optional.of(beneficio1));
-        when(repository.save(any(Beneficio.class))).thenReturn(beneficio1);
+        when(repository.saveAndFlush(any(Beneficio.class))).thenReturn(beneficio1);
 
         BeneficioResponseDTO result = service.update(1L, dto);
 
         assertNotNull(result);
         verify(repository, times(1)).findById(1L);
-        verify(repository, times(1)).save(any(Beneficio.class));
+        verify(repository, times(1)).saveAndFlush(any(Beneficio.class));
+    }
+
+    @Test
+    void testUpdate_VersaoDesatualizada() {
+        beneficio1.setVersion(3L);
+        BeneficioRequestDTO dto = new BeneficioRequestDTO("Beneficio A", null, new BigDecimal("1000.00"), true);
+        dto.setVersion(2L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(beneficio1));
+
+        assertThrows(PreconditionFailedException.class, () -> service.update(1L, dto));
+        verify(repository, never()).saveAndFlush(any(Beneficio.class));
+    }
+
+    @Test
+    void testPatch_UpdateUnicoSemCarregarEntidade() {
+        BeneficioPatchDTO patch = patch("{\"descricao\":\"Nova\",\"version\":0}");
+        when(repository.atualizarSeVersao(eq(1L), eq(0L), eq(patch.getAlteracoes()), any())).thenReturn(1);
+        beneficio1.setDescricao("Nova");
+        when(repository.findResponseById(1L)).thenReturn(Optional.of(new BeneficioResponseDTO(beneficio1)));
+
+        BeneficioResponseDTO result = service.patch(1L, patch);
+
+        assertEquals("Nova", result.getDescricao());
+        assertEquals(Map.of(CampoBeneficio.DESCRICAO, "Nova"), patch.getAlteracoes());
+        verify(repository, never()).findById(any());
+        verify(repository, never()).findVersionById(any());
+        verify(eventPublisher).publishEvent(any(BeneficioAlteradoEvent.class));
+    }
+
+    @Test
+    void testPatch_NenhumaLinhaAfetada_VersaoDivergenteOuInexistente() {
+        when(repository.atualizarSeVersao(any(), any(), any(), any())).thenReturn(0);
+        when(repository.findVersionById(1L)).thenReturn(Optional.of(3L));
+        when(repository.findVersionById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(PreconditionFailedException.class, () -> service.patch(1L, patch("{\"valor\":1,\"version\":2}")));
+        assertThrows(ResourceNotFoundException.class, () -> service.patch(999L, patch("{\"valor\":1,\"version\":2}")));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testPatch_Validacao() {
+        assertThrows(BusinessException.class, () -> service.patch(1L, patch("{\"nome\":null,\"version\":0}")));
+        assertThrows(BusinessException.class, () -> service.patch(1L, patch("{\"valor\":-1,\"version\":0}")));
+        assertThrows(BusinessException.class, () -> service.patch(1L, patch("{\"valor\":1}")));
+        assertThrows(BusinessException.class, () -> patch("{\"id\":5,\"version\":0}"));
+        verify(repository, never()).atualizarSeVersao(any(), any(), any(), any());
     }
 
     @Test
     void testDelete() {
+        beneficio1.setVersion(3L);
         when(repository.findById(1L)).thenReturn(Optional.of(beneficio1));
-        when(repository.save(any(Beneficio.class))).thenReturn(beneficio1);
+        // Flush incrementa a versão; o evento deve sair com a versão gravada
+        when(repository.saveAndFlush(any(Beneficio.class))).thenAnswer(i -> {
+            Beneficio gravado = i.getArgument(0);
+            gravado.setVersion(gravado.getVersion() + 1);
+            return gravado;
+        });
 
         service.delete(1L);
 
         verify(repository, times(1)).findById(1L);
-        verify(repository, times(1)).save(any(Beneficio.class));
+        verify(repository, times(1)).saveAndFlush(any(Beneficio.class));
+        verify(repository, never()).save(any(Beneficio.class));
+        verify(eventPublisher).publishEvent(argThat((Object evento) -> evento instanceof BeneficioAlteradoEvent alterado
+                && alterado.getTipo() == BeneficioAlteradoEvent.Tipo.DESATIVADO
+                && alterado.getBeneficio().getVersion() == 4L));
     }
 
     @Test
@@ -135,6 +265,7 @@ class BeneficioServiceTest {
         verify(repository, times(1)).findById(1L);
         verify(repository, times(1)).findById(2L);
         verify(repository, times(2)).save(any(Beneficio.class));
+        verify(transferenciaRepository, times(1)).save(any(Transferencia.class));
     }
 
     @Test
@@ -164,4 +295,61 @@ class BeneficioServiceTest {
 
         assertThrows(BusinessException.class, () -> service.transferir(dto));
     }
+
+    @Test
+    void testTransferirLote_ResultadoPorItem() {
+        TransferenciaLoteRequestDTO lote = new TransferenciaLoteRequestDTO(Arrays.asList(
+                new TransferenciaRequestDTO(1L, 2L, new BigDecimal("300.00")),
+                new TransferenciaRequestDTO(2L, 1L, new BigDecimal("5000.00")),
+                new TransferenciaRequestDTO(1L, 3L, new BigDecimal("10.00"))
+        ), false);
+
+        when(repository.findAllByIdInOrderById(anyCollection())).thenReturn(Arrays.asList(beneficio1, beneficio2));
+
+        TransferenciaLoteResponseDTO result = service.transferirLote(lote);
+
+        assertEquals(1, result.getProcessadas());
+        assertEquals(2, result.getFalhas());
+        assertTrue(result.getResultados().get(0).isSucesso());
+        assertFalse(result.getResultados().get(1).isSucesso());
+        assertFalse(result.getResultados().get(2).isSucesso());
+        assertEquals(0, new BigDecimal("700.00").compareTo(beneficio1.getValor()));
+        assertEquals(0, new BigDecimal("800.00").compareTo(beneficio2.getValor()));
+        verify(repository, times(1)).findAllByIdInOrderById(anyCollection());
+        verify(repository, never()).findById(any());
+        verify(repository, times(1)).saveAllAndFlush(any());
+    }
+
+    @Test
+    void testTransferirLote_TudoOuNada() {
+        TransferenciaLoteRequestDTO lote = new TransferenciaLoteRequestDTO(Arrays.asList(
+                new TransferenciaRequestDTO(1L, 2L, new BigDecimal("300.00")),
+                new TransferenciaRequestDTO(2L, 1L, new BigDecimal("5000.00"))
+        ), true);
+
+        when(repository.findAllByIdInOrderById(anyCollection())).thenReturn(Arrays.asList(beneficio1, beneficio2));
+
+        assertThrows(BusinessException.class, () -> service.transferirLote(lote));
+        verify(repository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    void testTransferir_Condicional() {
+        transferenciaProperties.setEstrategia(EstrategiaTransferencia.CONDICIONAL);
+        TransferenciaRequestDTO dto = new TransferenciaRequestDTO(1L, 2L, new BigDecimal("100.00"));
+
+        service.transferir(dto);
+
+        verify(transferenciaCondicional, times(1)).executar(1L, 2L, new BigDecimal("100.00"));
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any(Beneficio.class));
+    }
+
+    private static BeneficioPatchDTO patch(String json) {
+        try {
+            return BeneficioPatchDTO.de(new ObjectMapper().readTree(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
 }
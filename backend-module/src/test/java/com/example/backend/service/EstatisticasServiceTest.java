@@ -0,0 +1,143 @@
+package com.example.backend.service;
+
+import com.example.backend.config.EstatisticasProperties;
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.EstatisticasResponseDTO;
+import com.example.backend.entity.Beneficio;
+import com.example.backend.event.BeneficioAlteradoEvent;
+import com.example.backend.event.TransferenciaRealizadaEvent;
+import com.example.backend.repository.BeneficioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para EstatisticasService
+ */
+@ExtendWith(MockitoExtension.class)
+class EstatisticasServiceTest {
+
+    @Mock
+    private BeneficioRepository repository;
+
+    private TransferenciaProperties transferenciaProperties;
+    private EstatisticasService service;
+
+    @BeforeEach
+    void setUp() {
+        EstatisticasProperties properties = new EstatisticasProperties();
+        properties.setFaixas(List.of(new BigDecimal("0"), new BigDecimal("100"), new BigDecimal("1000")));
+        transferenciaProperties = new TransferenciaProperties();
+        service = new EstatisticasService(repository, properties, transferenciaProperties);
+        when(repository.findAllResponse()).thenReturn(List.of(
+                dto(1L, "50.00", true), dto(2L, "500.00", true), dto(3L, "2000.00", false)));
+        service.recalcular();
+    }
+
+    @Test
+    void testRecalcular() {
+        EstatisticasResponseDTO estatisticas = service.obter();
+
+        assertEquals(3, estatisticas.getQuantidade());
+        assertEquals(2, estatisticas.getQuantidadeAtivos());
+        assertEquals(0, new BigDecimal("2550.00").compareTo(estatisticas.getValorTotal()));
+        assertEquals(0, new BigDecimal("50.00").compareTo(estatisticas.getValorMinimo()));
+        assertEquals(0, new BigDecimal("2000.00").compareTo(estatisticas.getValorMaximo()));
+        assertEquals(new BigDecimal("850.00"), estatisticas.getValorMedio());
+        assertEquals(List.of(1L, 1L, 1L), quantidadesPorFaixa(estatisticas));
+        assertNull(estatisticas.getFaixas().get(2).getAte());
+        assertNotNull(estatisticas.getRecalculadoEm());
+    }
+
+    @Test
+    void testDeltas_TransferenciaEAlteracoes() {
+        service.onTransferenciaRealizada(new TransferenciaRealizadaEvent(3L, 1L, new BigDecimal("1500.00"),
+                new BigDecimal("500.00"), 1L, new BigDecimal("1550.00"), 1L));
+        EstatisticasResponseDTO estatisticas = service.obter();
+        assertEquals(0, new BigDecimal("2550.00").compareTo(estatisticas.getValorTotal()));
+        assertEquals(0, new BigDecimal("500.00").compareTo(estatisticas.getValorMinimo()));
+        assertEquals(List.of(0L, 2L, 1L), quantidadesPorFaixa(estatisticas));
+
+        service.onBeneficioAlterado(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.CRIADO,
+                dto(4L, "10.00", true)));
+        service.onBeneficioAlterado(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.DESATIVADO,
+                dto(2L, "500.00", false)));
+        estatisticas = service.obter();
+        assertEquals(4, estatisticas.getQuantidade());
+        assertEquals(2, estatisticas.getQuantidadeAtivos());
+        assertEquals(0, new BigDecimal("10.00").compareTo(estatisticas.getValorMinimo()));
+        assertEquals(0, new BigDecimal("1550.00").compareTo(estatisticas.getValorMaximo()));
+        verify(repository, times(1)).findAllResponse();
+    }
+
+    @Test
+    void testEventosForaDeOrdemSaoIgnoradosPelaVersao() {
+        service.onTransferenciaRealizada(new TransferenciaRealizadaEvent(2L, 1L, new BigDecimal("100.00"),
+                new BigDecimal("300.00"), 2L, new BigDecimal("250.00"), 2L));
+        // Evento da transferência anterior (v1) entregue depois da seguinte
+        service.onTransferenciaRealizada(new TransferenciaRealizadaEvent(2L, 1L, new BigDecimal("100.00"),
+                new BigDecimal("400.00"), 1L, new BigDecimal("150.00"), 1L));
+        BeneficioResponseDTO antigo = dto(2L, "500.00", true);
+        antigo.setVersion(0L);
+        service.onBeneficioAlterado(new BeneficioAlteradoEvent(BeneficioAlteradoEvent.Tipo.ATUALIZADO, antigo));
+
+        assertEquals(0, new BigDecimal("2550.00").compareTo(service.obter().getValorTotal()));
+        assertEquals(0, new BigDecimal("250.00").compareTo(service.obter().getValorMinimo()));
+    }
+
+    @Test
+    void testTransferenciaSemSaldosReleLinhas() {
+        BeneficioResponseDTO origem = dto(2L, "400.00", true);
+        origem.setVersion(1L);
+        BeneficioResponseDTO destino = dto(1L, "150.00", true);
+        destino.setVersion(1L);
+        when(repository.findAllResponseByIdIn(anyCollection())).thenReturn(List.of(origem, destino));
+
+        service.onTransferenciaRealizada(new TransferenciaRealizadaEvent(2L, 1L, new BigDecimal("100.00")));
+
+        assertEquals(0, new BigDecimal("150.00").compareTo(service.obter().getValorMinimo()));
+        assertEquals(0, new BigDecimal("2550.00").compareTo(service.obter().getValorTotal()));
+    }
+
+    @Test
+    void testParticionada_AguardaGravacaoDosSaldos() {
+        transferenciaProperties.setEstrategia(EstrategiaTransferencia.PARTICIONADA);
+
+        service.onTransferenciaRealizada(new TransferenciaRealizadaEvent(2L, 1L, new BigDecimal("100.00")));
+
+        assertEquals(0, new BigDecimal("50.00").compareTo(service.obter().getValorMinimo()));
+        verify(repository, never()).findAllResponseByIdIn(anyCollection());
+    }
+
+    @Test
+    void testRecalcular_CorrigeDesvio() {
+        // Escrita fora da aplicação: nenhum evento, só o recálculo a enxerga
+        when(repository.findAllResponse()).thenReturn(List.of(dto(1L, "50.00", true)));
+
+        service.recalcular();
+
+        assertEquals(1, service.obter().getQuantidade());
+        assertEquals(0, new BigDecimal("50.00").compareTo(service.obter().getValorMaximo()));
+    }
+
+    private static List<Long> quantidadesPorFaixa(EstatisticasResponseDTO estatisticas) {
+        return estatisticas.getFaixas().stream().map(EstatisticasResponseDTO.Faixa::getQuantidade).toList();
+    }
+
+    private static BeneficioResponseDTO dto(long id, String valor, boolean ativo) {
+        Beneficio beneficio = new Beneficio("Beneficio " + id, null, new BigDecimal(valor));
+        beneficio.setId(id);
+        beneficio.setAtivo(ativo);
+        return new BeneficioResponseDTO(beneficio);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeitorImportacaoTest {
+
+    @Test
+    void testCsv_AspasVirgulasEQuebrasDeLinha() throws Exception {
+        LeitorImportacao leitor = new LeitorImportacao(
+                new StringReader("a,\"b,1\",\"c \"\"x\"\"\"\r\n\"multi\nlinha\",,fim\nultimo"), 100);
+
+        assertEquals(List.of("a", "b,1", "c \"x\""), leitor.proximoRegistroCsv());
+        assertEquals(1, leitor.getLinhaInicial());
+        assertEquals(List.of("multi\nlinha", "", "fim"), leitor.proximoRegistroCsv());
+        assertEquals(2, leitor.getLinhaInicial());
+        assertEquals(List.of("ultimo"), leitor.proximoRegistroCsv());
+        assertEquals(4, leitor.getLinhaInicial());
+        assertNull(leitor.proximoRegistroCsv());
+    }
+
+    @Test
+    void testLinhas_NumeracaoComLinhasVazias() throws Exception {
+        LeitorImportacao leitor = new LeitorImportacao(new StringReader("{}\r\n\n{\"a\":1}\n"), 100);
+
+        assertEquals("{}", leitor.proximaLinha());
+        assertEquals("", leitor.proximaLinha());
+        assertEquals("{\"a\":1}", leitor.proximaLinha());
+        assertEquals(3, leitor.getLinhaInicial());
+        assertNull(leitor.proximaLinha());
+    }
+
+    @Test
+    void testRegistroMaiorQueLimite() {
+        LeitorImportacao leitor = new LeitorImportacao(new StringReader("\"aspas sem fim,1,2,3"), 5);
+
+        assertThrows(LeitorImportacao.RegistroInvalidoException.class, leitor::proximoRegistroCsv);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.backend.service;
+
+import com.example.backend.config.SincronizacaoProperties;
+import com.example.backend.dto.BeneficioResponseDTO;
+import com.example.backend.dto.MudancasResponseDTO;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.repository.BeneficioRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários do cursor de SincronizacaoService
+ */
+@ExtendWith(MockitoExtension.class)
+class SincronizacaoServiceTest {
+
+    @Mock
+    private BeneficioRepository repository;
+
+    @Spy
+    private SincronizacaoProperties properties = new SincronizacaoProperties();
+
+    @InjectMocks
+    private SincronizacaoService service;
+
+    @Test
+    void testMudancas_CursorNaoPassaDaMargemDeCommit() {
+        properties.setMargemCommit(Duration.ofMinutes(1));
+        LocalDateTime antigo = LocalDateTime.now().minusHours(1);
+        LocalDateTime recente = LocalDateTime.now();
+        when(repository.findAlteradosApos(any(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(beneficio(1L, antigo), beneficio(2L, recente)));
+
+        MudancasResponseDTO resposta = service.mudancas(null, 10);
+
+        assertEquals(2, resposta.getBeneficios().size());
+        assertFalse(resposta.isTemMais());
+        SincronizacaoService.CursorMudancas cursor =
+                SincronizacaoService.CursorMudancas.decodificar(resposta.getCursor());
+        assertTrue(cursor.updatedAt().isAfter(antigo));
+        assertTrue(cursor.updatedAt().isBefore(recente));
+    }
+
+    @Test
+    void testMudancas_PaginaCheiaAvancaAteOUltimoEntregue() {
+        properties.setMargemCommit(Duration.ofMinutes(1));
+        LocalDateTime antigo = LocalDateTime.now().minusHours(1);
+        when(repository.findAlteradosApos(any(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(beneficio(1L, antigo), beneficio(2L, antigo), beneficio(3L, antigo)));
+
+        MudancasResponseDTO resposta = service.mudancas(null, 2);
+
+        assertEquals(2, resposta.getBeneficios().size());
+        assertTrue(resposta.isTemMais());
+        assertEquals(new SincronizacaoService.CursorMudancas(antigo, 2L),
+                SincronizacaoService.CursorMudancas.decodificar(resposta.getCursor()));
+    }
+
+    @Test
+    void testMudancas_PaginaCheiaNaoPassaDaMargemDeCommit() {
+        properties.setMargemCommit(Duration.ofMinutes(1));
+        LocalDateTime antigo = LocalDateTime.now().minusHours(1);
+        LocalDateTime agora = LocalDateTime.now();
+        when(repository.findAlteradosApos(any(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(beneficio(1L, antigo), beneficio(2L, agora), beneficio(3L, agora)));
+
+        MudancasResponseDTO resposta = service.mudancas(null, 2);
+
+        // Um commit lento carimbado antes de "agora" ainda pode aparecer: o cursor para no corte
+        assertEquals(2, resposta.getBeneficios().size());
+        assertFalse(resposta.isTemMais());
+        SincronizacaoService.CursorMudancas cursor =
+                SincronizacaoService.CursorMudancas.decodificar(resposta.getCursor());
+        assertTrue(cursor.updatedAt().isAfter(antigo));
+        assertTrue(cursor.updatedAt().isBefore(agora));
+    }
+
+    @Test
+    void testMudancas_SemAlteracoesMantemCursor() {
+        LocalDateTime desde = LocalDateTime.now().minusHours(1);
+        String cursor = new SincronizacaoService.CursorMudancas(desde, 7L).codificar();
+        when(repository.findAlteradosApos(eq(desde), eq(7L), any(Pageable.class))).thenReturn(List.of());
+
+        MudancasResponseDTO resposta = service.mudancas(cursor, 10);
+
+        assertTrue(resposta.getBeneficios().isEmpty());
+        assertEquals(cursor, resposta.getCursor());
+        assertThrows(BusinessException.class, () -> service.mudancas(cursor, 0));
+    }
+
+    private static BeneficioResponseDTO beneficio(Long id, LocalDateTime updatedAt) {
+        return new BeneficioResponseDTO(id, "Beneficio " + id, null, BigDecimal.TEN, true, 0L, updatedAt, updatedAt);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.backend.service;
+
+import com.example.backend.config.TransferenciaProperties;
+import com.example.backend.dto.TransferenciaRequestDTO;
+import com.example.backend.dto.TransferenciaStatusDTO;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para TransferenciaAssincronaService
+ */
+@ExtendWith(MockitoExtension.class)
+class TransferenciaAssincronaServiceTest {
+
+    @Mock
+    private TransferenciaService transferenciaService;
+
+    private TransferenciaAssincronaService service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.encerrar();
+    }
+
+    @Test
+    void testSubmeter_Concluida() throws InterruptedException {
+        service = criar(2, 10);
+        TransferenciaRequestDTO dto = new TransferenciaRequestDTO(1L, 2L, new BigDecimal("10.00"));
+
+        TransferenciaStatusDTO pendente = service.submeter(dto, null);
+
+        assertEquals(TransferenciaStatusDTO.Status.PENDENTE, pendente.getStatus());
+        assertEquals(TransferenciaStatusDTO.Status.CONCLUIDA, aguardarFim(pendente.getId()).getStatus());
+        verify(transferenciaService).transferir(dto);
+    }
+
+    @Test
+    void testSubmeter_Falhou() throws InterruptedException {
+        service = criar(1, 10);
+        doThrow(new BusinessException("Saldo insuficiente")).when(transferenciaService).transferir(any());
+
+        TransferenciaStatusDTO pendente = service.submeter(
+                new TransferenciaRequestDTO(1L, 2L, new BigDecimal("10.00")), null);
+
+        TransferenciaStatusDTO fim = aguardarFim(pendente.getId());
+        assertEquals(TransferenciaStatusDTO.Status.FALHOU, fim.getStatus());
+        assertEquals("Saldo insuficiente", fim.getMensagem());
+    }
+
+    @Test
+    void testSubmeter_FilaCheia() throws InterruptedException {
+        service = criar(1, 1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch iniciou = new CountDownLatch(1);
+        doAnswer(invocacao -> {
+            iniciou.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(transferenciaService).transferir(any());
+        TransferenciaRequestDTO dto = new TransferenciaRequestDTO(1L, 2L, new BigDecimal("10.00"));
+
+        service.submeter(dto, null);
+        assertTrue(iniciou.await(5, TimeUnit.SECONDS));
+        service.submeter(dto, null);
+
+        assertThrows(ServiceUnavailableException.class, () -> service.submeter(dto, null));
+        liberar.countDown();
+    }
+
+    @Test
+    void testSubmeter_RequisicaoInvalida() {
+        service = criar(1, 1);
+
+        assertThrows(BusinessException.class,
+                () -> service.submeter(new TransferenciaRequestDTO(1L, 1L, new BigDecimal("10.00")), null));
+        verifyNoInteractions(transferenciaService);
+    }
+
+    @Test
+    void testBuscar_NaoEncontrada() {
+        service = criar(1, 1);
+
+        assertThrows(ResourceNotFoundException.class, () -> service.buscar("inexistente"));
+    }
+
+    private TransferenciaAssincronaService criar(int threads, int capacidadeFila) {
+        TransferenciaProperties properties = new TransferenciaProperties();
+        properties.getAssincrona().setThreads(threads);
+        properties.getAssincrona().setCapacidadeFila(capacidadeFila);
+        return new TransferenciaAssincronaService(transferenciaService, properties, new SimpleMeterRegistry());
+    }
+
+    private TransferenciaStatusDTO aguardarFim(String id) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        TransferenciaStatusDTO atual = service.buscar(id);
+        while (atual.getConcluidaEm() == null && System.nanoTime() < limite) {
+            Thread.sleep(10);
+            atual = service.buscar(id);
+        }
+        return atual;
+    }
+}
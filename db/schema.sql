@@ -1,8 +1,63 @@
+-- IDs por sequence (alocação em blocos de 50) para INSERTs em lote na importação;
+-- o DEFAULT mantém INSERTs sem ID (seed, módulo EJB) funcionando
+CREATE SEQUENCE BENEFICIO_SEQ START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE BENEFICIO (
-  ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  ID BIGINT DEFAULT NEXT VALUE FOR BENEFICIO_SEQ PRIMARY KEY,
   NOME VARCHAR(100) NOT NULL,
   DESCRICAO VARCHAR(255),
   VALOR DECIMAL(15,2) NOT NULL,
   ATIVO BOOLEAN DEFAULT TRUE,
-  VERSION BIGINT DEFAULT 0
+  VERSION BIGINT DEFAULT 0,
+  CREATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- Listagem paginada por keyset: cada ordenação (campo, ID) e o filtro por status têm índice próprio
+CREATE INDEX IDX_BENEFICIO_ATIVO_ID ON BENEFICIO (ATIVO, ID);
+CREATE INDEX IDX_BENEFICIO_NOME_ID ON BENEFICIO (NOME, ID);
+CREATE INDEX IDX_BENEFICIO_VALOR_ID ON BENEFICIO (VALOR, ID);
+
+-- Sincronização incremental (/mudancas): alterações em ordem de (UPDATED_AT, ID), incluindo desativados
+CREATE INDEX IDX_BENEFICIO_UPDATED_AT_ID ON BENEFICIO (UPDATED_AT, ID);
+
+CREATE TABLE IDEMPOTENCIA_TRANSFERENCIA (
+  CHAVE VARCHAR(100) PRIMARY KEY,
+  DE_ID BIGINT NOT NULL,
+  PARA_ID BIGINT NOT NULL,
+  VALOR DECIMAL(15,2) NOT NULL,
+  CREATED_AT TIMESTAMP NOT NULL
+);
+
+-- Histórico de transferências: IDs por sequence (alocação em blocos de 50) para INSERTs em lote
+CREATE SEQUENCE TRANSFERENCIA_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE TRANSFERENCIA (
+  ID BIGINT PRIMARY KEY,
+  DE_ID BIGINT NOT NULL,
+  PARA_ID BIGINT NOT NULL,
+  VALOR DECIMAL(15,2) NOT NULL,
+  DATA_HORA TIMESTAMP NOT NULL
+);
+
+-- Extrato por keyset em (DATA_HORA, ID) para cada lado da transferência
+CREATE INDEX IDX_TRANSFERENCIA_DE_DATA ON TRANSFERENCIA (DE_ID, DATA_HORA, ID);
+CREATE INDEX IDX_TRANSFERENCIA_PARA_DATA ON TRANSFERENCIA (PARA_ID, DATA_HORA, ID);
+
+-- Ajustes em massa: ULTIMO_ID é o cursor confirmado junto com cada lote (retomada após queda)
+CREATE TABLE AJUSTE_MASSA (
+  ID BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  TIPO VARCHAR(30) NOT NULL,
+  STATUS VARCHAR(20) NOT NULL,
+  PERCENTUAL DECIMAL(7,4),
+  VALOR_MIN DECIMAL(15,2),
+  VALOR_MAX DECIMAL(15,2),
+  ULTIMO_ID BIGINT NOT NULL,
+  ID_FINAL BIGINT NOT NULL,
+  AFETADOS BIGINT NOT NULL,
+  LOTES INT NOT NULL,
+  MENSAGEM VARCHAR(500),
+  VERSION BIGINT DEFAULT 0,
+  CREATED_AT TIMESTAMP NOT NULL,
+  UPDATED_AT TIMESTAMP NOT NULL
 );
@@ -9,6 +9,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -92,6 +93,13 @@ public class BeneficioEjbService {
         em.merge(beneficio);
     }
 
+    /**
+     * Transfere valor entre benefícios usando a estratégia padrão (OTIMISTA)
+     */
+    public void transfer(@NotNull Long fromId, @NotNull Long toId, @NotNull BigDecimal amount) {
+        transfer(fromId, toId, amount, EstrategiaTransferencia.OTIMISTA);
+    }
+
     /**
      * Transfere valor entre benefícios - CORREÇÃO DO BUG PRINCIPAL
      *
@@ -100,10 +108,12 @@ public class BeneficioEjbService {
      * 2. Verificação de existência dos benefícios
      * 3. Verificação se benefícios estão ativos
      * 4. Validação de saldo suficiente
-     * 5. Optimistic locking via @Version para prevenir lost updates
+     * 5. Optimistic locking via @Version (OTIMISTA) ou UPDATE condicional (CONDICIONAL)
+     *    para prevenir lost updates
      * 6. Rollback automático em caso de erro via @ApplicationException
      */
-    public void transfer(@NotNull Long fromId, @NotNull Long toId, @NotNull BigDecimal amount) {
+    public void transfer(@NotNull Long fromId, @NotNull Long toId, @NotNull BigDecimal amount,
+                         @NotNull EstrategiaTransferencia estrategia) {
         // Validação 1: Parâmetros básicos
         if (fromId == null || toId == null || amount == null) {
             throw new TransferenciaInvalidaException("IDs e valor não podem ser nulos");
@@ -117,6 +127,14 @@ public class BeneficioEjbService {
             throw new TransferenciaInvalidaException("Valor da transferência deve ser positivo");
         }
 
+        if (estrategia == EstrategiaTransferencia.CONDICIONAL) {
+            transferCondicional(fromId, toId, amount);
+        } else {
+            transferOtimista(fromId, toId, amount);
+        }
+    }
+
+    private void transferOtimista(Long fromId, Long toId, BigDecimal amount) {
         // Busca os benefícios com lock otimista
         Beneficio from = findById(fromId);
         Beneficio to = findById(toId);
@@ -150,4 +168,54 @@ public class BeneficioEjbService {
                 "Por favor, tente novamente.", e);
         }
     }
+
+    /**
+     * Débito e crédito em UPDATEs condicionais, executados em ordem crescente de ID para evitar
+     * deadlock entre transferências cruzadas. As validações ficam no WHERE; a contagem de linhas
+     * afetadas indica recusa, e só então o benefício é lido para identificar o motivo. Como o
+     * UPDATE em massa ignora @PreUpdate, updatedAt é gravado no próprio SET.
+     */
+    private void transferCondicional(Long fromId, Long toId, BigDecimal amount) {
+        em.flush();
+        if (fromId < toId) {
+            debitar(fromId, amount);
+            creditar(toId, amount);
+        } else {
+            creditar(toId, amount);
+            debitar(fromId, amount);
+        }
+        // Entidades eventualmente carregadas antes dos UPDATEs estão desatualizadas
+        em.clear();
+    }
+
+    private void debitar(Long id, BigDecimal amount) {
+        int linhas = em.createQuery(
+                        "UPDATE Beneficio b SET b.valor = b.valor - :valor, b.version = b.version + 1, " +
+                        "b.updatedAt = :agora WHERE b.id = :id AND b.ativo = true AND b.valor >= :valor")
+                .setParameter("valor", amount)
+                .setParameter("agora", LocalDateTime.now())
+                .setParameter("id", id)
+                .executeUpdate();
+        if (linhas == 0) {
+            Beneficio from = findById(id);
+            if (!Boolean.TRUE.equals(from.getAtivo())) {
+                throw new BeneficioInativoException(id);
+            }
+            throw new SaldoInsuficienteException(id, from.getValor(), amount);
+        }
+    }
+
+    private void creditar(Long id, BigDecimal amount) {
+        int linhas = em.createQuery(
+                        "UPDATE Beneficio b SET b.valor = b.valor + :valor, b.version = b.version + 1, " +
+                        "b.updatedAt = :agora WHERE b.id = :id AND b.ativo = true")
+                .setParameter("valor", amount)
+                .setParameter("agora", LocalDateTime.now())
+                .setParameter("id", id)
+                .executeUpdate();
+        if (linhas == 0) {
+            findById(id);
+            throw new BeneficioInativoException(id);
+        }
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.ejb;
+
+/**
+ * Estratégias disponíveis para BeneficioEjbService.transfer
+ */
+public enum EstrategiaTransferencia {
+
+    /**
+     * Lê as duas entidades, valida em Java e grava com optimistic locking (@Version)
+     */
+    OTIMISTA,
+
+    /**
+     * Debita e credita com UPDATEs condicionais, sem SELECT prévio nem janela de conflito
+     */
+    CONDICIONAL
+}
@@ -21,7 +21,7 @@ describe('BeneficioListComponent', () => {
 
   beforeEach(async () => {
     const beneficioServiceSpy = jasmine.createSpyObj('BeneficioService', [
-      'findAll', 'create', 'update', 'delete', 'transferir'
+      'listar', 'create', 'update', 'delete', 'transferir'
     ]);
     const snackBarSpy = jasmine.createSpyObj('MatSnackBar', ['open']);
     const dialogSpy = jasmine.createSpyObj('MatDialog', ['open']);
@@ -39,7 +39,7 @@ describe('BeneficioListComponent', () => {
     snackBar = TestBed.inject(MatSnackBar) as jasmine.SpyObj<MatSnackBar>;
     dialog = TestBed.inject(MatDialog) as jasmine.SpyObj<MatDialog>;
 
-    beneficioService.findAll.and.returnValue(of([]));
+    beneficioService.listar.and.returnValue(of({ itens: [], proximoCursor: null }));
     fixture = TestBed.createComponent(BeneficioListComponent);
     component = fixture.componentInstance;
   });
@@ -50,22 +50,49 @@ describe('BeneficioListComponent', () => {
 
   describe('ngOnInit', () => {
     it('should load beneficios on init', () => {
-      beneficioService.findAll.and.returnValue(of(mockBeneficios));
+      beneficioService.listar.and.returnValue(of({ itens: mockBeneficios, proximoCursor: null }));
       fixture.detectChanges();
-      expect(beneficioService.findAll).toHaveBeenCalled();
+      expect(beneficioService.listar).toHaveBeenCalled();
       expect(component.beneficios).toEqual(mockBeneficios);
     });
   });
 
   describe('loadBeneficios', () => {
     it('should reload beneficios', () => {
-      beneficioService.findAll.and.returnValue(of(mockBeneficios));
+      beneficioService.listar.and.returnValue(of({ itens: mockBeneficios, proximoCursor: null }));
       component.loadBeneficios();
-      expect(beneficioService.findAll).toHaveBeenCalled();
+      expect(beneficioService.listar).toHaveBeenCalled();
       expect(component.beneficios).toEqual(mockBeneficios);
     });
   });
 
+  describe('paginação', () => {
+    it('should follow proximoCursor and go back', () => {
+      beneficioService.listar.and.returnValue(of({ itens: mockBeneficios, proximoCursor: 'c1' }));
+      component.loadBeneficios();
+
+      component.proximaPagina();
+      expect(beneficioService.listar).toHaveBeenCalledWith(jasmine.objectContaining({ after: 'c1' }));
+      expect(component.cursoresAnteriores).toEqual([undefined]);
+
+      component.paginaAnterior();
+      expect(beneficioService.listar).toHaveBeenCalledWith(jasmine.objectContaining({ after: undefined }));
+      expect(component.cursoresAnteriores).toEqual([]);
+    });
+
+    it('should toggle sort direction and restart from the first page', () => {
+      component.cursorAtual = 'c1';
+
+      component.ordenarPor('valor');
+      expect(component.sort).toBe('valor,asc');
+      expect(component.cursorAtual).toBeUndefined();
+
+      component.ordenarPor('valor');
+      expect(component.sort).toBe('valor,desc');
+      expect(beneficioService.listar).toHaveBeenCalledWith(jasmine.objectContaining({ sort: 'valor,desc' }));
+    });
+  });
+
   describe('onDelete', () => {
     it('should not delete if user cancels', () => {
       const beneficio = mockBeneficios[0];
@@ -80,7 +107,7 @@ describe('BeneficioListComponent', () => {
       const beneficio = mockBeneficios[0];
       spyOn(window, 'confirm').and.returnValue(true);
       beneficioService.delete.and.returnValue(of(undefined as any));
-      beneficioService.findAll.and.returnValue(of([mockBeneficios[1]]));
+      beneficioService.listar.and.returnValue(of({ itens: [mockBeneficios[1]], proximoCursor: null }));
 
       component.onDelete(beneficio);
       
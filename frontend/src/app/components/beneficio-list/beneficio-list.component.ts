@@ -42,13 +42,17 @@ import { TransferenciaDialogComponent } from '../transferencia-dialog/transferen
       <table mat-table [dataSource]="beneficios" class="mat-elevation-z8">
         <!-- ID Column -->
         <ng-container matColumnDef="id">
-          <th mat-header-cell *matHeaderCellDef>ID</th>
+          <th mat-header-cell *matHeaderCellDef class="ordenavel" (click)="ordenarPor('id')">
+            ID {{ indicadorOrdenacao('id') }}
+          </th>
           <td mat-cell *matCellDef="let beneficio">{{ beneficio.id }}</td>
         </ng-container>
 
         <!-- Nome Column -->
         <ng-container matColumnDef="nome">
-          <th mat-header-cell *matHeaderCellDef>Nome</th>
+          <th mat-header-cell *matHeaderCellDef class="ordenavel" (click)="ordenarPor('nome')">
+            Nome {{ indicadorOrdenacao('nome') }}
+          </th>
           <td mat-cell *matCellDef="let beneficio">{{ beneficio.nome }}</td>
         </ng-container>
 
@@ -60,7 +64,9 @@ import { TransferenciaDialogComponent } from '../transferencia-dialog/transferen
 
         <!-- Valor Column -->
         <ng-container matColumnDef="valor">
-          <th mat-header-cell *matHeaderCellDef>Valor</th>
+          <th mat-header-cell *matHeaderCellDef class="ordenavel" (click)="ordenarPor('valor')">
+            Valor {{ indicadorOrdenacao('valor') }}
+          </th>
           <td mat-cell *matCellDef="let beneficio">
             {{ beneficio.valor | currency: 'BRL' }}
           </td>
@@ -95,6 +101,17 @@ import { TransferenciaDialogComponent } from '../transferencia-dialog/transferen
         <tr mat-header-row *matHeaderRowDef="displayedColumns"></tr>
         <tr mat-row *matRowDef="let row; columns: displayedColumns;"></tr>
       </table>
+
+      <div class="paginacao">
+        <button mat-button (click)="paginaAnterior()" [disabled]="cursoresAnteriores.length === 0">
+          <mat-icon>chevron_left</mat-icon>
+          Anterior
+        </button>
+        <button mat-button (click)="proximaPagina()" [disabled]="!proximoCursor">
+          Próxima
+          <mat-icon>chevron_right</mat-icon>
+        </button>
+      </div>
     </div>
   `,
   styles: [`
@@ -113,6 +130,18 @@ import { TransferenciaDialogComponent } from '../transferencia-dialog/transferen
       margin-top: 20px;
     }
 
+    .ordenavel {
+      cursor: pointer;
+      user-select: none;
+    }
+
+    .paginacao {
+      display: flex;
+      justify-content: flex-end;
+      gap: 10px;
+      margin-top: 10px;
+    }
+
     .status-ativo {
       color: green;
       font-weight: bold;
@@ -128,6 +157,13 @@ export class BeneficioListComponent implements OnInit {
   beneficios: Beneficio[] = [];
   displayedColumns: string[] = ['id', 'nome', 'descricao', 'valor', 'ativo', 'actions'];
 
+  // Paginação por cursor: a pilha guarda o cursor de cada página já visitada
+  readonly tamanhoPagina = 20;
+  sort = 'id,asc';
+  cursorAtual?: string;
+  cursoresAnteriores: (string | undefined)[] = [];
+  proximoCursor?: string | null;
+
   constructor(
     private beneficioService: BeneficioService,
     private snackBar: MatSnackBar,
@@ -139,9 +175,14 @@ export class BeneficioListComponent implements OnInit {
   }
 
   loadBeneficios(): void {
-    this.beneficioService.findAll().subscribe({
-      next: (data) => {
-        this.beneficios = data;
+    this.beneficioService.listar({
+      limit: this.tamanhoPagina,
+      after: this.cursorAtual,
+      sort: this.sort
+    }).subscribe({
+      next: (pagina) => {
+        this.beneficios = pagina.itens;
+        this.proximoCursor = pagina.proximoCursor;
       },
       error: (error) => {
         this.showMessage('Erro ao carregar benefícios: ' + error.message);
@@ -149,6 +190,43 @@ export class BeneficioListComponent implements OnInit {
     });
   }
 
+  proximaPagina(): void {
+    if (!this.proximoCursor) {
+      return;
+    }
+    this.cursoresAnteriores.push(this.cursorAtual);
+    this.cursorAtual = this.proximoCursor;
+    this.loadBeneficios();
+  }
+
+  paginaAnterior(): void {
+    if (this.cursoresAnteriores.length === 0) {
+      return;
+    }
+    this.cursorAtual = this.cursoresAnteriores.pop();
+    this.loadBeneficios();
+  }
+
+  /**
+   * Ordena no servidor; clicar de novo no mesmo campo inverte a direção
+   */
+  ordenarPor(campo: string): void {
+    const [campoAtual, direcao] = this.sort.split(',');
+    const novaDirecao = campoAtual === campo && direcao === 'asc' ? 'desc' : 'asc';
+    this.sort = `${campo},${novaDirecao}`;
+    this.cursorAtual = undefined;
+    this.cursoresAnteriores = [];
+    this.loadBeneficios();
+  }
+
+  indicadorOrdenacao(campo: string): string {
+    const [campoAtual, direcao] = this.sort.split(',');
+    if (campoAtual !== campo) {
+      return '';
+    }
+    return direcao === 'asc' ? '▲' : '▼';
+  }
+
   onCreate(): void {
     const dialogRef = this.dialog.open(BeneficioDialogComponent, {
       width: '500px',
@@ -178,7 +256,7 @@ export class BeneficioListComponent implements OnInit {
 
     dialogRef.afterClosed().subscribe(result => {
       if (result) {
-        this.beneficioService.update(beneficio.id!, result).subscribe({
+        this.beneficioService.update(beneficio.id!, result, beneficio.version).subscribe({
           next: () => {
             this.showMessage('Benefício atualizado com sucesso');
             this.loadBeneficios();
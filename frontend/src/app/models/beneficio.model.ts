@@ -30,3 +30,33 @@ export interface TransferenciaRequest {
   paraId: number;
   valor: number;
 }
+
+/**
+ * Página de resultados paginados por cursor
+ */
+export interface Pagina<T> {
+  itens: T[];
+  proximoCursor?: string | null;
+}
+
+/**
+ * Alterações desde um cursor (sincronização incremental)
+ */
+export interface Mudancas {
+  beneficios: Beneficio[];
+  cursor: string;
+  temMais: boolean;
+}
+
+/**
+ * Parâmetros da listagem paginada de benefícios
+ */
+export interface BeneficioConsulta {
+  limit?: number;
+  after?: string;
+  sort?: string;
+  ativo?: boolean;
+  valorMin?: number;
+  valorMax?: number;
+  fields?: string;
+}
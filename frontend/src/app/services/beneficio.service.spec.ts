@@ -55,6 +55,53 @@ describe('BeneficioService', () => {
     });
   });
 
+  describe('listar', () => {
+    it('should request a page with cursor and sort', () => {
+      const pagina = {
+        itens: [{ id: 3, nome: 'Beneficio C', descricao: 'Desc C', valor: 300, ativo: true }],
+        proximoCursor: 'abc'
+      };
+
+      service.listar({ limit: 1, after: 'xyz', sort: 'valor,desc' }).subscribe(resultado => {
+        expect(resultado.itens.length).toBe(1);
+        expect(resultado.proximoCursor).toBe('abc');
+      });
+
+      const req = httpMock.expectOne(r => r.url === `${API_URL}/pagina`);
+      expect(req.request.method).toBe('GET');
+      expect(req.request.params.get('limit')).toBe('1');
+      expect(req.request.params.get('after')).toBe('xyz');
+      expect(req.request.params.get('sort')).toBe('valor,desc');
+      req.flush(pagina);
+    });
+
+    it('should omit empty parameters', () => {
+      service.listar({ after: undefined, sort: 'id,asc' }).subscribe();
+
+      const req = httpMock.expectOne(r => r.url === `${API_URL}/pagina`);
+      expect(req.request.params.has('after')).toBeFalse();
+      req.flush({ itens: [], proximoCursor: null });
+    });
+  });
+
+  describe('mudancas', () => {
+    it('should send the cursor and return the next one', () => {
+      service.mudancas('abc').subscribe(resultado => {
+        expect(resultado.beneficios.length).toBe(1);
+        expect(resultado.cursor).toBe('def');
+      });
+
+      const req = httpMock.expectOne(r => r.url === `${API_URL}/mudancas`);
+      expect(req.request.params.get('desde')).toBe('abc');
+      expect(req.request.params.has('limite')).toBeFalse();
+      req.flush({
+        beneficios: [{ id: 2, nome: 'Beneficio B', valor: 500, ativo: false, version: 3 }],
+        cursor: 'def',
+        temMais: false
+      });
+    });
+  });
+
   describe('findAllAtivos', () => {
     it('should return only active beneficios', () => {
       const mockBeneficios: Beneficio[] = [
@@ -146,8 +193,19 @@ describe('BeneficioService', () => {
       const req = httpMock.expectOne(`${API_URL}/1`);
       expect(req.request.method).toBe('PUT');
       expect(req.request.body).toEqual(updateData);
+      expect(req.request.headers.has('If-Match')).toBeFalse();
       req.flush(updatedBeneficio);
     });
+
+    it('should send If-Match with the loaded version', () => {
+      const updateData: BeneficioRequest = { nome: 'Updated Name', valor: 1500, ativo: true };
+
+      service.update(1, updateData, 3).subscribe();
+
+      const req = httpMock.expectOne(`${API_URL}/1`);
+      expect(req.request.headers.get('If-Match')).toBe('"3"');
+      req.flush({ id: 1, ...updateData, version: 4 });
+    });
   });
 
   describe('delete', () => {
@@ -1,8 +1,15 @@
 import { Injectable } from '@angular/core';
-import { HttpClient, HttpErrorResponse } from '@angular/common/http';
+import { HttpClient, HttpErrorResponse, HttpHeaders, HttpParams } from '@angular/common/http';
 import { Observable, throwError } from 'rxjs';
 import { catchError } from 'rxjs/operators';
-import { Beneficio, BeneficioRequest, TransferenciaRequest } from '../models/beneficio.model';
+import {
+  Beneficio,
+  BeneficioConsulta,
+  BeneficioRequest,
+  Mudancas,
+  Pagina,
+  TransferenciaRequest
+} from '../models/beneficio.model';
 
 /**
  * Serviço para comunicação com API de benefícios
@@ -23,6 +30,20 @@ export class BeneficioService {
       .pipe(catchError(this.handleError));
   }
 
+  /**
+   * Lista benefícios paginados por cursor (usar proximoCursor como after da próxima página)
+   */
+  listar(consulta: BeneficioConsulta = {}): Observable<Pagina<Beneficio>> {
+    let params = new HttpParams();
+    Object.entries(consulta).forEach(([chave, valor]) => {
+      if (valor !== undefined && valor !== null && valor !== '') {
+        params = params.set(chave, String(valor));
+      }
+    });
+    return this.http.get<Pagina<Beneficio>>(`${this.API_URL}/pagina`, { params })
+      .pipe(catchError(this.handleError));
+  }
+
   /**
    * Lista benefícios ativos
    */
@@ -31,6 +52,22 @@ export class BeneficioService {
       .pipe(catchError(this.handleError));
   }
 
+  /**
+   * Benefícios alterados (inclusive desativados) desde o cursor da consulta anterior
+   * Sem cursor, devolve todos: base para manter uma cópia local atualizada por polling
+   */
+  mudancas(desde?: string, limite?: number): Observable<Mudancas> {
+    let params = new HttpParams();
+    if (desde) {
+      params = params.set('desde', desde);
+    }
+    if (limite != null) {
+      params = params.set('limite', String(limite));
+    }
+    return this.http.get<Mudancas>(`${this.API_URL}/mudancas`, { params })
+      .pipe(catchError(this.handleError));
+  }
+
   /**
    * Busca benefício por ID
    */
@@ -49,9 +86,13 @@ export class BeneficioService {
 
   /**
    * Atualiza benefício
+   * Com a versão carregada, envia If-Match: o servidor recusa (412) se outro usuário alterou antes
    */
-  update(id: number, beneficio: BeneficioRequest): Observable<Beneficio> {
-    return this.http.put<Beneficio>(`${this.API_URL}/${id}`, beneficio)
+  update(id: number, beneficio: BeneficioRequest, version?: number): Observable<Beneficio> {
+    const headers = version != null
+      ? new HttpHeaders({ 'If-Match': `"${version}"` })
+      : undefined;
+    return this.http.put<Beneficio>(`${this.API_URL}/${id}`, beneficio, { headers })
       .pipe(catchError(this.handleError));
   }
 